@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_JOBROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LABEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCHEDULE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.util.BenchmarkDataUtil.getPerson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Measures tokenizing the arguments of the add commands for {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<String> arguments;
+
+    @Setup
+    public void setUp() {
+        arguments = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            arguments.add(getAddArguments(getPerson(id)));
+        }
+    }
+
+    @Benchmark
+    public int tokenize() {
+        int values = 0;
+        for (String argument : arguments) {
+            ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argument, PREFIX_NAME, PREFIX_PHONE,
+                    PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_JOBROLE, PREFIX_LABEL, PREFIX_SCHEDULE, PREFIX_REMARK,
+                    PREFIX_TAG);
+            values += argMultimap.getAllValues(PREFIX_TAG).size();
+        }
+        return values;
+    }
+
+    private static String getAddArguments(Person person) {
+        StringBuilder builder = new StringBuilder()
+                .append(" ").append(PREFIX_NAME).append(person.getName().fullName)
+                .append(" ").append(PREFIX_PHONE).append(person.getPhone().value)
+                .append(" ").append(PREFIX_EMAIL).append(person.getEmail().value)
+                .append(" ").append(PREFIX_ADDRESS).append(person.getAddress().value)
+                .append(" ").append(PREFIX_LABEL).append(person.getLabel().value)
+                .append(" ").append(PREFIX_REMARK).append(person.getRemark().value);
+        person.getJobRoles().forEach(jobRole -> builder.append(" ").append(PREFIX_JOBROLE).append(jobRole.value));
+        person.getTags().forEach(tag -> builder.append(" ").append(PREFIX_TAG).append(tag.tagName));
+        return builder.toString();
+    }
+}
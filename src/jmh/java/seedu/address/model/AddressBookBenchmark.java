@@ -0,0 +1,41 @@
+package seedu.address.model;
+
+import static seedu.address.model.util.BenchmarkDataUtil.getAddressBook;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.JobRole;
+
+/**
+ * Measures computing the job applicant statistics of an address book of {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = getAddressBook(size);
+    }
+
+    @Benchmark
+    public Map<JobRole, Long> getJobApplicantStatistics() {
+        return addressBook.getJobApplicantStatistics();
+    }
+}
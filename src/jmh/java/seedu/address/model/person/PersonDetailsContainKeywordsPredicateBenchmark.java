@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import static seedu.address.model.util.BenchmarkDataUtil.getAddressBook;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures filtering an address book of {@code size} persons with a {@code PersonDetailsContainKeywordsPredicate},
+ * both by testing the details of every person and through the word index of the address book.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonDetailsContainKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final PersonDetailsContainKeywordsPredicate predicate =
+            new PersonDetailsContainKeywordsPredicate(List.of("Tampines", "candidate42@example.com"));
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() {
+        addressBook = getAddressBook(size);
+    }
+
+    @Benchmark
+    public long scan() {
+        return addressBook.getPersonList().stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public long indexed() {
+        Predicate<Person> indexedPredicate = addressBook.getIndexedPredicate(predicate);
+        return addressBook.getPersonList().stream().filter(indexedPredicate).count();
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static seedu.address.model.util.BenchmarkDataUtil.getPerson;
+import static seedu.address.model.util.BenchmarkDataUtil.getPersons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures adding persons to, and looking persons up in, a {@code UniquePersonList} of {@code size} persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList uniquePersonList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        persons = getPersons(size);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+        presentPerson = getPerson(size / 2);
+        absentPerson = getPerson(size);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList addAll() {
+        UniquePersonList list = new UniquePersonList();
+        for (Person person : persons) {
+            list.add(person);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresentPerson() {
+        return uniquePersonList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsentPerson() {
+        return uniquePersonList.contains(absentPerson);
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the validation of the fields of a typical candidate, as done for every record loaded from storage.
+ * The {@code stringMatches} benchmark compiles the validation regexes on every call, as {@code String#matches} does,
+ * and serves as the baseline for the precompiled patterns used by the {@code isValid} methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidationBenchmark {
+
+    private final String name = "Charlotte Oliveiro";
+    private final String phone = "93210283";
+    private final String email = "charlotte.oliveiro@example.com";
+    private final String jobRole = "Front End Developer";
+    private final String label = "Shortlisted";
+
+    @Benchmark
+    public void isValid(Blackhole blackhole) {
+        blackhole.consume(Name.isValidName(name));
+        blackhole.consume(Phone.isValidPhone(phone));
+        blackhole.consume(Email.isValidEmail(email));
+        blackhole.consume(JobRole.isValidJobRole(jobRole));
+        blackhole.consume(Label.isValidLabel(label));
+    }
+
+    @Benchmark
+    public void stringMatches(Blackhole blackhole) {
+        blackhole.consume(name.matches(Name.VALIDATION_REGEX));
+        blackhole.consume(phone.matches(Phone.VALIDATION_REGEX));
+        blackhole.consume(email.matches(Email.VALIDATION_REGEX));
+        blackhole.consume(jobRole.matches(JobRole.VALIDATION_REGEX));
+        blackhole.consume(label.matches(Label.VALIDATION_REGEX));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model.schedule;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Mode;
+import seedu.address.model.person.Name;
+
+/**
+ * Measures the construction of a {@code Schedule}, as done for every schedule loaded from storage, and of a copy of
+ * it for an edited candidate.
+ * The bytes allocated per operation, as reported by the {@code gc} profiler, are the memory taken by one schedule,
+ * as its arguments are created once.
+ */
+@State(Scope.Benchmark)
+// the benchmark mode is named in full, as Mode is the interview mode here
+@BenchmarkMode(org.openjdk.jmh.annotations.Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ScheduleBenchmark {
+
+    private final LocalDate date = LocalDate.of(2025, 3, 27);
+    private final LocalTime startTime = LocalTime.of(10, 0);
+    private final LocalTime endTime = LocalTime.of(11, 0);
+    private final Name candidateName = new Name("Charlotte Oliveiro");
+    private final Email candidateEmail = new Email("charlotte.oliveiro@example.com");
+    private final Name editedCandidateName = new Name("Charlotte Oliveira");
+    private final Schedule schedule = new Schedule(date, startTime, endTime, Mode.ONLINE, candidateName,
+            candidateEmail);
+
+    @Benchmark
+    public Schedule construct() {
+        return new Schedule(date, startTime, endTime, Mode.ONLINE, candidateName, candidateEmail);
+    }
+
+    @Benchmark
+    public Schedule withCandidate() {
+        return schedule.withCandidate(editedCandidateName, candidateEmail);
+    }
+}
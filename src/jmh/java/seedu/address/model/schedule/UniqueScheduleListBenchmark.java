@@ -0,0 +1,54 @@
+package seedu.address.model.schedule;
+
+import static seedu.address.model.util.BenchmarkDataUtil.getSchedule;
+import static seedu.address.model.util.BenchmarkDataUtil.getSchedules;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures checking for clashes in a {@code UniqueScheduleList} of {@code size} schedules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniqueScheduleListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private UniqueScheduleList uniqueScheduleList;
+    private Schedule clashingSchedule;
+    private Schedule freeSchedule;
+
+    @Setup
+    public void setUp() {
+        uniqueScheduleList = new UniqueScheduleList();
+        uniqueScheduleList.setSchedules(getSchedules(size));
+
+        Schedule existingSchedule = getSchedule(size / 2);
+        clashingSchedule = new Schedule(existingSchedule.getDate(), existingSchedule.getStartTime().plusMinutes(30),
+                existingSchedule.getEndTime().plusMinutes(30), existingSchedule.getMode());
+        // the generated schedules end by 17:00
+        freeSchedule = new Schedule(existingSchedule.getDate(), existingSchedule.getStartTime().withHour(20),
+                existingSchedule.getStartTime().withHour(21), existingSchedule.getMode());
+    }
+
+    @Benchmark
+    public boolean hasSameTimeClashing() {
+        return uniqueScheduleList.hasSameTime(clashingSchedule);
+    }
+
+    @Benchmark
+    public boolean hasSameTimeFree() {
+        return uniqueScheduleList.hasSameTime(freeSchedule);
+    }
+}
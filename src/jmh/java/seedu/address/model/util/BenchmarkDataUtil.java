@@ -0,0 +1,88 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Label;
+import seedu.address.model.person.Mode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains utility methods for generating large, deterministic data sets for benchmarks.
+ */
+public class BenchmarkDataUtil {
+
+    private static final String[] JOB_ROLES = {"Software Engineer", "Data Scientist", "Front End Developer",
+        "Back End Developer", "IT Administrator", "UI Designer", "Product Manager", "DevOps Engineer", "QA Engineer"};
+    private static final String[] LABELS = {"Unreviewed", "Accepted", "Rejected", "Shortlisted"};
+    private static final String[] TAGS = {"Java", "Python", "Rust", "React", "Go", "CUDA", "MongoDB"};
+    private static final String[] STREETS = {"Geylang", "Serangoon", "Ang Mo Kio", "Tampines", "Aljunied", "Jurong"};
+    private static final LocalDate FIRST_INTERVIEW_DATE = LocalDate.of(2025, 1, 1);
+    private static final int INTERVIEWS_PER_DAY = 8;
+
+    /**
+     * Returns the person with the given {@code id}. Persons with different ids have different names.
+     */
+    public static Person getPerson(int id) {
+        return new Person(new Name("Candidate " + id), new Phone(String.valueOf(80000000 + id)),
+                new Email("candidate" + id + "@example.com"),
+                new Address("Blk " + (id % 500) + " " + STREETS[id % STREETS.length] + " Street " + (id % 97)),
+                new Label(LABELS[id % LABELS.length]), new Remark(id % 3 == 0 ? "Strong in algorithms" : ""),
+                Set.of(new JobRole(JOB_ROLES[id % JOB_ROLES.length])),
+                Set.of(new Tag(TAGS[id % TAGS.length]), new Tag(TAGS[(id / TAGS.length) % TAGS.length])));
+    }
+
+    /**
+     * Returns {@code size} persons with distinct names.
+     */
+    public static List<Person> getPersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            persons.add(getPerson(id));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code size} persons.
+     */
+    public static AddressBook getAddressBook(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(getPersons(size));
+        return addressBook;
+    }
+
+    /**
+     * Returns the one-hour interview schedule of the person with the given {@code id}.
+     * Schedules of different ids do not clash.
+     */
+    public static Schedule getSchedule(int id) {
+        LocalTime startTime = LocalTime.of(9 + id % INTERVIEWS_PER_DAY, 0);
+        Person candidate = getPerson(id);
+        return new Schedule(FIRST_INTERVIEW_DATE.plusDays(id / INTERVIEWS_PER_DAY), startTime, startTime.plusHours(1),
+                id % 2 == 0 ? Mode.ONLINE : Mode.OFFLINE, candidate.getName(), candidate.getEmail());
+    }
+
+    /**
+     * Returns {@code size} schedules that do not clash.
+     */
+    public static List<Schedule> getSchedules(int size) {
+        List<Schedule> schedules = new ArrayList<>(size);
+        for (int id = 0; id < size; id++) {
+            schedules.add(getSchedule(id));
+        }
+        return schedules;
+    }
+}
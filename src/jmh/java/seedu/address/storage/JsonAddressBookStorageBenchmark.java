@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static seedu.address.model.util.BenchmarkDataUtil.getAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures reading and saving an address book of {@code size} persons as a JSON file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("quickhire-benchmark");
+        addressBook = getAddressBook(size);
+        readStorage = new JsonAddressBookStorage(directory.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+        saveStorage = new JsonAddressBookStorage(directory.resolve("save.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readStorage.readAddressBook();
+    }
+
+    @Benchmark
+    public Path saveAddressBook() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+        return saveStorage.getAddressBookFilePath();
+    }
+}
@@ -1,8 +1,12 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -12,11 +16,13 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -25,13 +31,20 @@ import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.ScheduleBoard;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournalStorage;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonScheduleBoardStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.NdjsonAddressBookStorage;
+import seedu.address.storage.NdjsonScheduleBoardStorage;
+import seedu.address.storage.PagedAddressBookStorage;
 import seedu.address.storage.ScheduleBoardStorage;
+import seedu.address.storage.ShardedJsonAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -62,9 +75,12 @@ public class MainApp extends Application {
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         userPrefsStorage.saveUserPrefs(userPrefs);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleBoardStorage scheduleBoardStorage = new JsonScheduleBoardStorage(userPrefs.getScheduleBoardFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
+        AddressBookStorage addressBookStorage = createAddressBookStorage(userPrefs);
+        ScheduleBoardStorage scheduleBoardStorage = createScheduleBoardStorage(userPrefs);
+        JournalStorage journalStorage = new JsonJournalStorage(
+                userPrefs.getAddressBookFilePath().resolveSibling(StorageManager.DEFAULT_JOURNAL_FILE_NAME));
+        storage = new WriteBehindStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage, journalStorage));
 
         model = initModelManager(storage, userPrefs);
 
@@ -74,48 +90,168 @@ public class MainApp extends Application {
 
     }
 
+    /**
+     * Returns the storage for the address book file in {@code userPrefs}, which is an NDJSON file if the file has the
+     * {@code .ndjson} extension, a page file if the file has the {@code .db} extension, or is stored in shards if
+     * sharded candidate files are turned on.
+     */
+    private AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (FileUtil.isNdjsonFile(filePath)) {
+            return new NdjsonAddressBookStorage(filePath);
+        }
+        if (FileUtil.isPageFile(filePath)) {
+            return new PagedAddressBookStorage(filePath);
+        }
+        return userPrefs.isShardedCandidateFiles()
+                ? new ShardedJsonAddressBookStorage(filePath, userPrefs.isCompactDataFiles())
+                : new JsonAddressBookStorage(filePath, userPrefs.isCompactDataFiles());
+    }
+
+    /**
+     * Returns the storage for the schedule board file in {@code userPrefs}, which is an NDJSON file if the file has
+     * the {@code .ndjson} extension.
+     */
+    private ScheduleBoardStorage createScheduleBoardStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getScheduleBoardFilePath();
+        return FileUtil.isNdjsonFile(filePath)
+                ? new NdjsonScheduleBoardStorage(filePath)
+                : new JsonScheduleBoardStorage(filePath, userPrefs.isCompactDataFiles());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * The data is loaded from the binary snapshots of the data files when they are up to date.
+     * The address book and schedule board are loaded concurrently, and the model takes ownership of the loaded data.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
+        long startTime = System.nanoTime();
+
+        CompletableFuture<Long> scheduleBoardLoadTime = new CompletableFuture<>();
+        CompletableFuture<ScheduleBoard> scheduleBoardFuture = CompletableFuture.supplyAsync(() -> {
+            long scheduleBoardStartTime = System.nanoTime();
+            ScheduleBoard scheduleBoard = initScheduleBoard(storage);
+            scheduleBoardLoadTime.complete(System.nanoTime() - scheduleBoardStartTime);
+            return scheduleBoard;
+        });
+
+        AddressBook initialData = initAddressBook(storage);
+        long addressBookLoadTime = System.nanoTime() - startTime;
+        ScheduleBoard initialScheduleBoard = scheduleBoardFuture.join();
+        long loadTime = System.nanoTime() - startTime;
+
+        long replayStartTime = System.nanoTime();
+        replayJournal(storage, initialData, initialScheduleBoard);
+        long replayTime = System.nanoTime() - replayStartTime;
+
+        long modelStartTime = System.nanoTime();
+        Model model = ModelManager.adopt(initialData, userPrefs, initialScheduleBoard);
+        long modelTime = System.nanoTime() - modelStartTime;
+
+        logger.info(String.format("Initialized model in %d ms: loaded data files in %d ms (address book: %d ms,"
+                + " schedule board: %d ms, concurrently), replayed journal in %d ms, created model in %d ms",
+                toMillis(System.nanoTime() - startTime), toMillis(loadTime), toMillis(addressBookLoadTime),
+                toMillis(scheduleBoardLoadTime.join()), toMillis(replayTime), toMillis(modelTime)));
+        return model;
+    }
 
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-
-        Optional<ReadOnlyScheduleBoard> scheduleBoardOptional;
-        ReadOnlyScheduleBoard initialScheduleBoard;
-
+    /**
+     * Returns the address book read from {@code storage}, the sample address book if there is no address book file,
+     * or an empty address book if the file cannot be loaded.
+     * The returned address book is owned by the caller.
+     */
+    private AddressBook initAddressBook(Storage storage) {
         try {
-            addressBookOptional = storage.readAddressBook();
-
+            Optional<ReadOnlyAddressBook> addressBookOptional = storage.readAddressBook();
             if (!addressBookOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
 
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            return toAddressBook(addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook));
         } catch (DataLoadingException e) {
             logger.warning("Data files could not be loaded."
                     + " Will be starting with an empty data.");
-            initialData = new AddressBook();
+            return new AddressBook();
         }
+    }
 
+    /**
+     * Returns the schedule board read from {@code storage}, the sample schedule board if there is no schedule board
+     * file, or an empty schedule board if the file cannot be loaded.
+     * The returned schedule board is owned by the caller.
+     */
+    private ScheduleBoard initScheduleBoard(Storage storage) {
         try {
-            scheduleBoardOptional = storage.readScheduleBoard();
+            Optional<ReadOnlyScheduleBoard> scheduleBoardOptional = storage.readScheduleBoard();
             if (!scheduleBoardOptional.isPresent()) {
                 logger.info("Creating a new data file " + storage.getScheduleBoardFilePath()
                         + " populated with a sample ScheduleBoard.");
             }
 
-            initialScheduleBoard = scheduleBoardOptional.orElseGet(SampleDataUtil::getSampleScheduleBoard);
+            return toScheduleBoard(scheduleBoardOptional.orElseGet(SampleDataUtil::getSampleScheduleBoard));
         } catch (DataLoadingException | IOException e) {
             logger.warning("Schedule board file is corrupted. Using an empty schedule board.");
-            initialScheduleBoard = new ScheduleBoard();
+            return new ScheduleBoard();
+        }
+    }
+
+    /**
+     * Returns {@code addressBook} itself if it is a new {@code AddressBook} that can be owned, as returned by storage,
+     * or a copy of it otherwise.
+     */
+    private static AddressBook toAddressBook(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBook ? (AddressBook) addressBook : new AddressBook(addressBook);
+    }
+
+    /**
+     * Returns {@code scheduleBoard} itself if it is a new {@code ScheduleBoard} that can be owned, as returned by
+     * storage, or a copy of it otherwise.
+     */
+    private static ScheduleBoard toScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) {
+        return scheduleBoard instanceof ScheduleBoard ? (ScheduleBoard) scheduleBoard
+                : new ScheduleBoard(scheduleBoard);
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Applies the changes in {@code storage}'s journal to {@code addressBook} and {@code scheduleBoard}.
+     * The journal is only compacted into the data files if it is due for compaction, a data file is missing, or the
+     * journal cannot be read, in which case it is ignored. Otherwise it is kept, and later changes are appended to it.
+     */
+    private void replayJournal(Storage storage, AddressBook addressBook, ScheduleBoard scheduleBoard) {
+        List<ModelChange> changes;
+        boolean isJournalUnreadable = false;
+        try {
+            changes = storage.readJournal();
+        } catch (DataLoadingException e) {
+            logger.warning("Journal file " + storage.getJournalFilePath() + " could not be loaded."
+                    + " Changes since the data files were last saved will be discarded.");
+            changes = List.of();
+            isJournalUnreadable = true;
+        }
+
+        if (!changes.isEmpty()) {
+            logger.info("Replaying " + changes.size() + " change(s) from journal " + storage.getJournalFilePath());
+            changes.forEach(change -> change.applyTo(addressBook, scheduleBoard));
+        }
+
+        boolean isDataFilesMissing = !Files.exists(storage.getAddressBookFilePath())
+                || !Files.exists(storage.getScheduleBoardFilePath());
+        if (!isDataFilesMissing && !isJournalUnreadable && !storage.isCompactionDue(List.of())) {
+            return;
+        }
+        try {
+            storage.compact(addressBook, scheduleBoard);
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal : " + StringUtil.getDetails(e));
         }
-        return new ModelManager(initialData, userPrefs, initialScheduleBoard);
     }
 
     private void initLogging(Config config) {
@@ -208,5 +344,17 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.saveChanges(model.takeChanges(), model.getAddressBook(), model.getScheduleBoard());
+            storage.flush();
+            // the journal is otherwise left to be replayed at the next start
+            if (storage.isCompactionDue(List.of())) {
+                storage.compact(model.getAddressBook(), model.getScheduleBoard());
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to compact journal " + StringUtil.getDetails(e));
+        }
+        storage.flush();
+        storage.saveSnapshots(model.getAddressBook(), model.getScheduleBoard());
     }
 }
@@ -19,7 +19,7 @@ public class GuiSettings implements Serializable {
     private final double windowHeight;
     private final Point windowCoordinates;
 
-    private Theme theme;
+    private final Theme theme;
 
     /**
      * Constructs a {@code GuiSettings} with the default height, width and position.
@@ -41,6 +41,13 @@ public class GuiSettings implements Serializable {
         this.theme = theme;
     }
 
+    private GuiSettings(double windowWidth, double windowHeight, Point windowCoordinates, Theme theme) {
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        this.windowCoordinates = windowCoordinates;
+        this.theme = theme;
+    }
+
     public double getWindowWidth() {
         return windowWidth;
     }
@@ -53,8 +60,11 @@ public class GuiSettings implements Serializable {
         return windowCoordinates != null ? new Point(windowCoordinates) : null;
     }
 
-    public void setTheme(Theme theme) {
-        this.theme = theme;
+    /**
+     * Returns a copy of these settings with the given {@code theme}.
+     */
+    public GuiSettings withTheme(Theme theme) {
+        return new GuiSettings(windowWidth, windowHeight, windowCoordinates, theme);
     }
 
     public Theme getTheme() {
@@ -14,6 +14,10 @@ import java.nio.file.Paths;
 public class FileUtil {
 
     public static final String FILE_EXTENSION_JSON = ".json";
+    public static final String FILE_EXTENSION_GZIP = ".gz";
+    public static final String FILE_EXTENSION_JSON_GZIP = FILE_EXTENSION_JSON + FILE_EXTENSION_GZIP;
+    public static final String FILE_EXTENSION_NDJSON = ".ndjson";
+    public static final String FILE_EXTENSION_PAGE_FILE = ".db";
 
     private static final String CHARSET = "UTF-8";
 
@@ -21,6 +25,31 @@ public class FileUtil {
         return Files.exists(file) && Files.isRegularFile(file);
     }
 
+    /**
+     * Returns true if {@code file} is named as a GZIP compressed file, whose content is read and written through
+     * GZIP streams.
+     */
+    public static boolean isGzipFile(Path file) {
+        requireNonNull(file);
+        return file.getFileName() != null && file.getFileName().toString().endsWith(FILE_EXTENSION_GZIP);
+    }
+
+    /**
+     * Returns true if {@code file} is named as an NDJSON file, which holds one JSON record per line.
+     */
+    public static boolean isNdjsonFile(Path file) {
+        requireNonNull(file);
+        return file.getFileName() != null && file.getFileName().toString().endsWith(FILE_EXTENSION_NDJSON);
+    }
+
+    /**
+     * Returns true if {@code file} is named as a page file, which holds data in fixed-size pages.
+     */
+    public static boolean isPageFile(Path file) {
+        requireNonNull(file);
+        return file.getFileName() != null && file.getFileName().toString().endsWith(FILE_EXTENSION_PAGE_FILE);
+    }
+
     /**
      * Returns true if {@code path} can be converted into a {@code Path} via {@link Paths#get(String)},
      * otherwise returns false.
@@ -2,16 +2,29 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,6 +35,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -30,6 +44,11 @@ public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
+    /** Size of the buffer through which JSON is streamed to a file. */
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+    /** Size of the buffers through which compressed JSON is streamed from and to a file. */
+    private static final int GZIP_BUFFER_SIZE = 1 << 16;
+
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
             .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
@@ -77,9 +96,66 @@ public class JsonUtil {
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Returns the value that {@code reader} reads from the given file, or {@code Optional.empty()} if the file is not
+     * found. The file is streamed to {@code reader} as it is parsed, so it is never held in memory in full.
+     * A file named as a GZIP file is decompressed as it is streamed.
+     *
+     * @param filePath cannot be null.
+     * @param reader reads the value from a parser positioned at the first token of the file.
+     * @throws DataLoadingException if the file could not be read, or is not valid JSON.
+     * @throws IllegalValueException if {@code reader} found that the data violates any constraints.
+     */
+    public static <T> Optional<T> readJsonFile(Path filePath, JsonStreamReader<T> reader)
+            throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(reader);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = createParser(openInputStream(filePath))) {
+            parser.nextToken();
+            return Optional.of(reader.read(parser));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns a parser of the JSON in {@code inputStream} that can read values of the classes that this class can
+     * deserialize. Closing the parser closes {@code inputStream}.
+     */
+    public static JsonParser createParser(InputStream inputStream) throws IOException {
+        requireNonNull(inputStream);
+        return objectMapper.getFactory().createParser(inputStream);
+    }
+
+    /**
+     * Reads the array at the current token of {@code parser} as values of {@code elementClass}, giving each value to
+     * {@code elementReader} as soon as it is read. A null is read as an empty array.
+     * The parser is left at the end of the array.
+     */
+    public static <T> void readArray(JsonParser parser, Class<T> elementClass, JsonElementReader<T> elementReader)
+            throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of " + elementClass.getSimpleName());
+        }
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elementReader.read(parser.readValueAs(elementClass));
+        }
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * A file named as a GZIP file is compressed as it is streamed.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +168,57 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Writes JSON to the specified file with {@code writer}, streaming it to the file as it is generated.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * A file named as a GZIP file is compressed as it is streamed.
+     *
+     * @param filePath cannot be null
+     * @param writer writes a single JSON value to the generator it is given
+     * @param isCompact whether the JSON is written without indentation
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static void writeJsonFile(Path filePath, JsonStreamWriter writer, boolean isCompact) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(writer);
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+                JsonGenerator generator = objectMapper.getFactory().createGenerator(
+                        new BufferedOutputStream(wrapOutputStream(filePath, Channels.newOutputStream(channel)),
+                                WRITE_BUFFER_SIZE),
+                        JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            writer.write(generator);
+        }
+    }
+
+    /**
+     * Opens the file at {@code filePath} for reading, decompressing it if it is named as a GZIP file.
+     */
+    private static InputStream openInputStream(Path filePath) throws IOException {
+        InputStream inputStream = Files.newInputStream(filePath);
+        if (!FileUtil.isGzipFile(filePath)) {
+            return inputStream;
+        }
+        try {
+            return new GZIPInputStream(inputStream, GZIP_BUFFER_SIZE);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns {@code outputStream} of the file at {@code filePath}, wrapped to compress what is written to it if the
+     * file is named as a GZIP file.
+     */
+    private static OutputStream wrapOutputStream(Path filePath, OutputStream outputStream) throws IOException {
+        return FileUtil.isGzipFile(filePath) ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream;
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +238,51 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line, without
+     * indentation.
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
+    /**
+     * Reads a value from a stream of JSON tokens.
+     *
+     * @param <T> The type of value read
+     */
+    @FunctionalInterface
+    public interface JsonStreamReader<T> {
+        /**
+         * Reads a value from {@code parser}, which is positioned at the first token of the value.
+         */
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a value as a stream of JSON tokens.
+     */
+    @FunctionalInterface
+    public interface JsonStreamWriter {
+        /**
+         * Writes a single JSON value to {@code generator}.
+         */
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    /**
+     * Reads each element of a JSON array as it is parsed.
+     *
+     * @param <T> The type of the elements
+     */
+    @FunctionalInterface
+    public interface JsonElementReader<T> {
+        void read(T element) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
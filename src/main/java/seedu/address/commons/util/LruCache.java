@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A cache of a bounded number of values, which evicts the least recently used value when it is full.
+ * The cache may be used from several threads at once.
+ *
+ * @param <K> the type of keys of the cache
+ * @param <V> the type of values in the cache
+ */
+public class LruCache<K, V> {
+
+    public static final String MESSAGE_INVALID_CAPACITY = "Cache capacity must be positive.";
+
+    private final int capacity;
+    /** Cached values, from the least to the most recently used. */
+    private final Map<K, V> values;
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty cache that holds at most {@code capacity} values.
+     */
+    public LruCache(int capacity) {
+        checkArgument(capacity > 0, MESSAGE_INVALID_CAPACITY);
+        this.capacity = capacity;
+        values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > LruCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the value cached for {@code key}, which becomes the most recently used value, or
+     * {@code Optional.empty()} if no value is cached for the key.
+     */
+    public synchronized Optional<V> get(K key) {
+        requireNonNull(key);
+        V value = values.get(key);
+        if (value == null) {
+            missCount++;
+        } else {
+            hitCount++;
+        }
+        return Optional.ofNullable(value);
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used value if the cache is full.
+     */
+    public synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        values.put(key, value);
+    }
+
+    /**
+     * Removes the value cached for {@code key}, if any.
+     */
+    public synchronized void remove(K key) {
+        requireNonNull(key);
+        values.remove(key);
+    }
+
+    public synchronized void clear() {
+        values.clear();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of values in the cache.
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(Object)} that found a cached value.
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of calls to {@link #get(Object)} that did not find a cached value.
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+}
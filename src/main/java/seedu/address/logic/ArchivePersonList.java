@@ -0,0 +1,66 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.util.logging.Logger;
+
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CandidateArchive;
+
+/**
+ * A read-only list of the persons in a {@code CandidateArchive}, which reads a person only when the person is shown.
+ * Closing the list closes the archive.
+ */
+public class ArchivePersonList extends ObservableListBase<Person> implements Closeable {
+
+    private final Logger logger = LogsCenter.getLogger(ArchivePersonList.class);
+
+    private final CandidateArchive archive;
+
+    /**
+     * Creates a list of the persons in {@code archive}, which the list takes ownership of.
+     */
+    public ArchivePersonList(CandidateArchive archive) {
+        requireNonNull(archive);
+        this.archive = archive;
+    }
+
+    /**
+     * Returns the path of the file that the persons are read from.
+     */
+    public Path getFilePath() {
+        return archive.getFilePath();
+    }
+
+    /**
+     * Returns the person at {@code index}, or null if the person in the archive is not valid, which is shown as an
+     * empty row.
+     */
+    @Override
+    public Person get(int index) {
+        try {
+            return archive.getPerson(index);
+        } catch (DataLoadingException e) {
+            logger.warning("Skipping invalid person " + (index + 1) + " in " + archive.getFilePath());
+            return null;
+        }
+    }
+
+    @Override
+    public int size() {
+        return archive.size();
+    }
+
+    /**
+     * Closes the archive, after which the persons can no longer be read.
+     */
+    @Override
+    public void close() {
+        archive.close();
+    }
+}
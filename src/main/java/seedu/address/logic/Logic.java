@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -80,4 +81,10 @@ public interface Logic {
      * Returns the user pref's theme in GUI settings.
      */
     Theme getTheme();
+
+    /**
+     * Sets the handler that is given the message of any failure to save data that is detected after the command that
+     * requested the save has completed. The handler may be called from a thread other than the caller's.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
 }
@@ -20,6 +20,7 @@ public class Messages {
     public static final String MESSAGE_DUPLICATE_FIELDS =
             "Multiple values specified for the following single-valued field(s): ";
     public static final String MESSAGE_FILE_EXISTS = "File at '%1$s' already exists!";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File at '%1$s' does not exist!";
     public static final String MESSAGE_SCHEDULE_START_TIME_BEFORE_END_TIME =
             "The end time of the interview schedule should be strictly later than "
                     + "start time of the interview schedule. \n"
@@ -7,6 +7,7 @@ import java.util.Objects;
 
 import seedu.address.commons.core.Theme;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.ArchivePersonList;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 
@@ -31,6 +32,9 @@ public class CommandResult {
 
     private Person person;
 
+    /** Persons of an archive to be shown in a separate, read-only list. */
+    private ArchivePersonList archive;
+
     private final Map<JobRole, Long> statistics;
 
     /**
@@ -91,6 +95,14 @@ public class CommandResult {
         return this.person;
     }
 
+    public void setArchiveToShow(ArchivePersonList archive) {
+        this.archive = archive;
+    }
+
+    public ArchivePersonList getArchiveToShow() {
+        return this.archive;
+    }
+
     public boolean isShowHelp() {
         return showHelp;
     }
@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_FILE_NOT_FOUND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.ArchivePersonList;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.CandidateArchive;
+import seedu.address.storage.MappedArchive;
+import seedu.address.storage.PagedArchive;
+
+/**
+ * Opens the candidates in an archive written by the {@code save} command, or in a page file, in a separate, read-only
+ * list. The candidates in the application are left unchanged.
+ */
+public class OpenArchiveCommand extends Command {
+    public static final String COMMAND_WORD = "open-archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Opens the candidates' data in the file at the path provided in a separate, read-only list. "
+            + "The candidates in the application are not changed.\n"
+            + "Parameters: " + PREFIX_CANDIDATES_FILE_PATH + "CANDIDATE_DETAILS_FILE_PATH (must be an existing file)\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CANDIDATES_FILE_PATH + "candidates_archive.json";
+
+    public static final String MESSAGE_OPEN_ARCHIVE_SUCCESS = "Opened %1$d candidate(s) from file at: '%2$s'";
+    public static final String MESSAGE_INVALID_ARCHIVE = "Unable to open file at '%1$s': %2$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an {@code OpenArchiveCommand} to open the archive at {@code filePath}.
+     */
+    public OpenArchiveCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        Path absoluteFilePath = filePath.toAbsolutePath().normalize();
+        if (!Files.isRegularFile(absoluteFilePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, absoluteFilePath));
+        }
+
+        CandidateArchive archive;
+        try {
+            archive = FileUtil.isPageFile(absoluteFilePath)
+                    ? PagedArchive.open(absoluteFilePath)
+                    : MappedArchive.open(absoluteFilePath);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ARCHIVE, absoluteFilePath,
+                    e.getCause().getMessage()), e);
+        }
+
+        CommandResult result = new CommandResult(
+                String.format(MESSAGE_OPEN_ARCHIVE_SUCCESS, archive.size(), absoluteFilePath));
+        result.setArchiveToShow(new ArchivePersonList(archive));
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OpenArchiveCommand otherOpenArchiveCommand)) {
+            return false;
+        }
+
+        return filePath.equals(otherOpenArchiveCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
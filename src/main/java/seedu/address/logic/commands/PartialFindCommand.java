@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
+
+/**
+ * Finds and lists all persons in address book whose details contain any of the argument keywords,
+ * possibly as part of a word.
+ * Keyword matching is case insensitive.
+ */
+public class PartialFindCommand extends Command {
+
+    public static final String COMMAND_WORD = "pfind";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose details contain any of "
+            + "the specified keywords (case-insensitive), including as part of a word, and displays them as a list "
+            + "with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " oliv kur";
+
+    private final PersonDetailsContainPartialKeywordsPredicate predicate;
+
+    public PartialFindCommand(PersonDetailsContainPartialKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PartialFindCommand)) {
+            return false;
+        }
+
+        PartialFindCommand otherPartialFindCommand = (PartialFindCommand) other;
+        return predicate.equals(otherPartialFindCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static seedu.address.commons.util.CollectionUtil.isUnique;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_JSON_GZIP;
 import static seedu.address.logic.LogicManager.FILE_OPS_ERROR_FORMAT;
 import static seedu.address.logic.LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_FILE_EXISTS;
@@ -15,6 +16,7 @@ import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
@@ -39,6 +41,7 @@ public class SaveCommand extends Command {
             + " " + PREFIX_SCHEDULES_FILE_PATH + "INTERVIEW_SCHEDULES_FILE_PATH (must be a valid file path)"
             + " [" + SUFFIX_SAVE_ALL + " (save all)] [" + SUFFIX_OVERWRITE_FILE + " (overwrite file)]\n"
             + "You should provide at least one out of the two required file paths.\n"
+            + "Files ending with " + FILE_EXTENSION_JSON_GZIP + " are compressed.\n"
             + "Example: " + COMMAND_WORD + " " + PREFIX_CANDIDATES_FILE_PATH + "candidates_archive.json";
     public static final String MESSAGE_SAVE_CANDIDATES_FILE_SUCCESS = "Saved candidates' data to file at: '%1$s'";
     public static final String MESSAGE_SAVE_SCHEDULES_FILE_SUCCESS = "Saved interview schedules to file at: '%1$s'";
@@ -61,8 +64,11 @@ public class SaveCommand extends Command {
                        boolean shouldSaveAllData, boolean shouldOverwriteFile) {
         assertFilePathsAreValid(candidateDetailsFilePath, schedulesFilePath);
 
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(candidateDetailsFilePath);
-        ScheduleBoardStorage scheduleBoardStorage = new JsonScheduleBoardStorage(schedulesFilePath);
+        // compressed archives are not meant to be read as text, so they are written without indentation
+        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(candidateDetailsFilePath,
+                FileUtil.isGzipFile(candidateDetailsFilePath));
+        ScheduleBoardStorage scheduleBoardStorage = new JsonScheduleBoardStorage(schedulesFilePath,
+                FileUtil.isGzipFile(schedulesFilePath));
         this.storage = new ManualStorageManager(addressBookStorage, scheduleBoardStorage);
         this.shouldSaveAllData = shouldSaveAllData;
         this.shouldOverwriteFile = shouldOverwriteFile;
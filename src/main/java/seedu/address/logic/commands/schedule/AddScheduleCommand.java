@@ -73,12 +73,10 @@ public class AddScheduleCommand extends Command {
         Person candidate = lastShownList.get(index.getZeroBased());
         Email candidateEmail = new Email(candidate.getEmail().toString());
         Name candidateName = new Name(candidate.getName().toString());
-        toAdd.setCandidateEmail(candidateEmail);
-        toAdd.setCandidateName(candidateName);
+        Schedule scheduleOfCandidate = toAdd.withCandidate(candidateName, candidateEmail);
 
-
-        model.addSchedule(toAdd);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd)));
+        model.addSchedule(scheduleOfCandidate);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(scheduleOfCandidate)));
     }
 
     @Override
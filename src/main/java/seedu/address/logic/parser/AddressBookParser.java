@@ -20,6 +20,8 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListJCommand;
+import seedu.address.logic.commands.OpenArchiveCommand;
+import seedu.address.logic.commands.PartialFindCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SaveCommand;
 import seedu.address.logic.commands.ThemeCommand;
@@ -84,6 +86,9 @@ public class AddressBookParser {
         case FindCommand.COMMAND_WORD:
             return new FindCommandParser().parse(arguments);
 
+        case PartialFindCommand.COMMAND_WORD:
+            return new PartialFindCommandParser().parse(arguments);
+
         case ListCommand.COMMAND_WORD:
             return new ListCommand();
 
@@ -105,6 +110,9 @@ public class AddressBookParser {
         case SaveCommand.COMMAND_WORD:
             return new SaveCommandParser().parse(arguments);
 
+        case OpenArchiveCommand.COMMAND_WORD:
+            return new OpenArchiveCommandParser().parse(arguments);
+
         case AddScheduleCommand.COMMAND_WORD:
             return new AddScheduleCommandParser().parse(arguments);
 
@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.OpenArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@code OpenArchiveCommand} object
+ */
+public class OpenArchiveCommandParser implements Parser<OpenArchiveCommand> {
+    @Override
+    public OpenArchiveCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CANDIDATES_FILE_PATH);
+        Optional<String> path = argMultimap.getValue(PREFIX_CANDIDATES_FILE_PATH);
+        if (path.isEmpty() || path.get().isBlank() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenArchiveCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CANDIDATES_FILE_PATH);
+        return new OpenArchiveCommand(ParserUtil.parseArchivePath(path.get()));
+    }
+}
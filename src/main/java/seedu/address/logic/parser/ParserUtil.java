@@ -2,6 +2,8 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_JSON;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_JSON_GZIP;
+import static seedu.address.commons.util.FileUtil.FILE_EXTENSION_PAGE_FILE;
 import static seedu.address.commons.util.ScheduleUtil.checkStartEndDateTime;
 import static seedu.address.commons.util.ScheduleUtil.isValidDuration;
 import static seedu.address.logic.Messages.MESSAGE_SCHEDULE_INVALID_DURATION;
@@ -266,6 +268,7 @@ public class ParserUtil {
     /**
      * Parses a {@code String path} into a {@link Path}.
      * Leading and trailing whitespaces will be trimmed.
+     * The json extension is appended to a path that does not end with the json or compressed json extension.
      *
      * @throws ParseException
      */
@@ -273,7 +276,8 @@ public class ParserUtil {
         requireNonNull(path);
         String trimmedPath = path.trim();
 
-        if (!trimmedPath.isEmpty() && !trimmedPath.endsWith(".json")) {
+        if (!trimmedPath.isEmpty() && !trimmedPath.endsWith(FILE_EXTENSION_JSON)
+                && !trimmedPath.endsWith(FILE_EXTENSION_JSON_GZIP)) {
             trimmedPath += FILE_EXTENSION_JSON;
         }
 
@@ -284,6 +288,25 @@ public class ParserUtil {
         return Paths.get(trimmedPath);
     }
 
+    /**
+     * Parses a {@code String path} of a file to be opened read-only into a {@link Path}.
+     * Similar to {@link #parsePath(String)}, but a path that ends with the page file extension is kept as it is.
+     *
+     * @throws ParseException if the given {@code path} is invalid.
+     */
+    public static Path parseArchivePath(String path) throws ParseException {
+        requireNonNull(path);
+        String trimmedPath = path.trim();
+
+        if (!trimmedPath.endsWith(FILE_EXTENSION_PAGE_FILE)) {
+            return parsePath(trimmedPath);
+        }
+        if (!FileUtil.isValidPath(trimmedPath)) {
+            throw new ParseException(MESSAGE_INVALID_FILE_PATH);
+        }
+        return Paths.get(trimmedPath);
+    }
+
     /**
      * Parses a {@code String date} into a {@code LocalDate}.
      * The format of the LocalDate will be in the format yyyy-MM-dd.
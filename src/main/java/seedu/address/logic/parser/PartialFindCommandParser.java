@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.PartialFindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new PartialFindCommand object
+ */
+public class PartialFindCommandParser implements Parser<PartialFindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PartialFindCommand
+     * and returns a PartialFindCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PartialFindCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, PartialFindCommand.MESSAGE_USAGE));
+        }
+
+        String[] keywords = trimmedArgs.split("\\s+");
+
+        return new PartialFindCommand(new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList(keywords)));
+    }
+
+}
@@ -2,17 +2,24 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 import seedu.address.model.person.UniqueJobRoleList;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.VersionCounter;
 
 /**
  * Wraps all data at the address-book level
@@ -23,6 +30,19 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final UniqueJobRoleList jobRoles;
 
+    /**
+     * Number of persons that applied for each job role, indexed by the id of the job role in
+     * {@code JobRole#DICTIONARY} and kept up to date as persons are added, edited and removed.
+     * The ids stay assigned while they are counted, as the persons in the address book hold their job roles.
+     */
+    private long[] jobApplicantCounts = new long[0];
+
+    /** Ids of the job roles with at least one applicant. */
+    private final BitSet appliedJobRoleIds = new BitSet();
+
+    /** Identifies the current state of the persons and job roles of this address book. */
+    private long version = VersionCounter.next();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -53,6 +73,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        countJobApplicants(persons);
+        version = VersionCounter.next();
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, which must be unique.
+     * The persons are not checked again.
+     */
+    public void setValidatedPersons(List<Person> persons) {
+        this.persons.setValidatedPersons(persons);
+        countJobApplicants(persons);
+        version = VersionCounter.next();
     }
 
     /**
@@ -61,6 +93,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setJobRoles(List<JobRole> jobRoles) {
         this.jobRoles.setJobRoles(jobRoles);
+        version = VersionCounter.next();
     }
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
@@ -70,6 +103,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
         setPersons(newData.getPersonList());
         setJobRoles(newData.getJobRoleList());
+        version = newData.getVersion();
     }
 
     //// person-level operations
@@ -82,12 +116,22 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person with the same identity as {@code person} in the address book, if any.
+     */
+    public Optional<Person> getPerson(Person person) {
+        requireNonNull(person);
+        return persons.getSamePerson(person);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
         persons.add(p);
+        updateJobApplicantCounts(p, 1);
+        version = VersionCounter.next();
     }
 
     /**
@@ -99,6 +143,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        updateJobApplicantCounts(target, -1);
+        updateJobApplicantCounts(editedPerson, 1);
+        version = VersionCounter.next();
     }
 
     /**
@@ -107,6 +154,28 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        updateJobApplicantCounts(key, -1);
+        version = VersionCounter.next();
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate} for the persons in this address book,
+     * but looks the keywords up in the word index of the address book instead of splitting the details of every
+     * person.
+     */
+    public Predicate<Person> getIndexedPredicate(PersonDetailsContainKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.containsAnyKeyword(predicate.getKeywords());
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate} for the persons in this address book,
+     * but looks the keywords up in the trigram index of the address book instead of scanning the details of every
+     * person.
+     */
+    public Predicate<Person> getIndexedPredicate(PersonDetailsContainPartialKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return persons.containsAnyPartialKeyword(predicate.getKeywords());
     }
 
     // JobRole level operations
@@ -127,29 +196,66 @@ public class AddressBook implements ReadOnlyAddressBook {
         return this.jobRoles.containsAll(jobRoles);
     }
 
+    /**
+     * Returns true if a jobRole with the same value as every jobRole of {@code person} exists in the address book.
+     * The job roles are looked up by their ids, without hashing them.
+     */
+    public boolean hasJobRolesOf(Person person) {
+        requireNonNull(person);
+        return jobRoles.containsJobRolesOf(person);
+    }
+
     /**
      * Adds a jobRole to the address book.
      * The jobRole must not already exist in the address book.
      */
     public void addJobRole(JobRole j) {
         jobRoles.add(j);
+        version = VersionCounter.next();
     }
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
+     * The job roles of existing persons, and hence the job applicant statistics, are left unchanged.
      */
     public void removeJobRole(JobRole key) {
         jobRoles.remove(key);
+        version = VersionCounter.next();
     }
 
     /**
      * Returns a mapping of each job role to applicants.
+     * The mapping is a snapshot of counts that are maintained as persons change, so this does not scan the persons.
      */
     public Map<JobRole, Long> getJobApplicantStatistics() {
-        return getPersonList().stream()
-                .flatMap(person -> person.getJobRoles().stream())
-                .collect(Collectors.groupingBy(jobRole -> jobRole, Collectors.counting()));
+        Map<JobRole, Long> statistics = new HashMap<>();
+        // job roles that differ only in case have different ids, but are counted as one job role
+        appliedJobRoleIds.stream().forEach(id ->
+                statistics.merge(JobRole.DICTIONARY.decode(id), jobApplicantCounts[id], Long::sum));
+        return statistics;
+    }
+
+    /**
+     * Replaces the applicant counts with those of {@code persons}.
+     */
+    private void countJobApplicants(List<Person> persons) {
+        Arrays.fill(jobApplicantCounts, 0);
+        appliedJobRoleIds.clear();
+        persons.forEach(person -> updateJobApplicantCounts(person, 1));
+    }
+
+    /**
+     * Adds {@code delta} to the applicant count of every job role of {@code person}.
+     */
+    private void updateJobApplicantCounts(Person person, long delta) {
+        person.getJobRoleIds().forEach(id -> {
+            if (id >= jobApplicantCounts.length) {
+                jobApplicantCounts = Arrays.copyOf(jobApplicantCounts, Math.max(id + 1, 2 * jobApplicantCounts.length));
+            }
+            jobApplicantCounts[id] += delta;
+            appliedJobRoleIds.set(id, jobApplicantCounts[id] != 0);
+        });
     }
 
     //// util methods
@@ -161,6 +267,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
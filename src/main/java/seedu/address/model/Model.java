@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -68,7 +69,7 @@ public interface Model {
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person, together with all of the person's interview schedules.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -81,6 +82,7 @@ public interface Model {
 
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
+     * The interview schedules of {@code target} are updated to refer to {@code editedPerson}.
      * {@code target} must exist in the address book.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the address book.
      */
@@ -129,12 +131,6 @@ public interface Model {
      */
     void setSchedule(Schedule scheduleToEdit, Schedule editedSchedule);
 
-    /**
-     * Edits the candidate identified in a given interview schedule.
-     * The schedule must exist in schedule board.
-     */
-    void editCandidateInSchedule(Schedule target, Person editedCandidate);
-
     /** Returns an unmodifiable view of the filtered schedule list */
     ObservableList<Schedule> getFilteredScheduleList();
 
@@ -183,6 +179,14 @@ public interface Model {
 
     ObservableList<JobRole> getFilteredJobRolesList();
 
+    //============ Change tracking =================================================================================
+
+    /**
+     * Returns the changes made to the address book, schedule board and job roles since this method was last called,
+     * in the order in which they were made, and stops tracking them.
+     */
+    List<ModelChange> takeChanges();
+
     // Theme-Operations
 
     Theme getTheme();
@@ -0,0 +1,269 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+
+/**
+ * Represents a single change made to the data of the model, such as adding a person or deleting a schedule.
+ * Changes are recorded by the model as commands are executed, so that storage can persist only what changed.
+ *
+ * Resetting the whole address book or schedule board is recorded as a change that requires a snapshot of the data,
+ * as it cannot be expressed in terms of individual records.
+ */
+public class ModelChange {
+
+    /**
+     * The kinds of changes that can be made to the model.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, DELETE_PERSON,
+        ADD_SCHEDULE, SET_SCHEDULE, DELETE_SCHEDULE,
+        ADD_JOB_ROLE, DELETE_JOB_ROLE,
+        RESET_ADDRESS_BOOK, RESET_SCHEDULE_BOARD
+    }
+
+    private final Type type;
+    private final Person person;
+    private final Person editedPerson;
+    private final Schedule schedule;
+    private final Schedule editedSchedule;
+    private final JobRole jobRole;
+
+    /**
+     * Every field except {@code type} may be null, depending on the type of change.
+     */
+    public ModelChange(Type type, Person person, Person editedPerson, Schedule schedule, Schedule editedSchedule,
+            JobRole jobRole) {
+        requireNonNull(type);
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.schedule = schedule;
+        this.editedSchedule = editedSchedule;
+        this.jobRole = jobRole;
+    }
+
+    public static ModelChange addPerson(Person person) {
+        requireNonNull(person);
+        return new ModelChange(Type.ADD_PERSON, person, null, null, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static ModelChange setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new ModelChange(Type.SET_PERSON, target, editedPerson, null, null, null);
+    }
+
+    public static ModelChange deletePerson(Person target) {
+        requireNonNull(target);
+        return new ModelChange(Type.DELETE_PERSON, target, null, null, null, null);
+    }
+
+    public static ModelChange addSchedule(Schedule schedule) {
+        requireNonNull(schedule);
+        return new ModelChange(Type.ADD_SCHEDULE, null, null, schedule, null, null);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedSchedule}.
+     */
+    public static ModelChange setSchedule(Schedule target, Schedule editedSchedule) {
+        requireNonNull(target);
+        requireNonNull(editedSchedule);
+        return new ModelChange(Type.SET_SCHEDULE, null, null, target, editedSchedule, null);
+    }
+
+    public static ModelChange deleteSchedule(Schedule target) {
+        requireNonNull(target);
+        return new ModelChange(Type.DELETE_SCHEDULE, null, null, target, null, null);
+    }
+
+    public static ModelChange addJobRole(JobRole jobRole) {
+        requireNonNull(jobRole);
+        return new ModelChange(Type.ADD_JOB_ROLE, null, null, null, null, jobRole);
+    }
+
+    public static ModelChange deleteJobRole(JobRole target) {
+        requireNonNull(target);
+        return new ModelChange(Type.DELETE_JOB_ROLE, null, null, null, null, target);
+    }
+
+    public static ModelChange resetAddressBook() {
+        return new ModelChange(Type.RESET_ADDRESS_BOOK, null, null, null, null, null);
+    }
+
+    public static ModelChange resetScheduleBoard() {
+        return new ModelChange(Type.RESET_SCHEDULE_BOARD, null, null, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    public Schedule getSchedule() {
+        return schedule;
+    }
+
+    public Schedule getEditedSchedule() {
+        return editedSchedule;
+    }
+
+    public JobRole getJobRole() {
+        return jobRole;
+    }
+
+    /**
+     * Returns true if this change can only be persisted by saving a snapshot of the whole data.
+     */
+    public boolean requiresSnapshot() {
+        return type == Type.RESET_ADDRESS_BOOK || type == Type.RESET_SCHEDULE_BOARD;
+    }
+
+    /**
+     * Applies this change to {@code addressBook} and {@code scheduleBoard}, in the same way as {@code ModelManager}
+     * does when the change is made. Persons and schedules are matched by identity, and each change is applied as an
+     * insert, update or removal of records, so that applying a sequence of changes again to the data that resulted
+     * from it gives the same data.
+     *
+     * @throws UnsupportedOperationException if this change {@link #requiresSnapshot() requires a snapshot}.
+     */
+    public void applyTo(AddressBook addressBook, ScheduleBoard scheduleBoard) {
+        requireNonNull(addressBook);
+        requireNonNull(scheduleBoard);
+
+        switch (type) {
+        case ADD_PERSON:
+            putPerson(addressBook, scheduleBoard, person);
+            break;
+        case SET_PERSON:
+            Optional<Person> target = addressBook.getPerson(person);
+            if (target.isEmpty()) {
+                putPerson(addressBook, scheduleBoard, editedPerson);
+            } else if (!person.isSamePerson(editedPerson) && addressBook.hasPerson(editedPerson)) {
+                // the edited person is already present if this change has been applied before
+                addressBook.removePerson(target.get());
+                scheduleBoard.editCandidateInSchedules(target.get(), editedPerson);
+                putPerson(addressBook, scheduleBoard, editedPerson);
+            } else {
+                addressBook.setPerson(target.get(), editedPerson);
+                scheduleBoard.editCandidateInSchedules(target.get(), editedPerson);
+            }
+            // the schedules may still be of the person before the edit, if only the address book was saved after it
+            scheduleBoard.editCandidateInSchedules(person, editedPerson);
+            break;
+        case DELETE_PERSON:
+            addressBook.getPerson(person).ifPresent(existing -> {
+                addressBook.removePerson(existing);
+                scheduleBoard.removeSchedulesOfCandidate(existing);
+            });
+            // the schedules may remain after the person is removed, if only the address book was saved after it
+            scheduleBoard.removeSchedulesOfCandidate(person);
+            break;
+        case ADD_SCHEDULE:
+            putSchedule(scheduleBoard, schedule);
+            break;
+        case SET_SCHEDULE:
+            if (!scheduleBoard.hasSchedule(schedule)) {
+                putSchedule(scheduleBoard, editedSchedule);
+            } else if (!schedule.equals(editedSchedule) && scheduleBoard.hasSchedule(editedSchedule)) {
+                // the edited schedule is already present if this change has been applied before
+                scheduleBoard.removeSchedule(schedule);
+                putSchedule(scheduleBoard, editedSchedule);
+            } else {
+                scheduleBoard.setSchedule(schedule, editedSchedule);
+            }
+            break;
+        case DELETE_SCHEDULE:
+            if (scheduleBoard.hasSchedule(schedule)) {
+                scheduleBoard.removeSchedule(schedule);
+            }
+            break;
+        case ADD_JOB_ROLE:
+            if (!addressBook.hasJobRole(jobRole)) {
+                addressBook.addJobRole(jobRole);
+            }
+            break;
+        case DELETE_JOB_ROLE:
+            if (addressBook.hasJobRole(jobRole)) {
+                addressBook.removeJobRole(jobRole);
+            }
+            break;
+        default:
+            throw new UnsupportedOperationException("A " + type + " change can only be persisted as a snapshot.");
+        }
+    }
+
+    private static void putPerson(AddressBook addressBook, ScheduleBoard scheduleBoard, Person person) {
+        Optional<Person> existing = addressBook.getPerson(person);
+        if (existing.isPresent()) {
+            addressBook.setPerson(existing.get(), person);
+            scheduleBoard.editCandidateInSchedules(existing.get(), person);
+        } else {
+            addressBook.addPerson(person);
+        }
+    }
+
+    private static void putSchedule(ScheduleBoard scheduleBoard, Schedule schedule) {
+        if (scheduleBoard.hasSchedule(schedule)) {
+            scheduleBoard.setSchedule(schedule, schedule);
+        } else {
+            scheduleBoard.addSchedule(schedule);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModelChange)) {
+            return false;
+        }
+
+        ModelChange otherChange = (ModelChange) other;
+        return type == otherChange.type
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(editedPerson, otherChange.editedPerson)
+                && Objects.equals(schedule, otherChange.schedule)
+                && Objects.equals(editedSchedule, otherChange.editedSchedule)
+                && Objects.equals(jobRole, otherChange.jobRole);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, person, editedPerson, schedule, editedSchedule, jobRole);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("person", person)
+                .add("editedPerson", editedPerson)
+                .add("schedule", schedule)
+                .add("editedSchedule", editedSchedule)
+                .add("jobRole", jobRole)
+                .toString();
+    }
+}
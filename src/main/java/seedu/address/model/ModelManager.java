@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -15,6 +17,8 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Theme;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
@@ -30,26 +34,44 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     private final ScheduleBoard scheduleBoard;
     private final FilteredList<Schedule> filteredSchedules;
+    private final List<ModelChange> changes = new ArrayList<>();
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with copies of the given addressBook, userPrefs and scheduleBoard.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
             ReadOnlyScheduleBoard scheduleBoard) {
-        requireAllNonNull(addressBook, userPrefs);
+        this(new AddressBook(requireNonNull(addressBook)), new UserPrefs(requireNonNull(userPrefs)),
+                new ScheduleBoard(requireNonNull(scheduleBoard)));
+    }
+
+    public ModelManager() {
+        this(new AddressBook(), new UserPrefs(), new ScheduleBoard());
+    }
 
+    /**
+     * Initializes a ModelManager that takes ownership of {@code addressBook} and {@code scheduleBoard}.
+     */
+    private ModelManager(AddressBook addressBook, UserPrefs userPrefs, ScheduleBoard scheduleBoard) {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs
             + " and interview schedules " + scheduleBoard);
 
-        this.addressBook = new AddressBook(addressBook);
-        this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = addressBook;
+        this.userPrefs = userPrefs;
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.scheduleBoard = new ScheduleBoard(scheduleBoard);
+        this.scheduleBoard = scheduleBoard;
         filteredSchedules = new FilteredList<>(this.scheduleBoard.getScheduleList());
     }
 
-    public ModelManager() {
-        this(new AddressBook(), new UserPrefs(), new ScheduleBoard());
+    /**
+     * Returns a ModelManager that uses {@code addressBook} and {@code scheduleBoard} as its data without copying them,
+     * so that data that has just been loaded is not copied and checked again.
+     * The caller must not use {@code addressBook} or {@code scheduleBoard} afterwards.
+     */
+    public static ModelManager adopt(AddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            ScheduleBoard scheduleBoard) {
+        requireAllNonNull(addressBook, userPrefs, scheduleBoard);
+        return new ModelManager(addressBook, new UserPrefs(userPrefs), scheduleBoard);
     }
 
     //=========== UserPrefs ==================================================================================
@@ -92,6 +114,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        changes.add(ModelChange.resetAddressBook());
     }
 
     @Override
@@ -108,11 +131,14 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        scheduleBoard.removeSchedulesOfCandidate(target);
+        changes.add(ModelChange.deletePerson(target));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        changes.add(ModelChange.addPerson(person));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -121,6 +147,8 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        scheduleBoard.editCandidateInSchedules(target, editedPerson);
+        changes.add(ModelChange.setPerson(target, editedPerson));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -137,6 +165,14 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (predicate instanceof PersonDetailsContainKeywordsPredicate keywordsPredicate) {
+            filteredPersons.setPredicate(addressBook.getIndexedPredicate(keywordsPredicate));
+            return;
+        }
+        if (predicate instanceof PersonDetailsContainPartialKeywordsPredicate partialKeywordsPredicate) {
+            filteredPersons.setPredicate(addressBook.getIndexedPredicate(partialKeywordsPredicate));
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
@@ -158,22 +194,20 @@ public class ModelManager implements Model {
     @Override
     public void addSchedule(Schedule schedule) {
         scheduleBoard.addSchedule(schedule);
+        changes.add(ModelChange.addSchedule(schedule));
     }
 
     @Override
     public void deleteSchedule(Schedule target) {
         scheduleBoard.removeSchedule(target);
+        changes.add(ModelChange.deleteSchedule(target));
     }
 
     @Override
     public void setSchedule(Schedule scheduleToEdit, Schedule editedSchedule) {
         requireAllNonNull(scheduleToEdit, editedSchedule);
         scheduleBoard.setSchedule(scheduleToEdit, editedSchedule);
-    }
-
-    @Override
-    public void editCandidateInSchedule(Schedule schedule, Person editedCandidate) {
-        scheduleBoard.editCandidateInSchedule(schedule, editedCandidate);
+        changes.add(ModelChange.setSchedule(scheduleToEdit, editedSchedule));
     }
 
     @Override
@@ -208,6 +242,7 @@ public class ModelManager implements Model {
     @Override
     public void setScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) {
         this.scheduleBoard.resetData(scheduleBoard);
+        changes.add(ModelChange.resetScheduleBoard());
     }
 
     @Override
@@ -227,7 +262,7 @@ public class ModelManager implements Model {
 
     @Override
     public void setTheme(Theme theme) {
-        this.getGuiSettings().setTheme(theme);
+        userPrefs.setTheme(theme);
     }
 
     //=========== JobRoleList Accessors =============================================================
@@ -247,11 +282,13 @@ public class ModelManager implements Model {
     @Override
     public void deleteJobRoles(JobRole target) {
         addressBook.removeJobRole(target);
+        changes.add(ModelChange.deleteJobRole(target));
     }
 
     @Override
     public void addJobRole(JobRole jobRole) {
         addressBook.addJobRole(jobRole);
+        changes.add(ModelChange.addJobRole(jobRole));
     }
 
     @Override
@@ -259,6 +296,15 @@ public class ModelManager implements Model {
         return addressBook.getJobRoleList();
     }
 
+    //=========== Change tracking =============================================================
+
+    @Override
+    public List<ModelChange> takeChanges() {
+        List<ModelChange> takenChanges = new ArrayList<>(changes);
+        changes.clear();
+        return takenChanges;
+    }
+
 
     @Override
     public boolean equals(Object other) {
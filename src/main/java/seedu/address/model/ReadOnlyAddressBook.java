@@ -24,4 +24,10 @@ public interface ReadOnlyAddressBook {
     ObservableList<JobRole> getJobRoleList();
 
     Map<JobRole, Long> getJobApplicantStatistics();
+
+    /**
+     * Returns a number that changes whenever the data of this address book changes, so that it is unchanged if and
+     * only if the data is unchanged.
+     */
+    long getVersion();
 }
@@ -13,4 +13,22 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    Path getScheduleBoardFilePath();
+
+    /**
+     * Returns true if the data files are written without indentation.
+     */
+    boolean isCompactDataFiles();
+
+    /**
+     * Returns true if the candidates are stored in shard files listed by the address book data file.
+     */
+    boolean isShardedCandidateFiles();
+
+    /**
+     * Returns a number that changes whenever these prefs change, so that it is unchanged if and only if the prefs are
+     * unchanged.
+     */
+    long getVersion();
+
 }
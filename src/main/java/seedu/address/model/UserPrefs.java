@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.Theme;
+import seedu.address.model.util.VersionCounter;
 
 /**
  * Represents User's preferences.
@@ -16,6 +18,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "candidatelist.json");
     private Path scheduleBoardFilePath = Paths.get("data" , "scheduleboard.json");
+    private boolean isCompactDataFiles = false;
+    private boolean isShardedCandidateFiles = false;
+
+    /** Identifies the current state of these prefs. Not saved, as it only identifies states within a session. */
+    private transient long version = VersionCounter.next();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +44,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setScheduleBoardFilePath(newUserPrefs.getScheduleBoardFilePath());
+        setCompactDataFiles(newUserPrefs.isCompactDataFiles());
+        setShardedCandidateFiles(newUserPrefs.isShardedCandidateFiles());
+        version = newUserPrefs.getVersion();
     }
 
     public GuiSettings getGuiSettings() {
@@ -46,6 +57,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
         this.guiSettings = guiSettings;
+        version = VersionCounter.next();
+    }
+
+    /**
+     * Sets the theme of the GUI settings.
+     */
+    public void setTheme(Theme theme) {
+        requireNonNull(theme);
+        setGuiSettings(guiSettings.withTheme(theme));
     }
 
     public Path getAddressBookFilePath() {
@@ -55,6 +75,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
         this.addressBookFilePath = addressBookFilePath;
+        version = VersionCounter.next();
     }
 
     public Path getScheduleBoardFilePath() {
@@ -64,8 +85,38 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void setScheduleBoardFilePath(Path scheduleBoardFilePath) {
         requireNonNull(scheduleBoardFilePath);
         this.scheduleBoardFilePath = scheduleBoardFilePath;
+        version = VersionCounter.next();
     }
 
+    public boolean isCompactDataFiles() {
+        return isCompactDataFiles;
+    }
+
+    /**
+     * Sets whether the data files are written without indentation, which makes them smaller and faster to write.
+     */
+    public void setCompactDataFiles(boolean isCompactDataFiles) {
+        this.isCompactDataFiles = isCompactDataFiles;
+        version = VersionCounter.next();
+    }
+
+    public boolean isShardedCandidateFiles() {
+        return isShardedCandidateFiles;
+    }
+
+    /**
+     * Sets whether the candidates are stored in many small files instead of a single data file, so that saving
+     * rewrites only the files of the candidates that changed.
+     */
+    public void setShardedCandidateFiles(boolean isShardedCandidateFiles) {
+        this.isShardedCandidateFiles = isShardedCandidateFiles;
+        version = VersionCounter.next();
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -80,12 +131,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && isCompactDataFiles == otherUserPrefs.isCompactDataFiles
+                && isShardedCandidateFiles == otherUserPrefs.isShardedCandidateFiles;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, isCompactDataFiles, isShardedCandidateFiles);
     }
 
     @Override
@@ -93,6 +146,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nCompact data files : " + isCompactDataFiles);
+        sb.append("\nSharded candidate files : " + isShardedCandidateFiles);
         return sb.toString();
     }
 
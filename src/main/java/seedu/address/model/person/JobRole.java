@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.ValueDictionary;
+
 /**
  * Represents a Person's job role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidJobRole(String)}
@@ -24,6 +29,11 @@ public class JobRole {
 
     public static final int MAX_LENGTH = 30;
 
+    /** Dictionary of the job roles in use, which gives the ids by which persons and job role lists hold them. */
+    public static final ValueDictionary<JobRole> DICTIONARY = new ValueDictionary<>(JobRole::getValue);
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -32,16 +42,29 @@ public class JobRole {
      * @param jobRole A valid job role that the candidate applied for.
      */
     public JobRole(String jobRole) {
+        this(jobRole, true);
+    }
+
+    private JobRole(String jobRole, boolean isToValidate) {
         requireNonNull(jobRole);
-        checkArgument(isValidJobRole(jobRole), MESSAGE_NEW_CONSTRAINTS);
+        if (isToValidate) {
+            checkArgument(isValidJobRole(jobRole), MESSAGE_NEW_CONSTRAINTS);
+        }
         value = jobRole;
     }
 
+    /**
+     * Returns a {@code JobRole} of {@code jobRole}, which is known to be valid, without validating it again.
+     */
+    public static JobRole ofValidated(String jobRole) {
+        return new JobRole(jobRole, false);
+    }
+
     /**
      * Returns true if a given string is a valid job role.
      */
     public static boolean isValidJobRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
@@ -73,7 +96,8 @@ public class JobRole {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // consistent with equals, which ignores case
+        return value.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
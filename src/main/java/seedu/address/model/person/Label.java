@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a persons Label as Unreviewed, Accepted, Rejected or Shortlisted
  */
@@ -12,6 +14,7 @@ public class Label {
             "Labels can only be Unreviewed, Accepted, Rejected or Shortlisted";
 
     public static final String VALIDATION_REGEX = "^(?i)(Unreviewed|Accepted|Rejected|Shortlisted)$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String value;
 
@@ -21,17 +24,29 @@ public class Label {
      * @param labelName
      */
     public Label(String labelName) {
+        this(labelName, true);
+    }
+
+    private Label(String labelName, boolean isToValidate) {
         requireNonNull(labelName);
-        checkArgument(isValidLabel(labelName), MESSAGE_CONSTRAINTS);
+        if (isToValidate) {
+            checkArgument(isValidLabel(labelName), MESSAGE_CONSTRAINTS);
+        }
         this.value = labelName;
+    }
 
+    /**
+     * Returns a {@code Label} of {@code labelName}, which is known to be valid, without validating it again.
+     */
+    public static Label ofValidated(String labelName) {
+        return new Label(labelName, false);
     }
 
     /**
      * Returns true if test is a valid {@code Label}.
      */
     public static boolean isValidLabel(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
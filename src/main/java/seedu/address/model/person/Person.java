@@ -2,20 +2,28 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.util.ValueDictionary;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Job roles and tags are stored as arrays sorted by name, whose values are interned so that persons with the same
+ * job roles or tags share the same instances of them, and as sorted arrays of their ids in the dictionaries, so that
+ * they can be compared and looked up as ids. An interned value is dropped once nothing uses it.
  */
 public class Person {
 
+    private static final ValueDictionary<Tag> TAG_DICTIONARY = new ValueDictionary<>(tag -> tag.tagName);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -25,8 +33,10 @@ public class Person {
     // Data fields
     private final Label label;
     private final Remark remark;
-    private final Set<JobRole> jobRoles = new HashSet<>();
-    private final Set<Tag> tags = new HashSet<>();
+    private JobRole[] jobRoles;
+    private int[] jobRoleIds;
+    private final Tag[] tags;
+    private final int[] tagIds;
 
     /**
      * Every field must be present and not null.
@@ -40,8 +50,10 @@ public class Person {
         this.address = address;
         this.label = label;
         this.remark = remark;
-        this.jobRoles.addAll(jobRoles);
-        this.tags.addAll(tags);
+        this.jobRoles = JobRole.DICTIONARY.internAll(jobRoles, JobRole[]::new);
+        this.jobRoleIds = JobRole.DICTIONARY.idsOf(this.jobRoles);
+        this.tags = TAG_DICTIONARY.internAll(tags, Tag[]::new);
+        this.tagIds = TAG_DICTIONARY.idsOf(this.tags);
     }
 
     public Name getName() {
@@ -73,15 +85,23 @@ public class Person {
      * if modification is attempted.
      */
     public Set<JobRole> getJobRoles() {
-        return Collections.unmodifiableSet(jobRoles);
+        return Collections.unmodifiableSet(ValueDictionary.asSet(jobRoles));
+    }
+
+    /**
+     * Returns the ids of the job roles of this person in {@code JobRole#DICTIONARY}, in ascending order.
+     * The ids stay assigned to the job roles as long as this person is referred to.
+     */
+    public IntStream getJobRoleIds() {
+        return Arrays.stream(jobRoleIds);
     }
 
     /**
      * Reset JobRole to just a single `UNRECOGNISED`. This is only to be used by JsonSerializableAddressBook
      */
     public void resetJobRoles() {
-        jobRoles.clear();
-        jobRoles.add(new JobRole("UNRECOGNISED"));
+        jobRoles = new JobRole[] {JobRole.DICTIONARY.intern(new JobRole("UNRECOGNISED"))};
+        jobRoleIds = JobRole.DICTIONARY.idsOf(jobRoles);
     }
 
     /**
@@ -89,7 +109,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return Collections.unmodifiableSet(ValueDictionary.asSet(tags));
     }
 
     /**
@@ -125,15 +145,24 @@ public class Person {
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && tags.equals(otherPerson.tags)
+                && Arrays.equals(tagIds, otherPerson.tagIds)
                 && label.equals(otherPerson.label)
-                && jobRoles.equals(otherPerson.jobRoles);
+                && hasSameJobRoles(otherPerson);
+    }
+
+    /**
+     * Returns true if both persons have the same job roles, ignoring case.
+     */
+    private boolean hasSameJobRoles(Person otherPerson) {
+        // job roles that differ only in case have different ids, but are equal
+        return Arrays.equals(jobRoleIds, otherPerson.jobRoleIds)
+                || getJobRoles().equals(otherPerson.getJobRoles());
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, jobRoles, label, remark, tags);
+        return Objects.hash(name, phone, email, address, getJobRoles(), label, remark, getTags());
     }
 
     @Override
@@ -145,8 +174,8 @@ public class Person {
                 .add("address", address)
                 .add("label", label)
                 .add("remark", remark)
-                .add("applicable jobs", jobRoles)
-                .add("tags", tags)
+                .add("applicable jobs", getJobRoles())
+                .add("tags", getTags())
                 .toString();
     }
 
@@ -16,6 +16,10 @@ public class PersonDetailsContainKeywordsPredicate implements Predicate<Person>
         this.keywords = keywords;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         return keywords.stream()
@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An inverted index from the words in the details of persons to the persons whose details contain them.
+ * The details indexed are the name, phone, email, address, job roles, label, remark and tags of a person.
+ * Words are separated by whitespace and compared ignoring case, as in
+ * {@code StringUtil#containsWordIgnoreCase(String, String)}.
+ *
+ * Persons are indexed by identity, so a person is only found if it is the same instance that was added.
+ */
+public class PersonKeywordIndex {
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds the words in the details of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            postings.computeIfAbsent(word, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the words in the details of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getWords(person)) {
+            Set<Person> persons = postings.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                postings.remove(word);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        postings.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that tests if the details of a person contain any of the {@code keywords} as a full word,
+     * ignoring case. The matching persons are the union of the postings of the keywords, which is found once and
+     * reused until the index changes.
+     */
+    public Predicate<Person> containsAnyWord(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> normalisedKeywords = keywords.stream()
+                .map(PersonKeywordIndex::normalise)
+                .distinct()
+                .collect(Collectors.toList());
+        return new Predicate<>() {
+            private Set<Person> matches;
+            private int matchesModificationCount;
+
+            @Override
+            public boolean test(Person person) {
+                if (matches == null || matchesModificationCount != modificationCount) {
+                    matches = findMatches(normalisedKeywords);
+                    matchesModificationCount = modificationCount;
+                }
+                return matches.contains(person);
+            }
+        };
+    }
+
+    /**
+     * Returns the persons whose details contain any of the normalised {@code keywords} as a full word.
+     */
+    private Set<Person> findMatches(List<String> keywords) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            matches.addAll(postings.getOrDefault(keyword, Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the distinct words in the details of {@code person}, normalised for lookup.
+     */
+    private static Set<String> getWords(Person person) {
+        Stream<String> details = Stream.concat(
+                Stream.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                        person.getAddress().value, person.getLabel().value, person.getRemark().value),
+                Stream.concat(person.getJobRoles().stream().map(JobRole::getValue),
+                        person.getTags().stream().map(tag -> tag.tagName)));
+        return details.flatMap(detail -> Stream.of(detail.split("\\s+")))
+                .filter(word -> !word.isEmpty())
+                .map(PersonKeywordIndex::normalise)
+                .collect(Collectors.toSet());
+    }
+
+    private static String normalise(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
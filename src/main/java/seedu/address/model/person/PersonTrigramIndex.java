@@ -0,0 +1,186 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * An index from the trigrams (substrings of three characters) in the words of the details of persons to the persons
+ * whose details contain them, used to find persons whose details contain a keyword as part of a word.
+ * The details indexed are the same as those of {@link PersonKeywordIndex}, and are compared ignoring case, as in
+ * {@code StringUtil#containsPartialWordIgnoreCase(String, String)}.
+ *
+ * A keyword can only be contained in a word that contains all of its trigrams, so the candidates for a keyword are
+ * found by intersecting the postings of its trigrams, and are then verified against the details of each candidate.
+ * Keywords shorter than a trigram are verified against every indexed person. Only the postings are kept, as the
+ * details of a person can be read from the person itself.
+ *
+ * Persons are indexed by identity, so a person is only found if it is the same instance that was added.
+ */
+public class PersonTrigramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final Set<Person> persons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int modificationCount = 0;
+
+    /**
+     * Adds the details of {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!persons.add(person)) {
+            return;
+        }
+        for (String trigram : getTrigrams(getWords(person))) {
+            postings.computeIfAbsent(trigram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(person);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes the details of {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (!persons.remove(person)) {
+            return;
+        }
+        // a person is immutable, so its trigrams are the ones it was added with
+        for (String trigram : getTrigrams(getWords(person))) {
+            Set<Person> personsWithTrigram = postings.get(trigram);
+            personsWithTrigram.remove(person);
+            if (personsWithTrigram.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes all persons from the index.
+     */
+    public void clear() {
+        postings.clear();
+        persons.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns a predicate that tests if the details of a person contain any of the {@code keywords} as part of a
+     * word, ignoring case. The matching persons are looked up once and reused until the index changes, so a person
+     * must be added to the index before it is tested.
+     */
+    public Predicate<Person> containsAnyPartialWord(List<String> keywords) {
+        requireNonNull(keywords);
+        List<String> normalisedKeywords = keywords.stream()
+                .map(PersonTrigramIndex::normalise)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+        return new Predicate<>() {
+            private Set<Person> matches;
+            private int matchesModificationCount;
+
+            @Override
+            public boolean test(Person person) {
+                if (matches == null || matchesModificationCount != modificationCount) {
+                    matches = findMatches(normalisedKeywords);
+                    matchesModificationCount = modificationCount;
+                }
+                return matches.contains(person);
+            }
+        };
+    }
+
+    /**
+     * Returns the persons whose details contain any of the normalised {@code keywords} as part of a word.
+     */
+    private Set<Person> findMatches(List<String> keywords) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            Predicate<Person> containsKeyword = new PersonDetailsContainPartialKeywordsPredicate(List.of(keyword));
+            for (Person candidate : findCandidates(keyword)) {
+                if (!matches.contains(candidate) && containsKeyword.test(candidate)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose details contain every trigram of the normalised {@code keyword}.
+     */
+    private Set<Person> findCandidates(String keyword) {
+        if (keyword.length() < GRAM_LENGTH) {
+            return persons;
+        }
+
+        List<Set<Person>> trigramPostings = new ArrayList<>();
+        for (String trigram : getTrigrams(List.of(keyword))) {
+            Set<Person> personsWithTrigram = postings.get(trigram);
+            if (personsWithTrigram == null) {
+                return Collections.emptySet();
+            }
+            trigramPostings.add(personsWithTrigram);
+        }
+        trigramPostings.sort(Comparator.comparingInt(Set::size));
+
+        Set<Person> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Set<Person>> otherPostings = trigramPostings.subList(1, trigramPostings.size());
+        for (Person person : trigramPostings.get(0)) {
+            if (otherPostings.stream().allMatch(personsWithTrigram -> personsWithTrigram.contains(person))) {
+                candidates.add(person);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code words}.
+     */
+    private static Set<String> getTrigrams(List<String> words) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : words) {
+            for (int i = 0; i + GRAM_LENGTH <= word.length(); i++) {
+                trigrams.add(word.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return trigrams;
+    }
+
+    /**
+     * Returns the distinct words in the details of {@code person}, normalised for lookup.
+     */
+    private static List<String> getWords(Person person) {
+        Stream<String> details = Stream.concat(
+                Stream.of(person.getName().fullName, person.getPhone().value, person.getEmail().value,
+                        person.getAddress().value, person.getLabel().value, person.getRemark().value),
+                Stream.concat(person.getJobRoles().stream().map(JobRole::getValue),
+                        person.getTags().stream().map(tag -> tag.tagName)));
+        return details.flatMap(detail -> Stream.of(detail.split("\\s+")))
+                .map(PersonTrigramIndex::normalise)
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static String normalise(String word) {
+        return word.trim().toLowerCase(Locale.ROOT);
+    }
+}
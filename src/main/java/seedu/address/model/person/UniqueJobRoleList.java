@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.BitSet;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
@@ -14,7 +16,10 @@ import seedu.address.model.person.exceptions.JobRoleNotFoundException;
 
 /**
  * A list of job roles that enforces uniqueness between its elements and does not allow nulls.
- * A job role is considered unique by comparing using {@code JobRole#isSame(JobRole)}.
+ * A job role is considered unique by comparing using {@code JobRole#equals(Object)}.
+ * The job roles are also kept in a hash set, so that membership checks do not need to scan the list, and as a set of
+ * their ids in {@code JobRole#DICTIONARY}, so that the job roles of a person are looked up as ids. The list holds the
+ * interned job roles, which keeps their ids assigned.
  * Supports a minimal set of list operations.
  */
 public class UniqueJobRoleList implements Iterable<JobRole> {
@@ -22,6 +27,8 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
     private final ObservableList<JobRole> internalList = FXCollections.observableArrayList();
     private final ObservableList<JobRole> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Set<JobRole> jobRoleSet = new HashSet<>();
+    private final BitSet jobRoleIds = new BitSet();
 
     /**
      * Default constructor for this list. The following jobRoles are by default added into this list.
@@ -36,6 +43,8 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         internalList.add(new JobRole("Product Manager"));
         internalList.add(new JobRole("DevOps Engineer"));
         internalList.add(new JobRole("QA Engineer"));
+        internalList.replaceAll(JobRole.DICTIONARY::intern);
+        rebuildIndexes();
     }
 
     /**
@@ -43,7 +52,7 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
      */
     public boolean contains(JobRole toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return jobRoleSet.contains(toCheck);
     }
 
     /**
@@ -51,7 +60,16 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
      */
     public boolean containsAll(Set<JobRole> toCheck) {
         requireNonNull(toCheck);
-        return toCheck.stream().allMatch(this::contains);
+        return jobRoleSet.containsAll(toCheck);
+    }
+
+    /**
+     * Returns true if the list contains an equivalent job role for every job role of {@code person}.
+     */
+    public boolean containsJobRolesOf(Person person) {
+        requireNonNull(person);
+        // job roles that differ only in case from those in the list have other ids, but are still contained
+        return person.getJobRoleIds().allMatch(jobRoleIds::get) || containsAll(person.getJobRoles());
     }
 
     /**
@@ -63,7 +81,10 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         if (contains(toAdd)) {
             throw new DuplicateJobRoleException();
         }
-        internalList.add(toAdd);
+        JobRole interned = JobRole.DICTIONARY.intern(toAdd);
+        internalList.add(interned);
+        jobRoleSet.add(interned);
+        jobRoleIds.set(JobRole.DICTIONARY.idOf(interned));
     }
 
     /**
@@ -72,15 +93,23 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
      */
     public void remove(JobRole toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new JobRoleNotFoundException();
         }
+        JobRole removed = internalList.remove(index);
+        jobRoleSet.remove(removed);
+        jobRoleIds.clear(JobRole.DICTIONARY.idOf(removed));
     }
 
 
     public void setJobRoles(UniqueJobRoleList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        jobRoleSet.clear();
+        jobRoleSet.addAll(replacement.jobRoleSet);
+        jobRoleIds.clear();
+        jobRoleIds.or(replacement.jobRoleIds);
     }
 
     /**
@@ -94,6 +123,8 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         }
 
         internalList.setAll(jobRoles);
+        internalList.replaceAll(JobRole.DICTIONARY::intern);
+        rebuildIndexes();
     }
 
     /**
@@ -130,17 +161,17 @@ public class UniqueJobRoleList implements Iterable<JobRole> {
         return internalList.toString();
     }
 
+    private void rebuildIndexes() {
+        jobRoleSet.clear();
+        jobRoleSet.addAll(internalList);
+        jobRoleIds.clear();
+        internalList.forEach(jobRole -> jobRoleIds.set(JobRole.DICTIONARY.idOf(jobRole)));
+    }
+
     /**
      * Returns true if {@code jobRoles} contains only unique job roles.
      */
     private boolean jobRolesAreUnique(List<JobRole> jobRoles) {
-        for (int i = 0; i < jobRoles.size() - 1; i++) {
-            for (int j = i + 1; j < jobRoles.size(); j++) {
-                if (jobRoles.get(i).equals(jobRoles.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
+        return new HashSet<>(jobRoles).size() == jobRoles.size();
     }
 }
@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,13 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their case-insensitive name, which is the identity used by
+ * {@code Person#isSamePerson(Person)}, so that identity lookups do not need to scan the whole list and persons are
+ * replaced or removed at their known positions, and by the words
+ * in their details and the trigrams of those words, so that full and partial keyword searches do not need to scan
+ * the details of every person. The indexes are updated before the list itself, so that listeners of the list, such as
+ * filtered views of it, see indexes that are consistent with the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +40,26 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Entry> nameIndex = new HashMap<>();
+    /** Entries of the persons in the list, in the order of the list. */
+    private final List<Entry> entries = new ArrayList<>();
+    private final PersonKeywordIndex keywordIndex = new PersonKeywordIndex();
+    private final PersonTrigramIndex trigramIndex = new PersonTrigramIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toNameKey(toCheck));
+    }
+
+    /**
+     * Returns the person in the list with the same identity as the given argument, if any.
+     */
+    public Optional<Person> getSamePerson(Person toFind) {
+        requireNonNull(toFind);
+        return Optional.ofNullable(nameIndex.get(toNameKey(toFind))).map(entry -> entry.person);
     }
 
     /**
@@ -45,6 +71,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        Entry entry = new Entry(toAdd, entries.size());
+        nameIndex.put(toNameKey(toAdd), entry);
+        entries.add(entry);
+        indexDetails(toAdd);
         internalList.add(toAdd);
     }
 
@@ -56,8 +86,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Entry existing = nameIndex.get(toNameKey(target));
+        if (existing == null || !target.equals(existing.person)) {
             throw new PersonNotFoundException();
         }
 
@@ -65,7 +95,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Entry edited = new Entry(editedPerson, existing.position);
+        nameIndex.remove(toNameKey(target));
+        nameIndex.put(toNameKey(editedPerson), edited);
+        entries.set(edited.position, edited);
+        unindexDetails(existing.person);
+        indexDetails(editedPerson);
+        internalList.set(edited.position, editedPerson);
     }
 
     /**
@@ -74,13 +110,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Entry existing = nameIndex.get(toNameKey(toRemove));
+        if (existing == null || !toRemove.equals(existing.person)) {
             throw new PersonNotFoundException();
         }
+        nameIndex.remove(toNameKey(toRemove));
+        entries.remove(existing.position);
+        // only the positions of the persons after the removed one change
+        for (int position = existing.position; position < entries.size(); position++) {
+            entries.get(position).position = position;
+        }
+        unindexDetails(existing.person);
+        internalList.remove(existing.position);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        // entries hold positions in their own list, so they are copied rather than shared
+        rebuildNameIndex(replacement.internalList);
+        rebuildDetailIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,13 +138,44 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        if (!rebuildNameIndex(persons)) {
             throw new DuplicatePersonException();
         }
 
+        rebuildDetailIndexes(persons);
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which must be unique, such as persons read back from
+     * a snapshot of this list. The persons are not checked again.
+     */
+    public void setValidatedPersons(List<Person> persons) {
+        requireNonNull(persons);
+        boolean isUnique = rebuildNameIndex(persons);
+        assert isUnique;
+        rebuildDetailIndexes(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Returns a predicate that tests if a person in this list has details containing any of the {@code keywords}
+     * as a full word, ignoring case. The predicate looks the keywords up in the word index of this list, and stays
+     * consistent with this list as it changes.
+     */
+    public Predicate<Person> containsAnyKeyword(List<String> keywords) {
+        return keywordIndex.containsAnyWord(keywords);
+    }
+
+    /**
+     * Returns a predicate that tests if a person in this list has details containing any of the {@code keywords},
+     * possibly as part of a word, ignoring case. The predicate looks the keywords up in the trigram index of this
+     * list, and stays consistent with this list as it changes.
+     */
+    public Predicate<Person> containsAnyPartialKeyword(List<String> keywords) {
+        return trigramIndex.containsAnyPartialWord(keywords);
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -106,7 +185,7 @@ public class UniquePersonList implements Iterable<Person> {
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -134,17 +213,69 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void indexDetails(Person person) {
+        keywordIndex.add(person);
+        trigramIndex.add(person);
+    }
+
+    private void unindexDetails(Person person) {
+        keywordIndex.remove(person);
+        trigramIndex.remove(person);
+    }
+
+    private void rebuildDetailIndexes(List<Person> persons) {
+        keywordIndex.clear();
+        trigramIndex.clear();
+        persons.forEach(this::indexDetails);
+    }
+
+    /**
+     * Returns the key under which {@code person} is stored in the name index.
+     * Two persons have the same key exactly when {@code Person#isSamePerson(Person)} holds for them.
+     */
+    public static String toNameKey(Person person) {
+        return toNameKey(person.getName());
+    }
+
+    /**
+     * Returns the key under which a person named {@code name} is stored in the name index.
+     */
+    public static String toNameKey(Name name) {
+        return name.fullName.toLowerCase(Locale.ROOT);
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Replaces the name index and the entries with those of {@code persons}, if {@code persons} contains no duplicate
+     * persons. Returns false, leaving the name index and the entries unchanged, if it does.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private boolean rebuildNameIndex(List<Person> persons) {
+        Map<String, Entry> replacementIndex = new HashMap<>();
+        List<Entry> replacementEntries = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Entry entry = new Entry(person, replacementEntries.size());
+            if (replacementIndex.putIfAbsent(toNameKey(person), entry) != null) {
+                return false;
             }
+            replacementEntries.add(entry);
         }
+
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
+        entries.clear();
+        entries.addAll(replacementEntries);
         return true;
     }
+
+    /**
+     * A person in the list and its position in the list, which is kept up to date as persons are removed.
+     */
+    private static class Entry {
+        private final Person person;
+        private int position;
+
+        Entry(Person person, int position) {
+            this.person = person;
+            this.position = position;
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package seedu.address.model.schedule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list of schedules that can set or remove schedules at many positions in a single list change,
+ * so that listeners are notified once, of the affected positions only.
+ */
+class ObservableScheduleList extends ModifiableObservableListBase<Schedule> {
+
+    private final List<Schedule> schedules = new ArrayList<>();
+
+    @Override
+    public Schedule get(int index) {
+        return schedules.get(index);
+    }
+
+    @Override
+    public int size() {
+        return schedules.size();
+    }
+
+    @Override
+    protected void doAdd(int index, Schedule schedule) {
+        schedules.add(index, schedule);
+    }
+
+    @Override
+    protected Schedule doSet(int index, Schedule schedule) {
+        return schedules.set(index, schedule);
+    }
+
+    @Override
+    protected Schedule doRemove(int index) {
+        return schedules.remove(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement} in a single list change, without removing the
+     * schedules one at a time.
+     */
+    @Override
+    public boolean setAll(Collection<? extends Schedule> replacement) {
+        List<Schedule> removed = new ArrayList<>(schedules);
+        schedules.clear();
+        schedules.addAll(replacement);
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!schedules.isEmpty()) {
+            nextAdd(0, schedules.size());
+        }
+        modCount++;
+        endChange();
+        return true;
+    }
+
+    /**
+     * Replaces the schedule at each of the {@code positions} with the schedule at the same index of
+     * {@code replacements}, in a single list change.
+     */
+    void setAt(int[] positions, List<Schedule> replacements) {
+        assert positions.length == replacements.size();
+        beginChange();
+        for (int i = 0; i < positions.length; i++) {
+            nextSet(positions[i], schedules.set(positions[i], replacements.get(i)));
+        }
+        endChange();
+    }
+
+    /**
+     * Removes the schedules at the distinct {@code positions}, in a single list change.
+     * The schedules after the first removed one are moved in one pass.
+     */
+    void removeAt(int[] positions) {
+        if (positions.length == 0) {
+            return;
+        }
+        int[] sortedPositions = positions.clone();
+        Arrays.sort(sortedPositions);
+
+        beginChange();
+        int writePosition = sortedPositions[0];
+        int removedCount = 0;
+        for (int readPosition = sortedPositions[0]; readPosition < schedules.size(); readPosition++) {
+            Schedule schedule = schedules.get(readPosition);
+            if (removedCount < sortedPositions.length && sortedPositions[removedCount] == readPosition) {
+                // the position is given as it is once the schedules removed before it are gone
+                nextRemove(readPosition - removedCount, schedule);
+                removedCount++;
+            } else {
+                schedules.set(writePosition++, schedule);
+            }
+        }
+        schedules.subList(writePosition, schedules.size()).clear();
+        modCount++;
+        endChange();
+    }
+}
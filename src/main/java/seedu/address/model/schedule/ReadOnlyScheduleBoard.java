@@ -11,4 +11,10 @@ public interface ReadOnlyScheduleBoard {
      * This list will not contain any duplicate schedules.
      */
     List<Schedule> getScheduleList();
+
+    /**
+     * Returns a number that changes whenever the schedules of this schedule board change, so that it is unchanged if
+     * and only if the schedules are unchanged.
+     */
+    long getVersion();
 }
@@ -9,7 +9,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -21,6 +20,9 @@ import seedu.address.model.person.Name;
 /**
  * Represents a Person's schedule in the schedule board.
  * Guarantees: immutable; is always valid
+ *
+ * The timing of a schedule is packed into a single {@code long}, and its candidate is referred to by their name and
+ * email, so that a schedule stays compact and cheap to construct.
  */
 public class Schedule implements Comparable<Schedule> {
 
@@ -30,16 +32,24 @@ public class Schedule implements Comparable<Schedule> {
             "An interview schedule's date and duration should contain 3 following details: "
                     + "date, start time, end time in the format "
                     + "yyyy-MM-dd HH:mm HH:mm (e.g. 2025-05-13 12:00 13:00)";
-    private final Logger logger = LogsCenter.getLogger(getClass());
-    private LocalDate date;
-    private LocalTime startTime;
-    private LocalTime endTime;
-    private Mode mode;
-    private Name candidateName;
-    private Email candidateEmail;
+    private static final Logger logger = LogsCenter.getLogger(Schedule.class);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    // The duration of a schedule is less than a day, so it fits in the lowest bits of the packed time.
+    private static final int DURATION_BITS = 11;
+    private static final long DURATION_MASK = (1L << DURATION_BITS) - 1;
+
+    /**
+     * The start of the schedule as minutes since the epoch, followed by its duration in minutes.
+     */
+    private final long packedTime;
+    private final Mode mode;
+    private final Name candidateName;
+    private final Email candidateEmail;
 
     /**
      * Constructs a {@code Schedule}.
+     * Times are kept to the minute, the precision of every schedule input format.
      *
      * @param date A valid interview date.
      * @param startTime A valid interview start time.
@@ -54,16 +64,14 @@ public class Schedule implements Comparable<Schedule> {
         checkArgument(checkStartEndDateTime(startTime, endTime),
                 MESSAGE_SCHEDULE_START_TIME_BEFORE_END_TIME);
 
-        this.date = date;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.packedTime = pack(date, startTime, endTime);
         this.mode = mode;
         this.candidateName = candidateName;
         this.candidateEmail = candidateEmail;
     }
 
     /**
-     * Constructs a {@code Schedule}.
+     * Constructs a {@code Schedule} without a candidate.
      *
      * @param date A valid interview date.
      * @param startTime A valid interview start time.
@@ -72,15 +80,17 @@ public class Schedule implements Comparable<Schedule> {
      */
     public Schedule(LocalDate date, LocalTime startTime, LocalTime endTime, Mode mode) {
         requireAllNonNull(date, startTime, endTime, mode);
+        checkArgument(checkStartEndDateTime(startTime, endTime),
+                MESSAGE_SCHEDULE_START_TIME_BEFORE_END_TIME);
 
-        this.date = date;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.packedTime = pack(date, startTime, endTime);
         this.mode = mode;
+        this.candidateName = null;
+        this.candidateEmail = null;
     }
 
     /**
-     * Constructs a {@code Schedule}.
+     * Constructs a {@code Schedule} without a mode and a candidate.
      *
      * @param date A valid interview date.
      * @param startTime A valid interview start time.
@@ -91,21 +101,65 @@ public class Schedule implements Comparable<Schedule> {
         checkArgument(checkStartEndDateTime(startTime, endTime),
                 MESSAGE_SCHEDULE_START_TIME_BEFORE_END_TIME);
 
-        this.date = date;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.packedTime = pack(date, startTime, endTime);
+        this.mode = null;
+        this.candidateName = null;
+        this.candidateEmail = null;
+    }
+
+    private Schedule(long packedTime, Mode mode, Name candidateName, Email candidateEmail) {
+        this.packedTime = packedTime;
+        this.mode = mode;
+        this.candidateName = candidateName;
+        this.candidateEmail = candidateEmail;
+    }
+
+    /**
+     * Returns a {@code Schedule} of the given timing, mode and candidate, which are known to be valid, without
+     * validating them again. {@code mode} may be null, as may the candidate if it has no mode.
+     *
+     * @param startEpochMinute The start of the schedule as minutes since the epoch.
+     * @param durationMinutes The positive duration of the schedule in minutes, less than a day.
+     */
+    public static Schedule ofValidated(long startEpochMinute, int durationMinutes, Mode mode, Name candidateName,
+            Email candidateEmail) {
+        assert durationMinutes > 0 && durationMinutes < MINUTES_PER_DAY;
+        return new Schedule((startEpochMinute << DURATION_BITS) | durationMinutes, mode, candidateName,
+                candidateEmail);
     }
 
     public LocalDate getDate() {
-        return this.date;
+        return LocalDate.ofEpochDay(Math.floorDiv(getStartEpochMinute(), MINUTES_PER_DAY));
     }
 
     public LocalTime getStartTime() {
-        return this.startTime;
+        return LocalTime.ofSecondOfDay(Math.floorMod(getStartEpochMinute(), MINUTES_PER_DAY) * 60L);
     }
 
     public LocalTime getEndTime() {
-        return this.endTime;
+        return LocalTime.ofSecondOfDay(Math.floorMod(getStartEpochMinute(), MINUTES_PER_DAY) * 60L
+                + getDurationMinutes() * 60L);
+    }
+
+    /**
+     * Returns the start of this schedule as minutes since the epoch.
+     */
+    public long getStartEpochMinute() {
+        return packedTime >> DURATION_BITS;
+    }
+
+    /**
+     * Returns the end of this schedule as minutes since the epoch.
+     */
+    public long getEndEpochMinute() {
+        return getStartEpochMinute() + getDurationMinutes();
+    }
+
+    /**
+     * Returns the duration of this schedule in minutes.
+     */
+    public int getDurationMinutes() {
+        return (int) (packedTime & DURATION_MASK);
     }
 
     public Mode getMode() {
@@ -120,12 +174,13 @@ public class Schedule implements Comparable<Schedule> {
         return this.candidateEmail;
     }
 
-    public void setCandidateEmail(Email email) {
-        this.candidateEmail = email;
-    }
-
-    public void setCandidateName(Name candidateName) {
-        this.candidateName = candidateName;
+    /**
+     * Returns a copy of this schedule for the candidate with the given {@code candidateName} and
+     * {@code candidateEmail}.
+     */
+    public Schedule withCandidate(Name candidateName, Email candidateEmail) {
+        requireAllNonNull(candidateName, candidateEmail);
+        return new Schedule(packedTime, mode, candidateName, candidateEmail);
     }
 
     /**
@@ -143,12 +198,10 @@ public class Schedule implements Comparable<Schedule> {
         }
 
         Schedule otherSchedule = (Schedule) other;
-        if (!this.getDate().equals(otherSchedule.getDate())) {
-            return false;
-        }
         // Schedules clash if one starts before the other ends and vice versa.
-        boolean clash = this.getStartTime().isBefore(otherSchedule.getEndTime())
-                && otherSchedule.getStartTime().isBefore(this.getEndTime());
+        // Schedules do not span midnight, so schedules on different dates never clash.
+        boolean clash = this.getStartEpochMinute() < otherSchedule.getEndEpochMinute()
+                && otherSchedule.getStartEpochMinute() < this.getEndEpochMinute();
         if (clash) {
             logger.info("Time clash detected between schedules.");
         }
@@ -159,14 +212,13 @@ public class Schedule implements Comparable<Schedule> {
      * Returns true is the schedule is  in the past.
      */
     public boolean isPast() {
-        LocalDateTime scheduleEndDateTime = LocalDateTime.of(this.date, this.endTime);
+        LocalDateTime scheduleEndDateTime = LocalDateTime.of(getDate(), getEndTime());
         return scheduleEndDateTime.isBefore(LocalDateTime.now());
     }
 
     @Override
     public int compareTo(Schedule other) {
-        int dateComparison = this.date.compareTo(other.date);
-        return dateComparison != 0 ? dateComparison : this.startTime.compareTo(other.startTime);
+        return Long.compare(this.getStartEpochMinute(), other.getStartEpochMinute());
     }
 
     @Override
@@ -179,9 +231,7 @@ public class Schedule implements Comparable<Schedule> {
             return false;
         }
 
-        return otherSchedule.getDate().equals(getDate())
-                && otherSchedule.getStartTime().equals(getStartTime())
-                && otherSchedule.getEndTime().equals(getEndTime());
+        return otherSchedule.packedTime == packedTime;
     }
 
     @Override
@@ -189,16 +239,22 @@ public class Schedule implements Comparable<Schedule> {
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");
         return new ToStringBuilder(this)
-                .add("date", date.format(dateFormatter))
-                .add("startTime", startTime.format(timeFormatter))
-                .add("endTime", endTime.format(timeFormatter))
+                .add("date", getDate().format(dateFormatter))
+                .add("startTime", getStartTime().format(timeFormatter))
+                .add("endTime", getEndTime().format(timeFormatter))
                 .add("mode", mode)
                 .toString();
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(date, startTime, endTime, mode, candidateName, candidateEmail);
+        // consistent with equals, which only compares the timing
+        return Long.hashCode(packedTime);
+    }
+
+    private static long pack(LocalDate date, LocalTime startTime, LocalTime endTime) {
+        long startEpochMinute = date.toEpochDay() * MINUTES_PER_DAY + startTime.getHour() * 60 + startTime.getMinute();
+        long durationMinutes = (endTime.toSecondOfDay() / 60) - (startTime.toSecondOfDay() / 60);
+        return (startEpochMinute << DURATION_BITS) | durationMinutes;
     }
 }
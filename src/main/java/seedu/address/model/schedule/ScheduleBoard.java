@@ -6,7 +6,9 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.VersionCounter;
 
 /**
  * Organizes all schedule data at the Schedule Board level
@@ -16,6 +18,9 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
 
     private final UniqueScheduleList schedules;
 
+    /** Identifies the current state of the schedules of this schedule board. */
+    private long version = VersionCounter.next();
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -50,6 +55,16 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      */
     public void setSchedules(List<Schedule> schedules) {
         this.schedules.setSchedules(schedules);
+        version = VersionCounter.next();
+    }
+
+    /**
+     * Replaces the contents of the schedule list with {@code schedules}, which must be unique and sorted.
+     * The schedules are neither checked nor sorted again.
+     */
+    public void setValidatedSchedules(List<Schedule> schedules) {
+        this.schedules.setValidatedSchedules(schedules);
+        version = VersionCounter.next();
     }
 
     /**
@@ -59,6 +74,7 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
         requireNonNull(newData);
 
         setSchedules(newData.getScheduleList());
+        version = newData.getVersion();
     }
 
     /**
@@ -75,6 +91,7 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      */
     public void addSchedule(Schedule schedule) {
         schedules.add(schedule);
+        version = VersionCounter.next();
     }
 
     /**
@@ -87,6 +104,7 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
         requireNonNull(editedSchedule);
 
         schedules.setSchedule(target, editedSchedule);
+        version = VersionCounter.next();
     }
 
     /**
@@ -95,6 +113,7 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      */
     public void removeSchedule(Schedule key) {
         schedules.remove(key);
+        version = VersionCounter.next();
     }
 
 
@@ -113,6 +132,31 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
      */
     public void editCandidateInSchedule(Schedule schedule, Person editedCandidate) {
         schedules.editCandidateInSchedule(schedule, editedCandidate);
+        version = VersionCounter.next();
+    }
+
+    /**
+     * Returns the schedules of the candidate with the given {@code email}.
+     */
+    public List<Schedule> getSchedulesOfCandidate(Email email) {
+        return schedules.getSchedulesOfCandidate(email);
+    }
+
+    /**
+     * Replaces the candidate info in every schedule of {@code target} with the identity of {@code editedCandidate}.
+     */
+    public void editCandidateInSchedules(Person target, Person editedCandidate) {
+        schedules.editCandidateInSchedules(target, editedCandidate);
+        version = VersionCounter.next();
+    }
+
+    /**
+     * Removes every schedule of {@code candidate} from this {@code ScheduleBoard}.
+     */
+    public void removeSchedulesOfCandidate(Person candidate) {
+        requireNonNull(candidate);
+        schedules.removeSchedulesOfCandidate(candidate.getEmail());
+        version = VersionCounter.next();
     }
 
 
@@ -133,6 +177,11 @@ public class ScheduleBoard implements ReadOnlyScheduleBoard {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Schedule> getScheduleList() {
         return schedules.asUnmodifiableObservableList();
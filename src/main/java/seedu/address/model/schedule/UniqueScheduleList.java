@@ -3,14 +3,21 @@ package seedu.address.model.schedule;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
@@ -22,6 +29,10 @@ import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
  * removal of schedule uses Schedule#equals(Schedule) to ensure that the schedule being added, updated or removed is
  * unique in terms of identity in the UniqueScheduleList.
  *
+ * The list is kept sorted by date and start time. Schedules are additionally indexed by their start time, so that
+ * clashing schedules can be found without scanning the whole list, and by their candidate's email, so that the
+ * schedules of a candidate can be found without scanning the whole list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Schedule#equals(Object)
@@ -30,16 +41,24 @@ public class UniqueScheduleList implements Iterable<Schedule> {
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
-    private final ObservableList<Schedule> internalList = FXCollections.observableArrayList();
+    private final ObservableScheduleList internalList = new ObservableScheduleList();
     private final ObservableList<Schedule> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final NavigableMap<Long, List<Schedule>> timeIndex = new TreeMap<>();
+    private final Map<Email, List<Schedule>> candidateIndex = new HashMap<>();
+
+    /**
+     * Upper bound on the duration of any schedule in the list, used to bound the range searched for clashes.
+     * It is only recomputed when the whole list is replaced, as a bound that is too large is still correct.
+     */
+    private long longestDurationMinutes = 0;
 
     /**
      * Returns true if the list contains an equivalent schedule as the given argument.
      */
     public boolean contains(Schedule toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::equals);
+        return findEquivalent(toCheck) != null;
     }
 
     /**
@@ -48,8 +67,9 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public boolean hasSameTime(Schedule schedule) {
         requireNonNull(schedule);
-        logger.info("Number of clashes " + internalList.stream().filter(schedule::timeClash).count());
-        return internalList.stream().filter(schedule::timeClash).count() > 0;
+        long clashes = countClashes(schedule, null);
+        logger.info("Number of clashes " + clashes);
+        return clashes > 0;
     }
 
     /**
@@ -58,10 +78,9 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public boolean hasSameTimeEdit(Schedule editedSchedule, Schedule scheduleToEdit) {
         requireNonNull(editedSchedule);
-        logger.info("Number of clashes " + internalList.stream().filter(schedule -> !schedule.equals(scheduleToEdit))
-                .filter(editedSchedule::timeClash).count());
-        return internalList.stream().filter(schedule -> !schedule.equals(scheduleToEdit))
-                .filter(editedSchedule::timeClash).count() > 0;
+        long clashes = countClashes(editedSchedule, scheduleToEdit);
+        logger.info("Number of clashes " + clashes);
+        return clashes > 0;
     }
 
 
@@ -74,8 +93,8 @@ public class UniqueScheduleList implements Iterable<Schedule> {
         if (contains(toAdd)) {
             throw new DuplicateScheduleException();
         }
-        internalList.add(toAdd);
-        FXCollections.sort(internalList);
+        internalList.add(insertionPointOf(toAdd), toAdd);
+        addToIndexes(toAdd);
     }
 
     /**
@@ -85,8 +104,8 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     public void setSchedule(Schedule target, Schedule editedSchedule) {
         requireAllNonNull(target, editedSchedule);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Schedule existing = findEquivalent(target);
+        if (existing == null) {
             throw new ScheduleNotFoundException();
         }
 
@@ -94,8 +113,15 @@ public class UniqueScheduleList implements Iterable<Schedule> {
             throw new DuplicateScheduleException();
         }
 
-        internalList.set(index, editedSchedule);
-        FXCollections.sort(internalList);
+        int index = positionOf(existing);
+        removeFromIndexes(existing);
+        if (existing.compareTo(editedSchedule) == 0) {
+            internalList.set(index, editedSchedule);
+        } else {
+            internalList.remove(index);
+            internalList.add(insertionPointOf(editedSchedule), editedSchedule);
+        }
+        addToIndexes(editedSchedule);
     }
 
     /**
@@ -104,15 +130,19 @@ public class UniqueScheduleList implements Iterable<Schedule> {
      */
     public void remove(Schedule toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Schedule existing = findEquivalent(toRemove);
+        if (existing == null) {
             throw new ScheduleNotFoundException();
         }
+        internalList.remove(positionOf(existing));
+        removeFromIndexes(existing);
     }
 
     public void setSchedules(UniqueScheduleList replacement) {
         requireNonNull(replacement);
+        // the replacement is already sorted
         internalList.setAll(replacement.internalList);
-        FXCollections.sort(internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -124,8 +154,21 @@ public class UniqueScheduleList implements Iterable<Schedule> {
         if (!schedulesAreUnique(schedules)) {
             throw new DuplicateScheduleException();
         }
+        List<Schedule> sortedSchedules = new ArrayList<>(schedules);
+        Collections.sort(sortedSchedules);
+        internalList.setAll(sortedSchedules);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code schedules}, which must be unique and already sorted, such as
+     * schedules read back from a snapshot of this list. The schedules are neither checked nor sorted again.
+     */
+    public void setValidatedSchedules(List<Schedule> schedules) {
+        requireNonNull(schedules);
+        assert schedulesAreUnique(schedules);
         internalList.setAll(schedules);
-        FXCollections.sort(internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -153,14 +196,63 @@ public class UniqueScheduleList implements Iterable<Schedule> {
     public void editCandidateInSchedule(Schedule target, Person editedCandidate) {
         requireAllNonNull(target, editedCandidate);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Schedule schedule = findEquivalent(target);
+        if (schedule == null) {
             throw new ScheduleNotFoundException();
         }
 
-        internalList.get(index).setCandidateEmail(editedCandidate.getEmail());
-        internalList.get(index).setCandidateName(editedCandidate.getName());
-        FXCollections.sort(internalList);
+        replaceCandidate(schedule, editedCandidate);
+    }
+
+    /**
+     * Returns the schedules of the candidate with the given {@code email}, in no particular order.
+     */
+    public List<Schedule> getSchedulesOfCandidate(Email email) {
+        requireNonNull(email);
+        return List.copyOf(candidateIndex.getOrDefault(email, Collections.emptyList()));
+    }
+
+    /**
+     * Replaces the candidate info in every schedule of {@code target} with the candidate info from
+     * {@code editedCandidate}.
+     * Only the affected schedules are visited; since the candidate info does not affect the ordering of schedules,
+     * each of them is replaced by a copy in place without re-sorting the list, in a single change of the affected
+     * positions.
+     */
+    public void editCandidateInSchedules(Person target, Person editedCandidate) {
+        requireAllNonNull(target, editedCandidate);
+
+        List<Schedule> affected = candidateIndex.remove(target.getEmail());
+        if (affected == null) {
+            return;
+        }
+
+        int[] positions = new int[affected.size()];
+        List<Schedule> editedSchedules = new ArrayList<>(affected.size());
+        for (Schedule schedule : affected) {
+            Schedule editedSchedule = schedule.withCandidate(editedCandidate.getName(), editedCandidate.getEmail());
+            positions[editedSchedules.size()] = positionOf(schedule);
+            editedSchedules.add(editedSchedule);
+            removeFromIndexes(schedule);
+            addToIndexes(editedSchedule);
+        }
+        internalList.setAt(positions, editedSchedules);
+    }
+
+    /**
+     * Removes every schedule of the candidate with the given {@code email} from the list in a single list change.
+     */
+    public void removeSchedulesOfCandidate(Email email) {
+        requireNonNull(email);
+
+        List<Schedule> affected = candidateIndex.remove(email);
+        if (affected == null) {
+            return;
+        }
+
+        int[] positions = affected.stream().mapToInt(this::positionOf).toArray();
+        internalList.removeAt(positions);
+        affected.forEach(this::removeFromTimeIndex);
     }
 
     @Override
@@ -186,6 +278,129 @@ public class UniqueScheduleList implements Iterable<Schedule> {
         return internalList.hashCode();
     }
 
+    /**
+     * Returns the schedule in the list that is equivalent to {@code schedule}, or null if there is none.
+     */
+    private Schedule findEquivalent(Schedule schedule) {
+        return timeIndex.getOrDefault(schedule.getStartEpochMinute(), Collections.emptyList()).stream()
+                .filter(schedule::equals)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Returns the number of schedules in the list, other than {@code excluded}, of which timing clashes with
+     * {@code schedule}.
+     * Only schedules that start within {@code longestDurationMinutes} before {@code schedule} starts, and before it
+     * ends, are examined, since no other schedule can overlap it.
+     */
+    private long countClashes(Schedule schedule, Schedule excluded) {
+        long earliestClashingStart = schedule.getStartEpochMinute() - longestDurationMinutes;
+        return timeIndex.subMap(earliestClashingStart, true, schedule.getEndEpochMinute(), false).values().stream()
+                .flatMap(List::stream)
+                .filter(other -> !other.equals(excluded))
+                .filter(schedule::timeClash)
+                .count();
+    }
+
+    /**
+     * Returns the position at which {@code schedule} should be inserted to keep the list sorted.
+     * Schedules that compare equal to {@code schedule} stay before it.
+     */
+    private int insertionPointOf(Schedule schedule) {
+        int position = Collections.binarySearch(internalList, schedule);
+        if (position < 0) {
+            return -position - 1;
+        }
+        while (position < internalList.size() && internalList.get(position).compareTo(schedule) == 0) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the position of {@code schedule} in the list, which is kept sorted by date and start time.
+     */
+    private int positionOf(Schedule schedule) {
+        int position = Collections.binarySearch(internalList, schedule);
+        if (position < 0) {
+            return internalList.indexOf(schedule);
+        }
+        // Schedules with the same date and start time are adjacent; look for the schedule itself among them.
+        while (position > 0 && internalList.get(position - 1).compareTo(schedule) == 0) {
+            position--;
+        }
+        for (; position < internalList.size() && internalList.get(position).compareTo(schedule) == 0; position++) {
+            if (internalList.get(position) == schedule) {
+                return position;
+            }
+        }
+        return internalList.indexOf(schedule);
+    }
+
+    /**
+     * Replaces {@code schedule} in the list and its indexes with a copy for {@code editedCandidate}, at the same
+     * position, so that listeners of the list see the update.
+     */
+    private void replaceCandidate(Schedule schedule, Person editedCandidate) {
+        Schedule editedSchedule = schedule.withCandidate(editedCandidate.getName(), editedCandidate.getEmail());
+        int position = positionOf(schedule);
+        removeFromIndexes(schedule);
+        internalList.set(position, editedSchedule);
+        addToIndexes(editedSchedule);
+    }
+
+    private void addToIndexes(Schedule schedule) {
+        addToTimeIndex(schedule);
+        addToCandidateIndex(schedule);
+    }
+
+    private void removeFromIndexes(Schedule schedule) {
+        removeFromTimeIndex(schedule);
+        removeFromCandidateIndex(schedule);
+    }
+
+    private void addToTimeIndex(Schedule schedule) {
+        timeIndex.computeIfAbsent(schedule.getStartEpochMinute(), unused -> new ArrayList<>()).add(schedule);
+        longestDurationMinutes = Math.max(longestDurationMinutes, schedule.getDurationMinutes());
+    }
+
+    private void removeFromTimeIndex(Schedule schedule) {
+        List<Schedule> schedulesAtTime = timeIndex.get(schedule.getStartEpochMinute());
+        if (schedulesAtTime == null) {
+            return;
+        }
+        schedulesAtTime.removeIf(indexed -> indexed == schedule);
+        if (schedulesAtTime.isEmpty()) {
+            timeIndex.remove(schedule.getStartEpochMinute());
+        }
+    }
+
+    private void addToCandidateIndex(Schedule schedule) {
+        if (schedule.getCandidateEmail() == null) {
+            return;
+        }
+        candidateIndex.computeIfAbsent(schedule.getCandidateEmail(), unused -> new ArrayList<>()).add(schedule);
+    }
+
+    private void removeFromCandidateIndex(Schedule schedule) {
+        List<Schedule> schedulesOfCandidate = candidateIndex.get(schedule.getCandidateEmail());
+        if (schedulesOfCandidate == null) {
+            return;
+        }
+        schedulesOfCandidate.removeIf(indexed -> indexed == schedule);
+        if (schedulesOfCandidate.isEmpty()) {
+            candidateIndex.remove(schedule.getCandidateEmail());
+        }
+    }
+
+    private void rebuildIndexes() {
+        timeIndex.clear();
+        candidateIndex.clear();
+        longestDurationMinutes = 0;
+        internalList.forEach(this::addToIndexes);
+    }
+
     /**
      * Returns true if {@code schedules} contains only unique schedules.
      */
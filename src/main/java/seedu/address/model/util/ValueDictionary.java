@@ -0,0 +1,218 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * A dictionary of the values in use that assigns each of them a small integer id, so that collections of values can
+ * be compared and looked up as ids, and values with the same key share one instance.
+ *
+ * Values are held weakly, so a value is dropped from the dictionary once nothing else refers to it, and its id is
+ * then reused for a later value. An id therefore stays assigned to its value only as long as the interned value is
+ * referred to, which holders of ids ensure by also holding the interned values.
+ *
+ * @param <T> the type of values in the dictionary
+ */
+public class ValueDictionary<T> {
+
+    private final Function<T, String> keyFunction;
+    private final Comparator<T> keyComparator;
+    private final Map<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    private final ReferenceQueue<T> staleEntries = new ReferenceQueue<>();
+    /** Entries by id, or null for ids that are free. Only accessed while holding the lock of this dictionary. */
+    private final List<Entry<T>> entriesById = new ArrayList<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+
+    /**
+     * Creates a dictionary in which values with equal keys, as given by {@code keyFunction}, share one instance
+     * and one id.
+     */
+    public ValueDictionary(Function<T, String> keyFunction) {
+        requireNonNull(keyFunction);
+        this.keyFunction = keyFunction;
+        this.keyComparator = Comparator.comparing(keyFunction);
+    }
+
+    /**
+     * Returns the value in the dictionary with the same key as {@code value}, adding {@code value} if there is none.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        Entry<T> entry = entries.get(keyFunction.apply(value));
+        T existing = entry == null ? null : entry.get();
+        return existing != null ? existing : add(value);
+    }
+
+    /**
+     * Returns the interned {@code values} with distinct keys, sorted by key.
+     */
+    public T[] internAll(Collection<? extends T> values, IntFunction<T[]> generator) {
+        requireNonNull(values);
+        Map<String, T> distinctValues = new LinkedHashMap<>();
+        for (T value : values) {
+            distinctValues.putIfAbsent(keyFunction.apply(value), value);
+        }
+        T[] interned = distinctValues.values().stream().map(this::intern).toArray(generator);
+        Arrays.sort(interned, keyComparator);
+        return interned;
+    }
+
+    /**
+     * Returns the id of {@code value}, which must have been interned and still be referred to.
+     */
+    public int idOf(T value) {
+        requireNonNull(value);
+        Entry<T> entry = entries.get(keyFunction.apply(value));
+        assert entry != null && entry.get() != null : "Value is not in the dictionary";
+        return entry.id;
+    }
+
+    /**
+     * Returns the sorted ids of the interned {@code values}, which must have distinct keys.
+     */
+    public int[] idsOf(T[] values) {
+        requireNonNull(values);
+        int[] ids = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            ids[i] = idOf(values[i]);
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    /**
+     * Returns the value with the given {@code id}, which must be the id of a value that is still referred to.
+     */
+    public synchronized T decode(int id) {
+        T value = entriesById.get(id).get();
+        assert value != null : "Id is not in use";
+        return value;
+    }
+
+    /**
+     * Returns a set view of {@code values}, which must have distinct keys and not be modified afterwards.
+     */
+    public static <T> Set<T> asSet(T[] values) {
+        requireNonNull(values);
+        return new ArraySet<>(values);
+    }
+
+    /**
+     * Returns the number of values in the dictionary, including values that are no longer used but not yet dropped.
+     */
+    synchronized int size() {
+        removeStaleEntries();
+        return entries.size();
+    }
+
+    /**
+     * Returns the reference through which the dictionary holds the interned {@code value}, so that tests can clear
+     * it as the garbage collector would.
+     */
+    Reference<T> getReference(T value) {
+        return entries.get(keyFunction.apply(value));
+    }
+
+    private synchronized T add(T value) {
+        removeStaleEntries();
+        String key = keyFunction.apply(value);
+        Entry<T> entry = entries.get(key);
+        T existing = entry == null ? null : entry.get();
+        if (existing != null) {
+            return existing;
+        }
+
+        int id = freeIds.isEmpty() ? entriesById.size() : freeIds.pop();
+        Entry<T> newEntry = new Entry<>(key, id, value, staleEntries);
+        if (id == entriesById.size()) {
+            entriesById.add(newEntry);
+        } else {
+            entriesById.set(id, newEntry);
+        }
+        entries.put(key, newEntry);
+        return value;
+    }
+
+    /**
+     * Drops the entries of values that are no longer referred to, and frees their ids.
+     */
+    private synchronized void removeStaleEntries() {
+        Reference<? extends T> stale;
+        while ((stale = staleEntries.poll()) != null) {
+            Entry<?> entry = (Entry<?>) stale;
+            entries.remove(entry.key, entry);
+            entriesById.set(entry.id, null);
+            freeIds.push(entry.id);
+        }
+    }
+
+    /**
+     * A weak reference to a value that remembers the value's key and id, so that both can be freed once the value
+     * is gone.
+     */
+    private static class Entry<T> extends WeakReference<T> {
+        private final String key;
+        private final int id;
+
+        Entry(String key, int id, T value, ReferenceQueue<T> queue) {
+            super(value, queue);
+            this.key = key;
+            this.id = id;
+        }
+    }
+
+    /**
+     * A set backed by an array of values.
+     */
+    private static class ArraySet<T> extends AbstractSet<T> {
+        private final T[] values;
+
+        ArraySet(T[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public T next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return values[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
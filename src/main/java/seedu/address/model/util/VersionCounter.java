@@ -0,0 +1,22 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues versions that identify the states of the data in the model.
+ * Versions are unique across all data in the application, so two pieces of data with the same version are in the
+ * same state, and a version identifies a state without a reference to the data it belongs to.
+ */
+public class VersionCounter {
+
+    private static final AtomicLong lastVersion = new AtomicLong();
+
+    private VersionCounter() {} // prevents instantiation
+
+    /**
+     * Returns a version that has not been returned before.
+     */
+    public static long next() {
+        return lastVersion.incrementAndGet();
+    }
+}
@@ -0,0 +1,452 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.storage.PageFile.NO_PAGE;
+import static seedu.address.storage.PageFile.PAGE_SIZE;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A B+tree in a {@code PageFile} that maps byte string keys to byte string values, in the unsigned lexicographic
+ * order of the keys. The page number of its root is kept in a root slot of the page file.
+ *
+ * Each node is a page. Values are kept in the leaves, which are linked in key order, and values too large to be kept
+ * in a leaf are stored as blobs. An insert or a removal touches only the pages on the path from the root to a leaf,
+ * and the pages of any nodes that are split. Nodes are not merged when entries are removed, so removals never touch
+ * more than a leaf; the space is reused by later inserts into the same leaves.
+ */
+class BPlusTree {
+
+    public static final int MAX_KEY_LENGTH = 256;
+    public static final String MESSAGE_KEY_TOO_LONG = "Keys must be at most " + MAX_KEY_LENGTH + " bytes long.";
+
+    /**
+     * Length above which a value is stored as a blob instead of in its leaf. Together with the limit on keys, this
+     * keeps an entry under a fifth of a page, so that both halves of a split node fit in a page.
+     */
+    private static final int MAX_INLINE_VALUE_LENGTH = 512;
+
+    private static final byte LEAF_PAGE = 1;
+    private static final byte INTERNAL_PAGE = 2;
+    private static final int COUNT_POSITION = 1;
+    private static final int NEXT_LEAF_POSITION = 3;
+    private static final int ENTRIES_POSITION = 7;
+
+    private static final byte INLINE_VALUE = 0;
+    private static final byte BLOB_VALUE = 1;
+    private static final int INLINE_VALUE_HEADER_LENGTH = 3;
+    private static final int BLOB_VALUE_CELL_LENGTH = 9;
+
+    private final PageFile pageFile;
+    private final int rootIndex;
+
+    /**
+     * Creates a {@code BPlusTree} in {@code pageFile} whose root page number is in the root slot {@code rootIndex}.
+     * The tree is empty if the slot is not set.
+     */
+    BPlusTree(PageFile pageFile, int rootIndex) {
+        requireNonNull(pageFile);
+        this.pageFile = pageFile;
+        this.rootIndex = rootIndex;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@code Optional.empty()} if the tree does not contain the key.
+     */
+    public Optional<byte[]> get(byte[] key) throws IOException {
+        requireNonNull(key);
+        if (pageFile.getRoot(rootIndex) == NO_PAGE) {
+            return Optional.empty();
+        }
+
+        Node leaf = readNode(findLeaf(key));
+        int index = leaf.search(key);
+        return index < 0 ? Optional.empty() : Optional.of(readValue(leaf.cells.get(index)));
+    }
+
+    /**
+     * Sets the value of {@code key} to {@code value}, replacing any value it had.
+     */
+    public void put(byte[] key, byte[] value) throws IOException {
+        requireNonNull(key);
+        requireNonNull(value);
+        checkArgument(key.length <= MAX_KEY_LENGTH, MESSAGE_KEY_TOO_LONG);
+
+        int rootPageNumber = pageFile.getRoot(rootIndex);
+        if (rootPageNumber == NO_PAGE) {
+            rootPageNumber = pageFile.allocatePage();
+            writeNode(rootPageNumber, new Node(true));
+            pageFile.setRoot(rootIndex, rootPageNumber);
+        }
+
+        Split split = insert(rootPageNumber, key, toCell(value));
+        if (split != null) {
+            Node root = new Node(false);
+            root.children.add(rootPageNumber);
+            root.keys.add(split.separator);
+            root.children.add(split.rightPageNumber);
+            int newRootPageNumber = pageFile.allocatePage();
+            writeNode(newRootPageNumber, root);
+            pageFile.setRoot(rootIndex, newRootPageNumber);
+        }
+    }
+
+    /**
+     * Removes {@code key} and its value from the tree. Returns true if the tree contained the key.
+     */
+    public boolean remove(byte[] key) throws IOException {
+        requireNonNull(key);
+        if (pageFile.getRoot(rootIndex) == NO_PAGE) {
+            return false;
+        }
+
+        int leafPageNumber = findLeaf(key);
+        Node leaf = readNode(leafPageNumber);
+        int index = leaf.search(key);
+        if (index < 0) {
+            return false;
+        }
+        freeValue(leaf.cells.get(index));
+        leaf.keys.remove(index);
+        leaf.cells.remove(index);
+        writeNode(leafPageNumber, leaf);
+        return true;
+    }
+
+    /**
+     * Returns the entries whose keys start with {@code prefix}, in key order, reading only the leaves that hold them.
+     */
+    public List<Entry> getEntriesWithPrefix(byte[] prefix) throws IOException {
+        requireNonNull(prefix);
+        List<Entry> entries = new ArrayList<>();
+        if (pageFile.getRoot(rootIndex) == NO_PAGE) {
+            return entries;
+        }
+
+        Node leaf = readNode(findLeaf(prefix));
+        int index = leaf.search(prefix);
+        index = index < 0 ? -index - 1 : index;
+        while (true) {
+            for (; index < leaf.keys.size(); index++) {
+                byte[] key = leaf.keys.get(index);
+                if (!startsWith(key, prefix)) {
+                    return entries;
+                }
+                entries.add(new Entry(key, readValue(leaf.cells.get(index))));
+            }
+            if (leaf.nextLeaf == NO_PAGE) {
+                return entries;
+            }
+            leaf = readNode(leaf.nextLeaf);
+            index = 0;
+        }
+    }
+
+    /**
+     * Returns all the entries in the tree, in key order.
+     */
+    public List<Entry> getEntries() throws IOException {
+        return getEntriesWithPrefix(new byte[0]);
+    }
+
+    /**
+     * Returns all the keys in the tree, in key order, without reading the values that are stored as blobs.
+     */
+    public List<byte[]> getKeys() throws IOException {
+        List<byte[]> keys = new ArrayList<>();
+        if (pageFile.getRoot(rootIndex) == NO_PAGE) {
+            return keys;
+        }
+
+        int pageNumber = findLeaf(new byte[0]);
+        while (pageNumber != NO_PAGE) {
+            Node leaf = readNode(pageNumber);
+            keys.addAll(leaf.keys);
+            pageNumber = leaf.nextLeaf;
+        }
+        return keys;
+    }
+
+    /**
+     * Inserts {@code key} with the encoded value {@code cell} into the subtree rooted at page {@code pageNumber}.
+     * Returns the split of the root of the subtree, or null if it was not split.
+     */
+    private Split insert(int pageNumber, byte[] key, byte[] cell) throws IOException {
+        Node node = readNode(pageNumber);
+        if (node.isLeaf) {
+            int index = node.search(key);
+            if (index >= 0) {
+                freeValue(node.cells.get(index));
+                node.cells.set(index, cell);
+            } else {
+                node.keys.add(-index - 1, key);
+                node.cells.add(-index - 1, cell);
+            }
+            return writeOrSplit(pageNumber, node);
+        }
+
+        int childIndex = node.getChildIndex(key);
+        Split split = insert(node.children.get(childIndex), key, cell);
+        if (split == null) {
+            return null;
+        }
+        node.keys.add(childIndex, split.separator);
+        node.children.add(childIndex + 1, split.rightPageNumber);
+        return writeOrSplit(pageNumber, node);
+    }
+
+    /**
+     * Writes {@code node} to page {@code pageNumber}, first splitting it into two pages if it does not fit in one.
+     * Returns the split, or null if the node was not split.
+     */
+    private Split writeOrSplit(int pageNumber, Node node) throws IOException {
+        if (node.getEncodedLength() <= PAGE_SIZE) {
+            writeNode(pageNumber, node);
+            return null;
+        }
+
+        int splitIndex = node.getSplitIndex();
+        int count = node.keys.size();
+        Node right = new Node(node.isLeaf);
+        int rightPageNumber = pageFile.allocatePage();
+        byte[] separator;
+        if (node.isLeaf) {
+            right.keys.addAll(node.keys.subList(splitIndex, count));
+            right.cells.addAll(node.cells.subList(splitIndex, count));
+            node.keys.subList(splitIndex, count).clear();
+            node.cells.subList(splitIndex, count).clear();
+            right.nextLeaf = node.nextLeaf;
+            node.nextLeaf = rightPageNumber;
+            separator = right.keys.get(0);
+        } else {
+            separator = node.keys.get(splitIndex);
+            right.keys.addAll(node.keys.subList(splitIndex + 1, count));
+            right.children.addAll(node.children.subList(splitIndex + 1, count + 1));
+            node.keys.subList(splitIndex, count).clear();
+            node.children.subList(splitIndex + 1, count + 1).clear();
+        }
+        writeNode(pageNumber, node);
+        writeNode(rightPageNumber, right);
+        return new Split(separator, rightPageNumber);
+    }
+
+    /**
+     * Returns the page number of the leaf that holds, or would hold, {@code key}.
+     */
+    private int findLeaf(byte[] key) throws IOException {
+        int pageNumber = pageFile.getRoot(rootIndex);
+        Node node = readNode(pageNumber);
+        while (!node.isLeaf) {
+            pageNumber = node.children.get(node.getChildIndex(key));
+            node = readNode(pageNumber);
+        }
+        return pageNumber;
+    }
+
+    private Node readNode(int pageNumber) throws IOException {
+        ByteBuffer page = pageFile.getPage(pageNumber);
+        byte type = page.get(0);
+        if (type != LEAF_PAGE && type != INTERNAL_PAGE) {
+            throw new IOException(PageFile.MESSAGE_NOT_A_PAGE_FILE);
+        }
+
+        Node node = new Node(type == LEAF_PAGE);
+        int count = page.getShort(COUNT_POSITION);
+        int position = ENTRIES_POSITION;
+        if (node.isLeaf) {
+            node.nextLeaf = page.getInt(NEXT_LEAF_POSITION);
+        } else {
+            node.children.add(page.getInt(position));
+            position += Integer.BYTES;
+        }
+        for (int i = 0; i < count; i++) {
+            byte[] key = new byte[page.getShort(position)];
+            page.get(position + Short.BYTES, key);
+            node.keys.add(key);
+            position += Short.BYTES + key.length;
+            if (node.isLeaf) {
+                int cellLength = page.get(position) == INLINE_VALUE
+                        ? INLINE_VALUE_HEADER_LENGTH + page.getShort(position + 1)
+                        : BLOB_VALUE_CELL_LENGTH;
+                byte[] cell = new byte[cellLength];
+                page.get(position, cell);
+                node.cells.add(cell);
+                position += cellLength;
+            } else {
+                node.children.add(page.getInt(position));
+                position += Integer.BYTES;
+            }
+        }
+        return node;
+    }
+
+    private void writeNode(int pageNumber, Node node) throws IOException {
+        assert node.getEncodedLength() <= PAGE_SIZE;
+
+        ByteBuffer page = pageFile.getPage(pageNumber);
+        Arrays.fill(page.array(), (byte) 0);
+        page.put(0, node.isLeaf ? LEAF_PAGE : INTERNAL_PAGE);
+        page.putShort(COUNT_POSITION, (short) node.keys.size());
+        int position = ENTRIES_POSITION;
+        if (node.isLeaf) {
+            page.putInt(NEXT_LEAF_POSITION, node.nextLeaf);
+        } else {
+            page.putInt(position, node.children.get(0));
+            position += Integer.BYTES;
+        }
+        for (int i = 0; i < node.keys.size(); i++) {
+            byte[] key = node.keys.get(i);
+            page.putShort(position, (short) key.length);
+            page.put(position + Short.BYTES, key);
+            position += Short.BYTES + key.length;
+            if (node.isLeaf) {
+                byte[] cell = node.cells.get(i);
+                page.put(position, cell);
+                position += cell.length;
+            } else {
+                page.putInt(position, node.children.get(i + 1));
+                position += Integer.BYTES;
+            }
+        }
+        pageFile.markDirty(pageNumber);
+    }
+
+    /**
+     * Returns {@code value} encoded as it is kept in a leaf, storing it as a blob if it is too large.
+     */
+    private byte[] toCell(byte[] value) throws IOException {
+        if (value.length <= MAX_INLINE_VALUE_LENGTH) {
+            ByteBuffer cell = ByteBuffer.allocate(INLINE_VALUE_HEADER_LENGTH + value.length);
+            cell.put(INLINE_VALUE).putShort((short) value.length).put(value);
+            return cell.array();
+        }
+        int blobPageNumber = pageFile.writeBlob(value);
+        return ByteBuffer.allocate(BLOB_VALUE_CELL_LENGTH)
+                .put(BLOB_VALUE).putInt(value.length).putInt(blobPageNumber).array();
+    }
+
+    private byte[] readValue(byte[] cell) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(cell);
+        if (buffer.get(0) == INLINE_VALUE) {
+            return Arrays.copyOfRange(cell, INLINE_VALUE_HEADER_LENGTH, cell.length);
+        }
+        return pageFile.readBlob(buffer.getInt(1 + Integer.BYTES), buffer.getInt(1));
+    }
+
+    private void freeValue(byte[] cell) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(cell);
+        if (buffer.get(0) == BLOB_VALUE) {
+            pageFile.freeBlob(buffer.getInt(1 + Integer.BYTES));
+        }
+    }
+
+    private static boolean startsWith(byte[] key, byte[] prefix) {
+        return key.length >= prefix.length
+                && Arrays.equals(key, 0, prefix.length, prefix, 0, prefix.length);
+    }
+
+    /**
+     * A key and its value in a {@code BPlusTree}.
+     */
+    static class Entry {
+        final byte[] key;
+        final byte[] value;
+
+        Entry(byte[] key, byte[] value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * The result of splitting a node: the separator key, which is the least key in the new right node, and the page
+     * number of the new right node.
+     */
+    private static class Split {
+        private final byte[] separator;
+        private final int rightPageNumber;
+
+        Split(byte[] separator, int rightPageNumber) {
+            this.separator = separator;
+            this.rightPageNumber = rightPageNumber;
+        }
+    }
+
+    /**
+     * A node decoded from its page. A leaf has a value cell for each key, and an internal node has one more child than
+     * it has keys, where child {@code i} holds the keys from key {@code i - 1} (inclusive) to key {@code i}
+     * (exclusive).
+     */
+    private static class Node {
+        private final boolean isLeaf;
+        private final List<byte[]> keys = new ArrayList<>();
+        private final List<byte[]> cells = new ArrayList<>();
+        private final List<Integer> children = new ArrayList<>();
+        private int nextLeaf = NO_PAGE;
+
+        Node(boolean isLeaf) {
+            this.isLeaf = isLeaf;
+        }
+
+        /**
+         * Returns the index of {@code key}, or {@code -(insertion point) - 1} if the node does not contain it.
+         */
+        int search(byte[] key) {
+            int low = 0;
+            int high = keys.size() - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = Arrays.compareUnsigned(keys.get(middle), key);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        /**
+         * Returns the index of the child that holds, or would hold, {@code key}.
+         */
+        int getChildIndex(byte[] key) {
+            int index = search(key);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        int getEntryLength(int index) {
+            return Short.BYTES + keys.get(index).length + (isLeaf ? cells.get(index).length : Integer.BYTES);
+        }
+
+        int getEncodedLength() {
+            int length = ENTRIES_POSITION + (isLeaf ? 0 : Integer.BYTES);
+            for (int i = 0; i < keys.size(); i++) {
+                length += getEntryLength(i);
+            }
+            return length;
+        }
+
+        /**
+         * Returns the index at which to split the node so that both halves fit in a page. The entry at the index is
+         * the first entry of the right node of a leaf, or the separator that moves up from an internal node.
+         */
+        int getSplitIndex() {
+            int halfLength = getEncodedLength() / 2;
+            int length = ENTRIES_POSITION;
+            int index = 0;
+            while (index < keys.size() - 1 && length + getEntryLength(index) <= halfLength) {
+                length += getEntryLength(index);
+                index++;
+            }
+            return Math.max(1, index);
+        }
+    }
+}
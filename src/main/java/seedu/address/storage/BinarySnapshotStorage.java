@@ -0,0 +1,351 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32C;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Label;
+import seedu.address.model.person.Mode;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores binary snapshots of the validated data in the data files, in files beside them, so that the data can be
+ * loaded without parsing the data files again.
+ *
+ * A snapshot is keyed by the size, modification time and checksum of its data file when the snapshot was written,
+ * and is only read while the data file is unchanged. Snapshots are a cache of the data files, so a snapshot that is
+ * missing, stale or unreadable is ignored, and the data file is read instead.
+ */
+public class BinarySnapshotStorage {
+
+    /** Extension of a snapshot file, which is appended to the name of its data file. */
+    public static final String FILE_EXTENSION = ".snapshot";
+
+    private static final Logger logger = LogsCenter.getLogger(BinarySnapshotStorage.class);
+
+    private static final int MAGIC = 0x51485353;
+    private static final int FORMAT_VERSION = 2;
+    private static final byte ADDRESS_BOOK = 1;
+    private static final byte SCHEDULE_BOARD = 2;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Returns the path of the snapshot of the data file at {@code dataFilePath}.
+     */
+    public static Path getSnapshotFilePath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + FILE_EXTENSION);
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook}, which must be the data just saved to {@code dataFilePath}.
+     *
+     * @throws IOException if there was any problem writing the snapshot.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path dataFilePath) throws IOException {
+        requireAllNonNull(addressBook, dataFilePath);
+        writeSnapshot(dataFilePath, ADDRESS_BOOK, out -> {
+            out.writeInt(addressBook.getJobRoleList().size());
+            for (JobRole jobRole : addressBook.getJobRoleList()) {
+                writeString(out, jobRole.value);
+            }
+            out.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(out, person);
+            }
+        });
+    }
+
+    /**
+     * Returns the address book in the snapshot of the data file at {@code dataFilePath}, or
+     * {@code Optional.empty()} if there is no valid snapshot of the data file as it is now.
+     */
+    public Optional<AddressBook> readAddressBook(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return readSnapshot(dataFilePath, ADDRESS_BOOK, in -> {
+            int jobRoleCount = in.readInt();
+            List<JobRole> jobRoles = new ArrayList<>(jobRoleCount);
+            for (int i = 0; i < jobRoleCount; i++) {
+                jobRoles.add(JobRole.ofValidated(readString(in)));
+            }
+            int personCount = in.readInt();
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(in));
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setJobRoles(jobRoles);
+            addressBook.setValidatedPersons(persons);
+            return addressBook;
+        });
+    }
+
+    /**
+     * Writes a snapshot of {@code scheduleBoard}, which must be the data just saved to {@code dataFilePath}.
+     *
+     * @throws IOException if there was any problem writing the snapshot.
+     */
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard, Path dataFilePath) throws IOException {
+        requireAllNonNull(scheduleBoard, dataFilePath);
+        writeSnapshot(dataFilePath, SCHEDULE_BOARD, out -> {
+            out.writeInt(scheduleBoard.getScheduleList().size());
+            for (Schedule schedule : scheduleBoard.getScheduleList()) {
+                writeSchedule(out, schedule);
+            }
+        });
+    }
+
+    /**
+     * Returns the schedule board in the snapshot of the data file at {@code dataFilePath}, or
+     * {@code Optional.empty()} if there is no valid snapshot of the data file as it is now.
+     */
+    public Optional<ScheduleBoard> readScheduleBoard(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return readSnapshot(dataFilePath, SCHEDULE_BOARD, in -> {
+            int scheduleCount = in.readInt();
+            List<Schedule> schedules = new ArrayList<>(scheduleCount);
+            for (int i = 0; i < scheduleCount; i++) {
+                schedules.add(readSchedule(in));
+            }
+            ScheduleBoard scheduleBoard = new ScheduleBoard();
+            scheduleBoard.setValidatedSchedules(schedules);
+            return scheduleBoard;
+        });
+    }
+
+    /**
+     * Writes the snapshot of {@code kind} of the data file at {@code dataFilePath} with {@code bodyWriter}.
+     * The snapshot is written to a temporary file first, so that a snapshot is never left partially written.
+     */
+    private void writeSnapshot(Path dataFilePath, byte kind, BodyWriter bodyWriter) throws IOException {
+        Path snapshotFilePath = getSnapshotFilePath(dataFilePath);
+        Path tempFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + ".tmp");
+        DataFileKey key = DataFileKey.of(dataFilePath);
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tempFilePath), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeByte(kind);
+            key.writeTo(out);
+            bodyWriter.write(out);
+        }
+        Files.move(tempFilePath, snapshotFilePath, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private <T> Optional<T> readSnapshot(Path dataFilePath, byte kind, BodyReader<T> bodyReader) {
+        Path snapshotFilePath = getSnapshotFilePath(dataFilePath);
+        if (!Files.exists(snapshotFilePath) || !Files.exists(dataFilePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFilePath), BUFFER_SIZE))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readByte() != kind
+                    || !DataFileKey.readFrom(in).equals(DataFileKey.of(dataFilePath))) {
+                logger.info("Snapshot " + snapshotFilePath + " is out of date and will be ignored.");
+                return Optional.empty();
+            }
+            T data = bodyReader.read(in);
+            logger.info("Loaded data from snapshot " + snapshotFilePath);
+            return Optional.of(data);
+        } catch (IOException | RuntimeException e) {
+            // the data in a snapshot was valid when it was written, so the snapshot is corrupted
+            logger.warning("Snapshot " + snapshotFilePath + " could not be read and will be ignored: " + e);
+            return Optional.empty();
+        }
+    }
+
+    private static void writePerson(DataOutputStream out, Person person) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeString(out, person.getLabel().value);
+        writeString(out, person.getRemark().value);
+        out.writeInt(person.getJobRoles().size());
+        for (JobRole jobRole : person.getJobRoles()) {
+            writeString(out, jobRole.value);
+        }
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson}. Its details were valid when written, so they are not
+     * validated again.
+     */
+    private static Person readPerson(DataInputStream in) throws IOException {
+        Name name = Name.ofValidated(readString(in));
+        Phone phone = Phone.ofValidated(readString(in));
+        Email email = Email.ofValidated(readString(in));
+        Address address = Address.ofValidated(readString(in));
+        Label label = Label.ofValidated(readString(in));
+        Remark remark = new Remark(readString(in));
+        int jobRoleCount = in.readInt();
+        Set<JobRole> jobRoles = new HashSet<>();
+        for (int i = 0; i < jobRoleCount; i++) {
+            jobRoles.add(JobRole.ofValidated(readString(in)));
+        }
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.ofValidated(readString(in)));
+        }
+        return new Person(name, phone, email, address, label, remark, jobRoles, tags);
+    }
+
+    private static void writeSchedule(DataOutputStream out, Schedule schedule) throws IOException {
+        out.writeLong(schedule.getStartEpochMinute());
+        out.writeInt(schedule.getDurationMinutes());
+        out.writeByte(schedule.getMode() == null ? -1 : schedule.getMode().ordinal());
+        out.writeBoolean(schedule.getCandidateName() != null);
+        if (schedule.getCandidateName() != null) {
+            writeString(out, schedule.getCandidateName().fullName);
+            writeString(out, schedule.getCandidateEmail().value);
+        }
+    }
+
+    /**
+     * Reads a schedule written by {@link #writeSchedule}. Its timing and candidate were valid when written, so they
+     * are not validated again.
+     */
+    private static Schedule readSchedule(DataInputStream in) throws IOException {
+        long startEpochMinute = in.readLong();
+        int durationMinutes = in.readInt();
+        byte modeOrdinal = in.readByte();
+        if (modeOrdinal < 0) {
+            return Schedule.ofValidated(startEpochMinute, durationMinutes, null, null, null);
+        }
+        Mode mode = Mode.values()[modeOrdinal];
+        if (!in.readBoolean()) {
+            return Schedule.ofValidated(startEpochMinute, durationMinutes, mode, null, null);
+        }
+        Name candidateName = Name.ofValidated(readString(in));
+        Email candidateEmail = Email.ofValidated(readString(in));
+        return Schedule.ofValidated(startEpochMinute, durationMinutes, mode, candidateName, candidateEmail);
+    }
+
+    /**
+     * Writes {@code value} as its length in UTF-8 bytes followed by the bytes, as values may be longer than the
+     * limit of {@link DataOutputStream#writeUTF(String)}.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface BodyReader<T> {
+        T read(DataInputStream in) throws IOException;
+    }
+
+    /**
+     * The size, modification time and checksum of a data file, which identify the contents of the file.
+     */
+    private static class DataFileKey {
+        private final long size;
+        private final long lastModifiedMillis;
+        private final long checksum;
+
+        private DataFileKey(long size, long lastModifiedMillis, long checksum) {
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.checksum = checksum;
+        }
+
+        static DataFileKey of(Path dataFilePath) throws IOException {
+            long lastModifiedMillis = Files.getLastModifiedTime(dataFilePath).toMillis();
+            CRC32C crc = new CRC32C();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            long size = 0;
+            try (FileChannel channel = FileChannel.open(dataFilePath, StandardOpenOption.READ)) {
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    crc.update(buffer);
+                    buffer.clear();
+                }
+            }
+            return new DataFileKey(size, lastModifiedMillis, crc.getValue());
+        }
+
+        static DataFileKey readFrom(DataInputStream in) throws IOException {
+            return new DataFileKey(in.readLong(), in.readLong(), in.readLong());
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModifiedMillis);
+            out.writeLong(checksum);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof DataFileKey)) {
+                return false;
+            }
+
+            DataFileKey otherKey = (DataFileKey) other;
+            return size == otherKey.size
+                    && lastModifiedMillis == otherKey.lastModifiedMillis
+                    && checksum == otherKey.checksum;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size ^ lastModifiedMillis ^ checksum);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only view of the candidates in a saved file, which reads a candidate only when the candidate is needed.
+ */
+public interface CandidateArchive extends Closeable {
+
+    Path getFilePath();
+
+    /**
+     * Returns the number of persons in the archive.
+     */
+    int size();
+
+    /**
+     * Returns the person at {@code index} in the archive. This may be called from several threads at once.
+     *
+     * @throws DataLoadingException if the person could not be read, or is not valid.
+     */
+    Person getPerson(int index) throws DataLoadingException;
+
+    /**
+     * Releases the file held by the archive, after which its persons can no longer be read.
+     */
+    @Override
+    void close();
+}
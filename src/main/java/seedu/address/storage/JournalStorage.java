@@ -0,0 +1,44 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
+
+/**
+ * Represents an append-only journal of the {@link ModelChange}s made since the data files were last saved in full.
+ */
+public interface JournalStorage {
+
+    /**
+     * Returns the file path of the journal file.
+     */
+    Path getJournalFilePath();
+
+    /**
+     * Returns the changes in the journal, in the order in which they were appended.
+     * Returns an empty list if the journal file is not found.
+     *
+     * @throws DataLoadingException if the changes in the journal could not be read.
+     */
+    List<ModelChange> readJournal() throws DataLoadingException;
+
+    /**
+     * Appends the given {@code changes} to the journal.
+     * The changes are durably written when this method returns.
+     *
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendToJournal(List<ModelChange> changes) throws IOException;
+
+    /**
+     * Removes all changes from the journal.
+     *
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void clearJournal() throws IOException;
+
+}
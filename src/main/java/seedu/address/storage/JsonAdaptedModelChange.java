@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+
+/**
+ * Jackson-friendly version of {@link ModelChange}.
+ */
+class JsonAdaptedModelChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry has an unknown type of change.";
+
+    private final String type;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedPerson editedPerson;
+    private final JsonAdaptedSchedule schedule;
+    private final JsonAdaptedSchedule editedSchedule;
+    private final JsonAdaptedJobRole jobRole;
+
+    /**
+     * Constructs a {@code JsonAdaptedModelChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedModelChange(@JsonProperty("type") String type,
+            @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("editedPerson") JsonAdaptedPerson editedPerson,
+            @JsonProperty("schedule") JsonAdaptedSchedule schedule,
+            @JsonProperty("editedSchedule") JsonAdaptedSchedule editedSchedule,
+            @JsonProperty("jobRole") JsonAdaptedJobRole jobRole) {
+        this.type = type;
+        this.person = person;
+        this.editedPerson = editedPerson;
+        this.schedule = schedule;
+        this.editedSchedule = editedSchedule;
+        this.jobRole = jobRole;
+    }
+
+    /**
+     * Converts a given {@code ModelChange} into this class for Jackson use.
+     */
+    public JsonAdaptedModelChange(ModelChange source) {
+        type = source.getType().name();
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        editedPerson = source.getEditedPerson() == null ? null : new JsonAdaptedPerson(source.getEditedPerson());
+        schedule = source.getSchedule() == null ? null : new JsonAdaptedSchedule(source.getSchedule());
+        editedSchedule = source.getEditedSchedule() == null ? null
+                : new JsonAdaptedSchedule(source.getEditedSchedule());
+        jobRole = source.getJobRole() == null ? null : new JsonAdaptedJobRole(source.getJobRole());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted change object into the model's {@code ModelChange} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted change.
+     */
+    public ModelChange toModelType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        final ModelChange.Type modelType;
+        try {
+            modelType = ModelChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+
+        switch (modelType) {
+        case ADD_PERSON:
+            return ModelChange.addPerson(toPerson(person, "person"));
+        case SET_PERSON:
+            return ModelChange.setPerson(toPerson(person, "person"), toPerson(editedPerson, "editedPerson"));
+        case DELETE_PERSON:
+            return ModelChange.deletePerson(toPerson(person, "person"));
+        case ADD_SCHEDULE:
+            return ModelChange.addSchedule(toSchedule(schedule, "schedule"));
+        case SET_SCHEDULE:
+            return ModelChange.setSchedule(toSchedule(schedule, "schedule"),
+                    toSchedule(editedSchedule, "editedSchedule"));
+        case DELETE_SCHEDULE:
+            return ModelChange.deleteSchedule(toSchedule(schedule, "schedule"));
+        case ADD_JOB_ROLE:
+            return ModelChange.addJobRole(toJobRole(jobRole));
+        case DELETE_JOB_ROLE:
+            return ModelChange.deleteJobRole(toJobRole(jobRole));
+        default:
+            // changes that require a snapshot are never journaled
+            throw new IllegalValueException(MESSAGE_INVALID_TYPE);
+        }
+    }
+
+    private static Person toPerson(JsonAdaptedPerson person, String fieldName) throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return person.toModelType();
+    }
+
+    private static Schedule toSchedule(JsonAdaptedSchedule schedule, String fieldName) throws IllegalValueException {
+        if (schedule == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+        return schedule.toModelType();
+    }
+
+    private static JobRole toJobRole(JsonAdaptedJobRole jobRole) throws IllegalValueException {
+        if (jobRole == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "jobRole"));
+        }
+        return jobRole.toModelType();
+    }
+}
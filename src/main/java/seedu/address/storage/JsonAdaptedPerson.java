@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,6 +19,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -75,6 +77,21 @@ class JsonAdaptedPerson {
         label = source.getLabel().value;
     }
 
+    /**
+     * Returns the name of this person as a key, which is the same as the key of the model's person by
+     * {@link UniquePersonList#toNameKey(Person)}, or an empty string if the name is missing.
+     */
+    String getNameKey() {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Replaces the remark of this person, for storages that keep remarks apart from the other details.
+     */
+    void setRemark(String remark) {
+        this.remark = remark;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ModelChange;
+
+/**
+ * A class to access a journal of changes stored as a file on the hard disk, with one json object per line.
+ *
+ * An entry is only appended once the whole line has been written, so a line that cannot be read at the end of the
+ * journal is the remains of an append that was interrupted, and is ignored.
+ */
+public class JsonJournalStorage implements JournalStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonJournalStorage.class);
+
+    private final Path filePath;
+
+    public JsonJournalStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public List<ModelChange> readJournal() throws DataLoadingException {
+        List<ModelChange> changes = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return changes;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                if (!line.isBlank()) {
+                    try {
+                        changes.add(JsonUtil.fromJsonString(line, JsonAdaptedModelChange.class).toModelType());
+                    } catch (IOException | IllegalValueException e) {
+                        if (nextLine != null) {
+                            logger.warning("Invalid entry found in journal " + filePath + ": " + e.getMessage());
+                            throw new DataLoadingException(e);
+                        }
+                        logger.warning("Ignoring incomplete entry at the end of journal " + filePath);
+                    }
+                }
+                line = nextLine;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return changes;
+    }
+
+    @Override
+    public void appendToJournal(List<ModelChange> changes) throws IOException {
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        StringBuilder entries = new StringBuilder();
+        for (ModelChange change : changes) {
+            entries.append(JsonUtil.toCompactJsonString(new JsonAdaptedModelChange(change))).append('\n');
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        ByteBuffer buffer = ByteBuffer.wrap(entries.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        Files.deleteIfExists(filePath);
+    }
+
+}
@@ -22,9 +22,18 @@ public class JsonScheduleBoardStorage implements ScheduleBoardStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonScheduleBoardStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage of the file at {@code filePath}, which is written without indentation if {@code isCompact}.
+     */
+    public JsonScheduleBoardStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getScheduleBoardFilePath() {
@@ -45,14 +54,8 @@ public class JsonScheduleBoardStorage implements ScheduleBoardStorage {
     public Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableScheduleBoard> jsonScheduleBoard = JsonUtil.readJsonFile(
-                filePath, JsonSerializableScheduleBoard.class);
-        if (!jsonScheduleBoard.isPresent()) {
-            return Optional.empty();
-        }
-
         try {
-            return Optional.of(jsonScheduleBoard.get().toModelType());
+            return JsonUtil.readJsonFile(filePath, JsonSerializableScheduleBoard::readModelType);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -74,7 +77,8 @@ public class JsonScheduleBoardStorage implements ScheduleBoardStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableScheduleBoard(scheduleBoard), filePath);
+        JsonUtil.writeJsonFile(filePath,
+                generator -> JsonSerializableScheduleBoard.writeModelType(scheduleBoard, generator), isCompact);
     }
 
 }
@@ -1,28 +1,44 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Job roles are written before persons, so that the persons can be checked against them as they are streamed.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"jobRoles", "persons"})
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_JOBROLE = "List of job roles contains duplicate job role(s).";
 
+    /** Number of parsed persons that are converted together, which bounds the persons held in adapted form. */
+    private static final int PERSON_BATCH_SIZE = 1 << 13;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedJobRole> jobRoles = new ArrayList<>();
 
@@ -55,23 +71,130 @@ class JsonSerializableAddressBook {
         AddressBook addressBook = new AddressBook();
         addressBook.setJobRoles(new ArrayList<>());
         for (JsonAdaptedJobRole jsonAdaptedJobRoles : jobRoles) {
-            JobRole jobRole = jsonAdaptedJobRoles.toModelType();
-            if (addressBook.hasJobRole(jobRole)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_JOBROLE);
-            }
-            addressBook.addJobRole(jobRole);
+            addJobRole(addressBook, jsonAdaptedJobRoles.toModelType());
         }
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (!addressBook.hasJobRoles(person.getJobRoles())) {
-                person.resetJobRoles();
+        for (Person person : ParallelPersonConverter.toModelTypes(persons, person -> false)) {
+            addPerson(addressBook, person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads an address book in the format of this class from {@code parser}, and converts it into the model's
+     * {@code AddressBook} object. Each person and job role is converted as soon as it is parsed, so the address book
+     * is built without holding all of its data in adapted form.
+     * Persons are parsed in batches, which are converted in parallel.
+     * Persons that are parsed before the job roles are kept until the job roles are parsed, as the job roles of each
+     * person are checked against them.
+     *
+     * @throws IOException if the data is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobRoles(new ArrayList<>());
+        List<Person> personsBeforeJobRoles = new ArrayList<>();
+        Set<String> namesBeforeJobRoles = new HashSet<>();
+        boolean hasReadJobRoles = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("jobRoles")) {
+                JsonUtil.readArray(parser, JsonAdaptedJobRole.class,
+                        jsonAdaptedJobRole -> addJobRole(addressBook, jsonAdaptedJobRole.toModelType()));
+                hasReadJobRoles = true;
+            } else if (fieldName.equals("persons") && hasReadJobRoles) {
+                readPersons(parser, addressBook::hasPerson, batch -> {
+                    for (Person person : batch) {
+                        addPerson(addressBook, person);
+                    }
+                });
+            } else if (fieldName.equals("persons")) {
+                readPersons(parser, person -> namesBeforeJobRoles.contains(UniquePersonList.toNameKey(person)),
+                        batch -> {
+                            personsBeforeJobRoles.addAll(batch);
+                            batch.forEach(person -> namesBeforeJobRoles.add(UniquePersonList.toNameKey(person)));
+                        });
+            } else {
+                parser.skipChildren();
             }
-            addressBook.addPerson(person);
+        }
+
+        for (Person person : personsBeforeJobRoles) {
+            addPerson(addressBook, person);
         }
         return addressBook;
     }
 
+    /**
+     * Reads the array of persons at the current token of {@code parser} in batches, and gives each batch to
+     * {@code batchReader} once it is converted. {@code isExistingPerson} tests if a person is the same person as one
+     * in an earlier batch.
+     */
+    private static void readPersons(JsonParser parser, Predicate<Person> isExistingPerson,
+            JsonUtil.JsonElementReader<List<Person>> batchReader) throws IOException, IllegalValueException {
+        List<JsonAdaptedPerson> batch = new ArrayList<>(PERSON_BATCH_SIZE);
+        JsonUtil.readArray(parser, JsonAdaptedPerson.class, jsonAdaptedPerson -> {
+            batch.add(jsonAdaptedPerson);
+            if (batch.size() == PERSON_BATCH_SIZE) {
+                batchReader.read(ParallelPersonConverter.toModelTypes(batch, isExistingPerson));
+                batch.clear();
+            }
+        });
+        batchReader.read(ParallelPersonConverter.toModelTypes(batch, isExistingPerson));
+    }
+
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, adapting one person or job role at a
+     * time instead of building a {@code JsonSerializableAddressBook}.
+     *
+     * @throws IOException if there was an error during writing.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("jobRoles");
+        for (JobRole jobRole : source.getJobRoleList()) {
+            generator.writeObject(new JsonAdaptedJobRole(jobRole));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : source.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Adds {@code jobRole} to {@code addressBook}.
+     *
+     * @throws IllegalValueException if the job role is already in the address book.
+     */
+    static void addJobRole(AddressBook addressBook, JobRole jobRole) throws IllegalValueException {
+        if (addressBook.hasJobRole(jobRole)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_JOBROLE);
+        }
+        addressBook.addJobRole(jobRole);
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook}, clearing the job roles of the person if any of them is not in the
+     * address book.
+     *
+     * @throws IllegalValueException if the person is already in the address book.
+     */
+    static void addPerson(AddressBook addressBook, Person person) throws IllegalValueException {
+        if (addressBook.hasPerson(person)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        if (!addressBook.hasJobRolesOf(person)) {
+            person.resetJobRoles();
+        }
+        addressBook.addPerson(person);
+    }
+
 }
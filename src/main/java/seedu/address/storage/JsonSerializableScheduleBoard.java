@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,8 +8,13 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
@@ -48,13 +54,63 @@ class JsonSerializableScheduleBoard {
     public ScheduleBoard toModelType() throws IllegalValueException {
         ScheduleBoard scheduleBoard = new ScheduleBoard();
         for (JsonAdaptedSchedule jsonAdaptedSchedule : schedules) {
-            Schedule schedule = jsonAdaptedSchedule.toModelType();
-            if (scheduleBoard.hasSchedule(schedule) || scheduleBoard.hasSameDateTime(schedule)) {
-                throw new IllegalValueException(MESSAGE_CLASHING_SCHEDULE);
+            addSchedule(scheduleBoard, jsonAdaptedSchedule.toModelType());
+        }
+        return scheduleBoard;
+    }
+
+    /**
+     * Reads a schedule board in the format of this class from {@code parser}, and converts it into the model's
+     * {@code ScheduleBoard} object. Each schedule is converted as soon as it is parsed.
+     *
+     * @throws IOException if the data is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static ScheduleBoard readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a schedule board object");
+        }
+
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("schedules")) {
+                JsonUtil.readArray(parser, JsonAdaptedSchedule.class,
+                        jsonAdaptedSchedule -> addSchedule(scheduleBoard, jsonAdaptedSchedule.toModelType()));
+            } else {
+                parser.skipChildren();
             }
-            scheduleBoard.addSchedule(schedule);
         }
         return scheduleBoard;
     }
 
+    /**
+     * Writes {@code source} to {@code generator} in the format of this class, adapting one schedule at a time instead
+     * of building a {@code JsonSerializableScheduleBoard}.
+     *
+     * @throws IOException if there was an error during writing.
+     */
+    public static void writeModelType(ReadOnlyScheduleBoard source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("schedules");
+        for (Schedule schedule : source.getScheduleList()) {
+            generator.writeObject(new JsonAdaptedSchedule(schedule));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Adds {@code schedule} to {@code scheduleBoard}.
+     *
+     * @throws IllegalValueException if the schedule is already in the schedule board, or clashes with one in it.
+     */
+    static void addSchedule(ScheduleBoard scheduleBoard, Schedule schedule) throws IllegalValueException {
+        if (scheduleBoard.hasSchedule(schedule) || scheduleBoard.hasSameDateTime(schedule)) {
+            throw new IllegalValueException(MESSAGE_CLASHING_SCHEDULE);
+        }
+        scheduleBoard.addSchedule(schedule);
+    }
+
 }
@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+/**
+ * An Immutable manifest of an address book stored in shards, that is serializable to JSON format.
+ * It lists the shard files that hold the persons, and the job roles. The order of the persons is kept in the shard
+ * files, so the manifest does not grow with the number of persons.
+ *
+ * A manifest is read from the data file of the address book, which may still be in the format of
+ * {@code JsonSerializableAddressBook} if it was written before sharding was turned on. Such a file has no shards.
+ */
+@JsonRootName(value = "manifest")
+class JsonShardManifest {
+
+    private final long generation;
+    private final List<String> shards;
+    private final List<JsonAdaptedJobRole> jobRoles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     * {@code shards} is null if the data file is not a manifest.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("generation") long generation,
+                             @JsonProperty("shards") List<String> shards,
+                             @JsonProperty("jobRoles") List<JsonAdaptedJobRole> jobRoles) {
+        this.generation = generation;
+        this.shards = shards == null ? null : new ArrayList<>(shards);
+        if (jobRoles != null) {
+            this.jobRoles.addAll(jobRoles);
+        }
+    }
+
+    /**
+     * Returns true if the data file this was read from is a manifest, rather than an unsharded address book.
+     */
+    public boolean isManifest() {
+        return shards != null;
+    }
+
+    /**
+     * Returns the number of the last save of the address book, which names the shard files written by that save.
+     */
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the shard files, which are in the shard directory of the address book.
+     */
+    public List<String> getShards() {
+        return shards;
+    }
+
+    public List<JsonAdaptedJobRole> getJobRoles() {
+        return jobRoles;
+    }
+
+}
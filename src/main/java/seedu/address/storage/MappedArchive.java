@@ -0,0 +1,243 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only view of the candidates in an archive written by the {@code save} command, which does not load them.
+ *
+ * The archive is memory-mapped, and opening it only scans its bytes for the offset and length of each person in the
+ * {@code persons} array, without parsing the persons. A person is parsed only when it is read, and is not kept, so
+ * the persons of a large archive are never all parsed or held in memory at once.
+ * A compressed archive cannot be mapped, so it is decompressed into memory instead.
+ */
+public class MappedArchive implements CandidateArchive {
+
+    public static final String MESSAGE_NOT_AN_ARCHIVE = "File is not an archive of candidates.";
+    public static final String MESSAGE_ARCHIVE_TOO_LARGE = "Archive is larger than 2 GB, which cannot be opened.";
+
+    private static final Logger logger = LogsCenter.getLogger(MappedArchive.class);
+
+    private static final String PERSONS_FIELD_NAME = "persons";
+    /** Number of bytes of the archive that are copied out of the mapping at a time while it is scanned. */
+    private static final int SCAN_CHUNK_SIZE = 1 << 16;
+    private static final int INITIAL_INDEX_CAPACITY = 1024;
+
+    private final Path filePath;
+    private final ByteBuffer contents;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int size;
+
+    private MappedArchive(Path filePath, ByteBuffer contents, int[] offsets, int[] lengths, int size) {
+        this.filePath = filePath;
+        this.contents = contents;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        this.size = size;
+    }
+
+    /**
+     * Opens the archive at {@code filePath}, which must exist, and indexes the persons in it.
+     *
+     * @throws DataLoadingException if the file could not be read, or is not an archive of candidates.
+     */
+    public static MappedArchive open(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        try {
+            ByteBuffer contents = FileUtil.isGzipFile(filePath) ? decompress(filePath) : map(filePath);
+            Scanner scanner = new Scanner();
+            scanner.scan(contents);
+            if (!scanner.hasFoundPersons || scanner.depth != 0 || scanner.isInString) {
+                throw new IllegalValueException(MESSAGE_NOT_AN_ARCHIVE);
+            }
+            logger.info("Indexed " + scanner.size + " person(s) in archive " + filePath);
+            return new MappedArchive(filePath, contents, scanner.offsets, scanner.lengths, scanner.size);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error opening archive " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Parses and returns the person at {@code index} in the archive. The person is not kept, so the person is parsed
+     * again if read again. This may be called from several threads at once.
+     *
+     * @throws DataLoadingException if the person is not valid.
+     */
+    @Override
+    public Person getPerson(int index) throws DataLoadingException {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        byte[] bytes = new byte[lengths[index]];
+        contents.get(offsets[index], bytes);
+        try {
+            return JsonUtil.fromJsonString(new String(bytes, StandardCharsets.UTF_8), JsonAdaptedPerson.class)
+                    .toModelType();
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Person " + (index + 1) + " in archive " + filePath + " is not valid: " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Does nothing, as the mapping of the archive is released once the archive is no longer used.
+     */
+    @Override
+    public void close() {}
+
+    private static ByteBuffer map(Path filePath) throws IOException, IllegalValueException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_ARCHIVE_TOO_LARGE);
+            }
+            // the mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static ByteBuffer decompress(Path filePath) throws IOException {
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(filePath), SCAN_CHUNK_SIZE)) {
+            return ByteBuffer.wrap(inputStream.readAllBytes());
+        }
+    }
+
+    /**
+     * Finds the bytes of each element of the {@code persons} array of the root object of an archive, by tracking the
+     * nesting of objects, arrays and strings without parsing any values.
+     * Structural characters are ASCII bytes, which never occur within a multi-byte UTF-8 character, so the bytes
+     * are scanned without being decoded.
+     */
+    private static class Scanner {
+        private int[] offsets = new int[INITIAL_INDEX_CAPACITY];
+        private int[] lengths = new int[INITIAL_INDEX_CAPACITY];
+        private int size;
+
+        private int depth;
+        private boolean isInString;
+        private boolean isEscaped;
+        private boolean isInPersons;
+        private boolean hasFoundPersons;
+        /** Offset of the string being scanned, if it is in the root object. */
+        private int stringOffset;
+        /** Last string in the root object, which is the field name if an array follows it. */
+        private String lastRootString;
+        private int personOffset;
+
+        void scan(ByteBuffer contents) {
+            byte[] chunk = new byte[SCAN_CHUNK_SIZE];
+            int limit = contents.limit();
+            for (int chunkOffset = 0; chunkOffset < limit; chunkOffset += chunk.length) {
+                int chunkLength = Math.min(chunk.length, limit - chunkOffset);
+                contents.get(chunkOffset, chunk, 0, chunkLength);
+                for (int i = 0; i < chunkLength; i++) {
+                    scan(contents, chunk[i], chunkOffset + i);
+                }
+            }
+        }
+
+        private void scan(ByteBuffer contents, byte b, int offset) {
+            if (isInString) {
+                if (isEscaped) {
+                    isEscaped = false;
+                } else if (b == '\\') {
+                    isEscaped = true;
+                } else if (b == '"') {
+                    isInString = false;
+                    if (depth == 1) {
+                        lastRootString = readString(contents, stringOffset, offset);
+                    }
+                }
+                return;
+            }
+
+            switch (b) {
+            case '"':
+                isInString = true;
+                stringOffset = offset + 1;
+                break;
+            case '{':
+                if (isInPersons && depth == 2) {
+                    personOffset = offset;
+                }
+                depth++;
+                break;
+            case '[':
+                if (depth == 1 && PERSONS_FIELD_NAME.equals(lastRootString)) {
+                    isInPersons = true;
+                    hasFoundPersons = true;
+                }
+                depth++;
+                break;
+            case '}':
+                depth--;
+                if (isInPersons && depth == 2) {
+                    addPerson(personOffset, offset + 1 - personOffset);
+                }
+                break;
+            case ']':
+                depth--;
+                if (depth == 1) {
+                    isInPersons = false;
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void addPerson(int offset, int length) {
+            if (size == offsets.length) {
+                offsets = Arrays.copyOf(offsets, size * 2);
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            offsets[size] = offset;
+            lengths[size] = length;
+            size++;
+        }
+
+        /**
+         * Returns the string from {@code start} (inclusive) to {@code end} (exclusive), or null if it cannot be the
+         * name of the persons field, which avoids decoding long values.
+         */
+        private static String readString(ByteBuffer contents, int start, int end) {
+            if (end - start != PERSONS_FIELD_NAME.length()) {
+                return null;
+            }
+            byte[] bytes = new byte[end - start];
+            contents.get(start, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * A class to access AddressBook data stored as an NDJSON file on the hard disk, with one person per line.
+ *
+ * The first line of the file holds the job roles. An index file beside the data file holds the offset of each person,
+ * so that the persons are read in parallel, and a single person can be read by name without parsing the others.
+ * A save that only adds persons after the ones this storage last read or wrote appends them to the file instead of
+ * rewriting it.
+ */
+public class NdjsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_MISSING_HEADER = "NDJSON file does not start with the job roles.";
+
+    private static final Logger logger = LogsCenter.getLogger(NdjsonAddressBookStorage.class);
+
+    private Path filePath;
+
+    /** Data file last opened, whose index is kept in memory. */
+    private NdjsonFile<JsonAdaptedPerson> file;
+
+    /** Data file that {@code savedPersons} and {@code savedJobRoles} were last read from or written to. */
+    private Path savedFilePath;
+    /** Persons in the data file, or null if they are not known to be the same as in the file. */
+    private List<Person> savedPersons;
+    private List<JobRole> savedJobRoles;
+
+    public NdjsonAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isAddressBookSavedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<NdjsonFile.Contents<JsonAdaptedPerson>> contents = openFile(filePath).read();
+        if (contents.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook addressBook = readHeader(contents.get().header);
+            List<Person> persons = ParallelPersonConverter.toModelTypes(contents.get().records, person -> false);
+            // persons whose job roles are cleared when they are added differ from the file
+            boolean isSameAsFile = true;
+            for (Person person : persons) {
+                isSameAsFile &= addressBook.hasJobRolesOf(person);
+                JsonSerializableAddressBook.addPerson(addressBook, person);
+            }
+            remember(filePath, isSameAsFile ? persons : null, addressBook.getJobRoleList());
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading job roles from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the person named {@code name} in the data file, reading only that person from the file.
+     * Returns {@code Optional.empty()} if there is no such person, or the data file is not found.
+     *
+     * @throws DataLoadingException if loading the person from storage failed.
+     */
+    public synchronized Optional<Person> readPerson(Name name) throws DataLoadingException {
+        requireNonNull(name);
+
+        NdjsonFile<JsonAdaptedPerson> file = openFile(filePath);
+        Optional<JsonAdaptedPerson> jsonAdaptedPerson = file.readRecord(UniquePersonList.toNameKey(name));
+        if (jsonAdaptedPerson.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            AddressBook jobRoles = readHeader(file.readHeader());
+            Person person = jsonAdaptedPerson.get().toModelType();
+            if (!jobRoles.hasJobRolesOf(person)) {
+                person.resetJobRoles();
+            }
+            return Optional.of(person);
+        } catch (IllegalValueException | IOException e) {
+            logger.info("Person " + name + " could not be read from " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        NdjsonFile<JsonAdaptedPerson> file = openFile(filePath);
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        List<JobRole> jobRoles = addressBook.getJobRoleList();
+        if (isAppendOf(filePath, persons, jobRoles) && file.isIndexed()) {
+            List<Person> addedPersons = persons.subList(savedPersons.size(), persons.size());
+            file.append(adapt(addedPersons));
+            logger.fine("Appended " + addedPersons.size() + " person(s) to " + filePath);
+        } else {
+            file.write(new JsonSerializableAddressBook(List.of(),
+                    jobRoles.stream().map(JsonAdaptedJobRole::new).collect(Collectors.toList())), adapt(persons));
+        }
+        remember(filePath, persons, jobRoles);
+    }
+
+    /**
+     * Returns true if {@code persons} and {@code jobRoles} are the data in the file at {@code filePath} with persons
+     * added after the others, which can be appended to the file.
+     */
+    private boolean isAppendOf(Path filePath, List<Person> persons, List<JobRole> jobRoles) {
+        if (!filePath.equals(savedFilePath) || savedPersons == null || !jobRoles.equals(savedJobRoles)
+                || persons.size() < savedPersons.size()) {
+            return false;
+        }
+        for (int i = 0; i < savedPersons.size(); i++) {
+            if (persons.get(i) != savedPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void remember(Path filePath, List<Person> persons, List<JobRole> jobRoles) {
+        savedFilePath = filePath;
+        savedPersons = persons;
+        savedJobRoles = List.copyOf(jobRoles);
+    }
+
+    /**
+     * Returns an address book with only the job roles in {@code header}.
+     */
+    private static AddressBook readHeader(String header) throws IOException, IllegalValueException {
+        if (header == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_HEADER);
+        }
+        return JsonUtil.fromJsonString(header, JsonSerializableAddressBook.class).toModelType();
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the data file at {@code filePath}, which is the same as the last one opened if the path is the same, so
+     * that its index is kept in memory between saves.
+     */
+    private NdjsonFile<JsonAdaptedPerson> openFile(Path filePath) {
+        if (file == null || !file.getFilePath().equals(filePath)) {
+            file = new NdjsonFile<>(filePath, JsonAdaptedPerson.class, true, JsonAdaptedPerson::getNameKey);
+        }
+        return file;
+    }
+}
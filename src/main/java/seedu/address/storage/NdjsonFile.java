@@ -0,0 +1,403 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * A file of JSON records, one per line (NDJSON), with an index file beside it that holds the byte offset, length and
+ * key of each record. The file may start with a header line, which is not a record.
+ *
+ * With the index, the records can be read in parallel by byte range, a single record can be read by its key without
+ * parsing the others, and records can be appended without rewriting the file. The index records the size of the file
+ * it describes, and is ignored if the file has changed since, in which case the file is read line by line.
+ * The index last read or written is kept in memory, so that it is parsed again only if the size recorded in the
+ * index file no longer matches.
+ *
+ * @param <T> the Jackson-friendly class of the records.
+ */
+class NdjsonFile<T> {
+
+    /** Extension of an index file, which is appended to the name of its data file. */
+    public static final String INDEX_FILE_EXTENSION = ".idx";
+
+    private static final Logger logger = LogsCenter.getLogger(NdjsonFile.class);
+
+    private static final int MAGIC = 0x4e444a49;
+    private static final int FORMAT_VERSION = 1;
+    /** Position in the index file of the size of the data file, which is -1 while the index is being updated. */
+    private static final long DATA_FILE_SIZE_POSITION = 8;
+    private static final long UPDATING_DATA_FILE_SIZE = -1;
+    /** Size of the header of an index file, which holds the size of the data file before the records. */
+    private static final int HEADER_SIZE = 16;
+    private static final int BUFFER_SIZE = 1 << 16;
+    /** Number of records that are read together as one byte range. */
+    private static final int RECORDS_PER_RANGE = 4096;
+
+    private final Path filePath;
+    private final Class<T> recordClass;
+    private final boolean hasHeader;
+    private final Function<T, String> keyOf;
+
+    /** The index last read or written, or null if it is not known. */
+    private Index index;
+
+    /**
+     * Creates an {@code NdjsonFile} at {@code filePath} of records of {@code recordClass}, which are indexed by the
+     * keys given by {@code keyOf}. The first line of the file is a header if {@code hasHeader}.
+     */
+    NdjsonFile(Path filePath, Class<T> recordClass, boolean hasHeader, Function<T, String> keyOf) {
+        requireNonNull(filePath);
+        requireNonNull(recordClass);
+        requireNonNull(keyOf);
+        this.filePath = filePath;
+        this.recordClass = recordClass;
+        this.hasHeader = hasHeader;
+        this.keyOf = keyOf;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the index file of the data file at {@code filePath}.
+     */
+    public static Path getIndexFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + INDEX_FILE_EXTENSION);
+    }
+
+    /**
+     * Replaces the file with {@code header} and {@code records}, and writes its index.
+     *
+     * @param header the object written as the header line. Must be null if and only if the file has no header.
+     */
+    public void write(Object header, List<T> records) throws IOException {
+        assert hasHeader == (header != null);
+        requireNonNull(records);
+
+        Path indexFilePath = getIndexFilePath(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        index = null;
+        Index writtenIndex = new Index();
+        try (OutputStream data = new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE);
+                DataOutputStream index = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(indexFilePath), BUFFER_SIZE))) {
+            long offset = 0;
+            if (header != null) {
+                byte[] headerLine = toLine(header);
+                data.write(headerLine);
+                offset += headerLine.length;
+            }
+            index.writeInt(MAGIC);
+            index.writeInt(FORMAT_VERSION);
+            index.writeLong(UPDATING_DATA_FILE_SIZE);
+            for (T record : records) {
+                offset += writeRecord(data, index, writtenIndex, offset, record);
+            }
+        }
+        writtenIndex.dataFileSize = Files.size(filePath);
+        setIndexedDataFileSize(indexFilePath, writtenIndex.dataFileSize);
+        index = writtenIndex;
+    }
+
+    /**
+     * Appends {@code records} to the file and its index, without rewriting the records already in the file.
+     * The index must be up to date.
+     */
+    public void append(List<T> records) throws IOException {
+        requireNonNull(records);
+        Index appendedIndex = readIndex().orElseThrow(() ->
+                new IOException("Index of " + filePath + " is missing or out of date."));
+
+        Path indexFilePath = getIndexFilePath(filePath);
+        // the index in memory is only complete once the index file is
+        index = null;
+        setIndexedDataFileSize(indexFilePath, UPDATING_DATA_FILE_SIZE);
+        try (OutputStream data = new BufferedOutputStream(
+                Files.newOutputStream(filePath, StandardOpenOption.APPEND), BUFFER_SIZE);
+                DataOutputStream index = new DataOutputStream(new BufferedOutputStream(
+                        Files.newOutputStream(indexFilePath, StandardOpenOption.APPEND), BUFFER_SIZE))) {
+            long offset = appendedIndex.dataFileSize;
+            for (T record : records) {
+                offset += writeRecord(data, index, appendedIndex, offset, record);
+            }
+        }
+        appendedIndex.dataFileSize = Files.size(filePath);
+        setIndexedDataFileSize(indexFilePath, appendedIndex.dataFileSize);
+        index = appendedIndex;
+    }
+
+    /**
+     * Returns true if the index of the file is up to date, so that records can be appended to the file.
+     */
+    public boolean isIndexed() {
+        return readIndex().isPresent();
+    }
+
+    /**
+     * Returns the header and records of the file, or {@code Optional.empty()} if the file is not found.
+     * The records are read in parallel by byte range if the index is up to date, or line by line otherwise.
+     *
+     * @throws DataLoadingException if the file could not be read, or has a line that is not a valid record.
+     */
+    public Optional<Contents<T>> read() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Optional<Index> index = readIndex();
+        try {
+            if (index.isPresent()) {
+                return Optional.of(new Contents<>(readHeader(), readRecords(index.get())));
+            }
+            logger.info("Index of " + filePath + " is missing or out of date, so the file is read line by line.");
+            return Optional.of(readLines());
+        } catch (IOException e) {
+            logger.warning("Error reading from NDJSON file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the header line of the file, or null if the file has no header.
+     */
+    public String readHeader() throws IOException {
+        if (!hasHeader) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            return reader.readLine();
+        }
+    }
+
+    /**
+     * Returns the first record with {@code key}, reading only that record if the index is up to date.
+     *
+     * @throws DataLoadingException if the file could not be read, or a line read is not a valid record.
+     */
+    public Optional<T> readRecord(String key) throws DataLoadingException {
+        requireNonNull(key);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        Optional<Index> index = readIndex();
+        try {
+            if (index.isEmpty()) {
+                return readLines().records.stream().filter(record -> keyOf.apply(record).equals(key)).findFirst();
+            }
+            Integer position = index.get().positions.get(key);
+            if (position == null) {
+                return Optional.empty();
+            }
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                return Optional.of(readRange(channel, index.get(), position, position + 1).get(0));
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from NDJSON file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Writes {@code record} at {@code offset} of the data file, and adds it to both the index file and
+     * {@code writtenIndex}. Returns the number of bytes written to the data file.
+     */
+    private long writeRecord(OutputStream data, DataOutputStream index, Index writtenIndex, long offset, T record)
+            throws IOException {
+        byte[] line = toLine(record);
+        String key = keyOf.apply(record);
+        data.write(line);
+        index.writeLong(offset);
+        index.writeInt(line.length - 1);
+        index.writeUTF(key);
+        writtenIndex.add(offset, line.length - 1, key);
+        return line.length;
+    }
+
+    private static byte[] toLine(Object value) throws IOException {
+        return (JsonUtil.toCompactJsonString(value) + "\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void setIndexedDataFileSize(Path indexFilePath, long dataFileSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(indexFilePath, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES).putLong(dataFileSize);
+            buffer.flip();
+            channel.write(buffer, DATA_FILE_SIZE_POSITION);
+        }
+    }
+
+    /**
+     * Returns the index of the file if it is up to date. An index that cannot be read is ignored.
+     * Only the header of the index file is read if the index in memory describes the current size of the data file.
+     */
+    private Optional<Index> readIndex() {
+        Path indexFilePath = getIndexFilePath(filePath);
+        if (!Files.exists(indexFilePath) || !Files.exists(filePath)) {
+            index = null;
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(indexFilePath), HEADER_SIZE))) {
+            long dataFileSize = Files.size(filePath);
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || in.readLong() != dataFileSize) {
+                index = null;
+                return Optional.empty();
+            }
+            if (index == null || index.dataFileSize != dataFileSize) {
+                index = readRecordIndex(new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE)));
+                index.dataFileSize = dataFileSize;
+            }
+            return Optional.of(index);
+        } catch (IOException e) {
+            logger.warning("Index " + indexFilePath + " could not be read and will be ignored: " + e);
+            index = null;
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reads the offset, length and key of each record from {@code in}, up to the end of the index file.
+     */
+    private static Index readRecordIndex(DataInputStream in) throws IOException {
+        Index readIndex = new Index();
+        while (true) {
+            long offset;
+            try {
+                offset = in.readLong();
+            } catch (EOFException e) {
+                return readIndex;
+            }
+            readIndex.add(offset, in.readInt(), in.readUTF());
+        }
+    }
+
+    /**
+     * Reads the records in {@code index} in ranges of {@link #RECORDS_PER_RANGE}, in parallel.
+     * If any range cannot be read, the failure of the first such range is thrown.
+     */
+    private List<T> readRecords(Index index) throws IOException {
+        int recordCount = index.offsets.size();
+        int rangeCount = (recordCount + RECORDS_PER_RANGE - 1) / RECORDS_PER_RANGE;
+        List<List<T>> ranges = new ArrayList<>(Collections.nCopies(rangeCount, null));
+        IOException[] failures = new IOException[rangeCount];
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            IntStream.range(0, rangeCount).parallel().forEach(i -> {
+                try {
+                    ranges.set(i, readRange(channel, index, i * RECORDS_PER_RANGE,
+                            Math.min(recordCount, (i + 1) * RECORDS_PER_RANGE)));
+                } catch (IOException e) {
+                    failures[i] = e;
+                }
+            });
+        }
+
+        for (IOException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        List<T> records = new ArrayList<>(recordCount);
+        ranges.forEach(records::addAll);
+        return records;
+    }
+
+    /**
+     * Reads the records from {@code start} (inclusive) to {@code end} (exclusive) in {@code index} with a single
+     * positional read of their bytes, which is safe while other ranges are read from {@code channel}.
+     */
+    private List<T> readRange(FileChannel channel, Index index, int start, int end) throws IOException {
+        long rangeOffset = index.offsets.get(start);
+        long rangeLength = index.offsets.get(end - 1) + index.lengths.get(end - 1) - rangeOffset;
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(rangeLength));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, rangeOffset + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of file " + filePath);
+            }
+        }
+
+        byte[] bytes = buffer.array();
+        List<T> records = new ArrayList<>(end - start);
+        for (int i = start; i < end; i++) {
+            String line = new String(bytes, Math.toIntExact(index.offsets.get(i) - rangeOffset), index.lengths.get(i),
+                    StandardCharsets.UTF_8);
+            records.add(JsonUtil.fromJsonString(line, recordClass));
+        }
+        return records;
+    }
+
+    private Contents<T> readLines() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = hasHeader ? reader.readLine() : null;
+            List<T> records = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    records.add(JsonUtil.fromJsonString(line, recordClass));
+                }
+            }
+            return new Contents<>(header, records);
+        }
+    }
+
+    /**
+     * The header line and records of an {@code NdjsonFile}.
+     */
+    static class Contents<T> {
+        /** The header line, or null if the file has no header. */
+        final String header;
+        final List<T> records;
+
+        Contents(String header, List<T> records) {
+            this.header = header;
+            this.records = records;
+        }
+    }
+
+    /**
+     * The offset and length of each record of an {@code NdjsonFile} in order, and the position of the first record
+     * with each key.
+     */
+    private static class Index {
+        private final List<Long> offsets = new ArrayList<>();
+        private final List<Integer> lengths = new ArrayList<>();
+        private final Map<String, Integer> positions = new HashMap<>();
+        /** Size of the data file that the index describes. */
+        private long dataFileSize;
+
+        private void add(long offset, int length, String key) {
+            positions.putIfAbsent(key, offsets.size());
+            offsets.add(offset);
+            lengths.add(length);
+        }
+    }
+}
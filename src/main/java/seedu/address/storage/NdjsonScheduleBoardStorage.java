@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+
+/**
+ * A class to access ScheduleBoard data stored as an NDJSON file on the hard disk, with one schedule per line.
+ *
+ * An index file beside the data file holds the offset of each schedule, so that the schedules are read in parallel.
+ * A save that only adds schedules after the ones this storage last read or wrote appends them to the file instead of
+ * rewriting it.
+ */
+public class NdjsonScheduleBoardStorage implements ScheduleBoardStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(NdjsonScheduleBoardStorage.class);
+
+    private Path filePath;
+
+    /** Data file last opened, whose index is kept in memory. */
+    private NdjsonFile<JsonAdaptedSchedule> file;
+
+    /** Data file that {@code savedSchedules} were last read from or written to. */
+    private Path savedFilePath;
+    private List<Schedule> savedSchedules;
+
+    public NdjsonScheduleBoardStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getScheduleBoardFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isScheduleBoardSavedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException {
+        return readScheduleBoard(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleBoard()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath)
+            throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<NdjsonFile.Contents<JsonAdaptedSchedule>> contents = openFile(filePath).read();
+        if (contents.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            ScheduleBoard scheduleBoard = new ScheduleBoard();
+            for (JsonAdaptedSchedule jsonAdaptedSchedule : contents.get().records) {
+                JsonSerializableScheduleBoard.addSchedule(scheduleBoard, jsonAdaptedSchedule.toModelType());
+            }
+            savedFilePath = filePath;
+            savedSchedules = List.copyOf(scheduleBoard.getScheduleList());
+            return Optional.of(scheduleBoard);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        saveScheduleBoard(scheduleBoard, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleBoard(ReadOnlyScheduleBoard)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard, Path filePath)
+            throws IOException {
+        requireNonNull(scheduleBoard);
+        requireNonNull(filePath);
+
+        NdjsonFile<JsonAdaptedSchedule> file = openFile(filePath);
+        List<Schedule> schedules = List.copyOf(scheduleBoard.getScheduleList());
+        if (isAppendOf(filePath, schedules) && file.isIndexed()) {
+            List<Schedule> addedSchedules = schedules.subList(savedSchedules.size(), schedules.size());
+            file.append(adapt(addedSchedules));
+            logger.fine("Appended " + addedSchedules.size() + " schedule(s) to " + filePath);
+        } else {
+            file.write(null, adapt(schedules));
+        }
+        savedFilePath = filePath;
+        savedSchedules = schedules;
+    }
+
+    /**
+     * Returns true if {@code schedules} are the schedules in the file at {@code filePath} with schedules added after
+     * the others, which can be appended to the file.
+     */
+    private boolean isAppendOf(Path filePath, List<Schedule> schedules) {
+        if (!filePath.equals(savedFilePath) || schedules.size() < savedSchedules.size()) {
+            return false;
+        }
+        for (int i = 0; i < savedSchedules.size(); i++) {
+            if (schedules.get(i) != savedSchedules.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<JsonAdaptedSchedule> adapt(List<Schedule> schedules) {
+        return schedules.stream().map(JsonAdaptedSchedule::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the data file at {@code filePath}, which is the same as the last one opened if the path is the same, so
+     * that its index is kept in memory between saves.
+     */
+    private NdjsonFile<JsonAdaptedSchedule> openFile(Path filePath) {
+        if (file == null || !file.getFilePath().equals(filePath)) {
+            // schedules are not read by key, so they are indexed only by offset
+            file = new NdjsonFile<>(filePath, JsonAdaptedSchedule.class, false, jsonAdaptedSchedule -> "");
+        }
+        return file;
+    }
+}
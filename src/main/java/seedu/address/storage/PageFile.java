@@ -0,0 +1,361 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A file of fixed-size pages that are read and written with positional {@code FileChannel} I/O, through a cache of
+ * the most recently used pages.
+ *
+ * Page 0 is the header, which holds the number of pages, the head of the list of free pages, and a few root page
+ * numbers for the structures stored in the file. Changed pages are kept in the cache until {@link #flush()} writes
+ * them, followed by the header, so that a flush writes only the pages that changed. Unchanged pages are kept apart
+ * from changed ones, so that the least recently used unchanged page is evicted without looking at the others.
+ * Values too large for a page are stored as blobs, in chains of overflow pages.
+ */
+class PageFile implements Closeable {
+
+    public static final int PAGE_SIZE = 4096;
+    /** Page number that refers to no page, as page 0 is the header. */
+    public static final int NO_PAGE = 0;
+    public static final int ROOT_COUNT = 4;
+
+    public static final String MESSAGE_NOT_A_PAGE_FILE = "File is not a page file of this version.";
+
+    static final int DEFAULT_CACHE_CAPACITY = 1024;
+
+    private static final int MAGIC = 0x51485047;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_PAGE = 0;
+    private static final int PAGE_COUNT_POSITION = 8;
+    private static final int FREE_LIST_HEAD_POSITION = 12;
+    private static final int ROOTS_POSITION = 16;
+
+    private static final byte OVERFLOW_PAGE = 3;
+    private static final byte FREE_PAGE = 4;
+    /** Position in an overflow or free page of the number of the next page in its chain. */
+    private static final int NEXT_PAGE_POSITION = 1;
+    private static final int OVERFLOW_DATA_POSITION = 5;
+    private static final int OVERFLOW_DATA_SIZE = PAGE_SIZE - OVERFLOW_DATA_POSITION;
+
+    private final FileChannel channel;
+    private final int cacheCapacity;
+    /** Cached pages that are unchanged since they were read or flushed, from the least to the most recently used. */
+    private final Map<Integer, ByteBuffer> cleanPages = new LinkedHashMap<>(16, 0.75f, true);
+    /** Cached pages that have changed since the last flush, which are not evicted until they are written. */
+    private final Map<Integer, ByteBuffer> dirtyPages = new HashMap<>();
+
+    private int pageCount;
+    private int freeListHead;
+    private final int[] roots = new int[ROOT_COUNT];
+    private int pageReadCount;
+    private int pageWriteCount;
+
+    private PageFile(FileChannel channel, int cacheCapacity) {
+        this.channel = channel;
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    /**
+     * Opens the page file at {@code filePath}, creating an empty one if it does not exist.
+     *
+     * @throws IOException if the file could not be opened, or is not a page file.
+     */
+    public static PageFile open(Path filePath, int cacheCapacity) throws IOException {
+        requireNonNull(filePath);
+        assert cacheCapacity > 0;
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileChannel channel = FileChannel.open(filePath,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE);
+        PageFile pageFile = new PageFile(channel, cacheCapacity);
+        try {
+            if (channel.size() == 0) {
+                pageFile.pageCount = 1;
+                pageFile.writeHeader();
+            } else {
+                pageFile.readHeader();
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return pageFile;
+    }
+
+    /**
+     * Opens the existing page file at {@code filePath} for reading only. Pages of the file cannot be allocated, freed
+     * or flushed.
+     *
+     * @throws IOException if the file could not be opened, or is not a page file.
+     */
+    public static PageFile openReadOnly(Path filePath, int cacheCapacity) throws IOException {
+        requireNonNull(filePath);
+        assert cacheCapacity > 0;
+
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        PageFile pageFile = new PageFile(channel, cacheCapacity);
+        try {
+            pageFile.readHeader();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        return pageFile;
+    }
+
+    /**
+     * Returns the page numbered {@code pageNumber}, reading it from the file if it is not cached. The page is shared
+     * with the cache, so it must be read and written with absolute gets and puts, and must be marked dirty with
+     * {@link #markDirty(int)} after it is changed.
+     */
+    public ByteBuffer getPage(int pageNumber) throws IOException {
+        if (pageNumber <= HEADER_PAGE || pageNumber >= pageCount) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+
+        ByteBuffer page = dirtyPages.get(pageNumber);
+        if (page == null) {
+            page = cleanPages.get(pageNumber);
+        }
+        if (page == null) {
+            page = ByteBuffer.allocate(PAGE_SIZE);
+            readFully(page, (long) pageNumber * PAGE_SIZE);
+            pageReadCount++;
+            cachePage(pageNumber, page);
+        }
+        return page;
+    }
+
+    public void markDirty(int pageNumber) {
+        ByteBuffer page = cleanPages.remove(pageNumber);
+        if (page != null) {
+            dirtyPages.put(pageNumber, page);
+        }
+        assert dirtyPages.containsKey(pageNumber);
+    }
+
+    /**
+     * Returns the number of a new, zeroed page, reusing a free page if there is one. The page is marked dirty.
+     */
+    public int allocatePage() throws IOException {
+        int pageNumber;
+        if (freeListHead != NO_PAGE) {
+            pageNumber = freeListHead;
+            freeListHead = getPage(pageNumber).getInt(NEXT_PAGE_POSITION);
+        } else {
+            pageNumber = pageCount++;
+        }
+        cachePage(pageNumber, ByteBuffer.allocate(PAGE_SIZE));
+        markDirty(pageNumber);
+        return pageNumber;
+    }
+
+    /**
+     * Adds the page numbered {@code pageNumber} to the list of free pages, to be reused by a later allocation.
+     */
+    public void freePage(int pageNumber) throws IOException {
+        ByteBuffer page = getPage(pageNumber);
+        page.put(0, FREE_PAGE);
+        page.putInt(NEXT_PAGE_POSITION, freeListHead);
+        markDirty(pageNumber);
+        freeListHead = pageNumber;
+    }
+
+    /**
+     * Returns the root page number in slot {@code index} of the header, or {@link #NO_PAGE} if it is not set.
+     */
+    public int getRoot(int index) {
+        return roots[index];
+    }
+
+    public void setRoot(int index, int pageNumber) {
+        roots[index] = pageNumber;
+    }
+
+    /**
+     * Writes {@code value} to a new chain of overflow pages, and returns the number of its first page.
+     */
+    public int writeBlob(byte[] value) throws IOException {
+        requireNonNull(value);
+        int firstPageNumber = NO_PAGE;
+        ByteBuffer previousPage = null;
+        int previousPageNumber = NO_PAGE;
+        for (int offset = 0; offset < value.length || firstPageNumber == NO_PAGE; offset += OVERFLOW_DATA_SIZE) {
+            int pageNumber = allocatePage();
+            ByteBuffer page = getPage(pageNumber);
+            page.put(0, OVERFLOW_PAGE);
+            page.put(OVERFLOW_DATA_POSITION, value, offset, Math.min(OVERFLOW_DATA_SIZE, value.length - offset));
+            if (previousPage == null) {
+                firstPageNumber = pageNumber;
+            } else {
+                previousPage.putInt(NEXT_PAGE_POSITION, pageNumber);
+                markDirty(previousPageNumber);
+            }
+            previousPage = page;
+            previousPageNumber = pageNumber;
+        }
+        return firstPageNumber;
+    }
+
+    /**
+     * Returns the {@code length} bytes of the blob that starts at page {@code firstPageNumber}.
+     */
+    public byte[] readBlob(int firstPageNumber, int length) throws IOException {
+        byte[] value = new byte[length];
+        int pageNumber = firstPageNumber;
+        for (int offset = 0; offset < length; offset += OVERFLOW_DATA_SIZE) {
+            ByteBuffer page = getOverflowPage(pageNumber);
+            page.get(OVERFLOW_DATA_POSITION, value, offset, Math.min(OVERFLOW_DATA_SIZE, length - offset));
+            pageNumber = page.getInt(NEXT_PAGE_POSITION);
+        }
+        return value;
+    }
+
+    /**
+     * Frees the pages of the blob that starts at page {@code firstPageNumber}.
+     */
+    public void freeBlob(int firstPageNumber) throws IOException {
+        int pageNumber = firstPageNumber;
+        while (pageNumber != NO_PAGE) {
+            int nextPageNumber = getOverflowPage(pageNumber).getInt(NEXT_PAGE_POSITION);
+            freePage(pageNumber);
+            pageNumber = nextPageNumber;
+        }
+    }
+
+    /**
+     * Writes the changed pages, in order, and then the header, and forces them to the storage device.
+     * The written pages stay in the cache as unchanged pages.
+     */
+    public void flush() throws IOException {
+        List<Integer> pageNumbers = new ArrayList<>(dirtyPages.keySet());
+        pageNumbers.sort(null);
+        for (int pageNumber : pageNumbers) {
+            ByteBuffer page = dirtyPages.get(pageNumber).duplicate();
+            page.clear();
+            writeFully(page, (long) pageNumber * PAGE_SIZE);
+            pageWriteCount++;
+        }
+        for (int pageNumber : pageNumbers) {
+            cachePage(pageNumber, dirtyPages.remove(pageNumber));
+        }
+        writeHeader();
+        channel.force(false);
+    }
+
+    /**
+     * Returns true if the changed pages fill the cache, in which case the file should be flushed before it is changed
+     * further, so that a long run of changes, such as the writing of a whole file, does not keep every changed page
+     * in memory.
+     */
+    public boolean isCacheFull() {
+        return dirtyPages.size() >= cacheCapacity;
+    }
+
+    /**
+     * Returns the number of pages read from the file since it was opened, for finding out how many pages an operation
+     * touches.
+     */
+    int getPageReadCount() {
+        return pageReadCount;
+    }
+
+    /**
+     * Returns the number of pages, other than the header, written to the file since it was opened.
+     */
+    int getPageWriteCount() {
+        return pageWriteCount;
+    }
+
+    /**
+     * Closes the file without flushing it, discarding any changed pages that were not flushed.
+     */
+    @Override
+    public void close() throws IOException {
+        cleanPages.clear();
+        dirtyPages.clear();
+        channel.close();
+    }
+
+    private ByteBuffer getOverflowPage(int pageNumber) throws IOException {
+        ByteBuffer page = getPage(pageNumber);
+        if (page.get(0) != OVERFLOW_PAGE) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+        return page;
+    }
+
+    /**
+     * Adds {@code page} to the cache as an unchanged page, and evicts the least recently used unchanged pages until
+     * the cache is within its capacity. Changed pages, and the added page, are kept, so the cache may exceed its
+     * capacity until it is flushed.
+     */
+    private void cachePage(int pageNumber, ByteBuffer page) {
+        cleanPages.put(pageNumber, page);
+        Iterator<Integer> pageNumbers = cleanPages.keySet().iterator();
+        while (cleanPages.size() > 1 && cleanPages.size() + dirtyPages.size() > cacheCapacity) {
+            pageNumbers.next();
+            pageNumbers.remove();
+        }
+    }
+
+    private void readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+        if (channel.size() < PAGE_SIZE) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+        readFully(header, HEADER_PAGE);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+        pageCount = header.getInt(PAGE_COUNT_POSITION);
+        freeListHead = header.getInt(FREE_LIST_HEAD_POSITION);
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            roots[i] = header.getInt(ROOTS_POSITION + i * Integer.BYTES);
+        }
+        if (pageCount < 1 || (long) pageCount * PAGE_SIZE > channel.size()) {
+            throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(PAGE_SIZE);
+        header.putInt(0, MAGIC);
+        header.putInt(4, FORMAT_VERSION);
+        header.putInt(PAGE_COUNT_POSITION, pageCount);
+        header.putInt(FREE_LIST_HEAD_POSITION, freeListHead);
+        for (int i = 0; i < ROOT_COUNT; i++) {
+            header.putInt(ROOTS_POSITION + i * Integer.BYTES, roots[i]);
+        }
+        writeFully(header, HEADER_PAGE);
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(MESSAGE_NOT_A_PAGE_FILE);
+            }
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
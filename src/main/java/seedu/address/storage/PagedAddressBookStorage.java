@@ -0,0 +1,523 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * A class to access AddressBook data stored in a single file of pages on the hard disk.
+ *
+ * Each person has an id, and the persons are kept in a B+tree keyed by id, in the order of the persons in the
+ * address book. A second B+tree indexes the persons by name, so that a person can be read by name without reading
+ * the others. Saving the address book only updates the entries of the persons that were added, edited or removed since
+ * this storage last read or wrote the file, which touches a few pages per person, and only the changed pages are
+ * written. The pages are read and written through a page cache that is kept while the file is in use.
+ *
+ * The remark of each person is kept apart from the other details, in an append-only remark file beside the page file,
+ * and the entry of the person only refers to it by its offset and length. This keeps the entries small, so that more
+ * of them fit in a page, and a remark is only read when the person is read. The remarks of removed and edited
+ * persons are left in the remark file, and once they take up most of it, both files are written again from the
+ * start, so that the remark file does not grow without bound.
+ */
+public class PagedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_MISSING_JOB_ROLES = "Page file does not contain the job roles.";
+
+    /** Root slot of the tree of persons, keyed by the ids of the persons. */
+    static final int PERSONS_ROOT = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedAddressBookStorage.class);
+
+    private static final int NAME_INDEX_ROOT = 1;
+    private static final int METADATA_ROOT = 2;
+    private static final byte[] JOB_ROLES_KEY = "jobRoles".getBytes(StandardCharsets.UTF_8);
+
+    /** Difference between the ids of consecutive persons when ids are assigned, which leaves room for inserts. */
+    private static final long ID_GAP = 1L << 20;
+    /** Length of the prefix of a name key that is kept in the name index, leaving room for the id of the person. */
+    private static final int MAX_INDEXED_NAME_LENGTH = BPlusTree.MAX_KEY_LENGTH - Long.BYTES;
+    /** Size in bytes below which a remark file is not written again, however little of it is referred to. */
+    static final long MIN_RECLAIMED_REMARK_FILE_SIZE = 1 << 16;
+    /** Fraction of a remark file that must no longer be referred to for the file to be written again. */
+    private static final double MAX_UNREFERENCED_REMARK_RATIO = 0.5;
+
+    private final Path filePath;
+    private final int cacheCapacity;
+
+    /** Page file that is in use, which is the file last read from or written to. */
+    private PageFile pageFile;
+    private RemarkStore remarkStore;
+    private Path pageFilePath;
+    /** Persons in the page file, in order, or null if they are not known to be the same as in the file. */
+    private List<Person> savedPersons;
+    private long[] savedIds;
+    private List<JobRole> savedJobRoles;
+    /** Number of bytes of the remark file that the persons in the page file refer to. */
+    private long savedRemarkBytes;
+
+    public PagedAddressBookStorage(Path filePath) {
+        this(filePath, PageFile.DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Creates a storage of the page file at {@code filePath}, which caches up to {@code cacheCapacity} pages.
+     */
+    public PagedAddressBookStorage(Path filePath, int cacheCapacity) {
+        this.filePath = filePath;
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isAddressBookSavedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. The persons are read in the order of their ids, one leaf at a time, and
+     * their remarks are read together, in the order of the remark file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            PageFile file = openPageFile(filePath);
+            AddressBook addressBook = readJobRoles(file);
+            List<BPlusTree.Entry> entries = new BPlusTree(file, PERSONS_ROOT).getEntries();
+            List<JsonAdaptedPerson> jsonAdaptedPersons = new ArrayList<>(entries.size());
+            List<RemarkStore.Reference> remarkReferences = new ArrayList<>(entries.size());
+            long[] ids = new long[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                ids[i] = ByteBuffer.wrap(entries.get(i).key).getLong();
+                byte[] value = entries.get(i).value;
+                jsonAdaptedPersons.add(toJsonAdaptedPerson(value));
+                remarkReferences.add(getRemarkReference(value));
+            }
+            String[] remarks = remarkStore.readAll(remarkReferences);
+            for (int i = 0; i < jsonAdaptedPersons.size(); i++) {
+                jsonAdaptedPersons.get(i).setRemark(remarks[i]);
+            }
+
+            List<Person> persons = ParallelPersonConverter.toModelTypes(jsonAdaptedPersons, person -> false);
+            // persons whose job roles are cleared when they are added differ from the file
+            boolean isSameAsFile = true;
+            for (Person person : persons) {
+                isSameAsFile &= addressBook.hasJobRolesOf(person);
+                JsonSerializableAddressBook.addPerson(addressBook, person);
+            }
+            remember(isSameAsFile ? persons : null, ids, addressBook.getJobRoleList());
+            savedRemarkBytes = remarkReferences.stream().mapToLong(reference -> reference.length).sum();
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } catch (IOException e) {
+            logger.warning("Error reading from page file " + filePath + ": " + e);
+            closePageFile();
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the person named {@code name} in the page file, reading only the pages of the indexes that lead to the
+     * person, and the remark of the person, which is cached with the most recently read remarks.
+     * Returns {@code Optional.empty()} if there is no such person, or the page file is not found.
+     *
+     * @throws DataLoadingException if loading the person from storage failed.
+     */
+    public synchronized Optional<Person> readPerson(Name name) throws DataLoadingException {
+        requireNonNull(name);
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            PageFile file = openPageFile(filePath);
+            BPlusTree persons = new BPlusTree(file, PERSONS_ROOT);
+            String nameKey = UniquePersonList.toNameKey(name);
+            for (BPlusTree.Entry entry : new BPlusTree(file, NAME_INDEX_ROOT).getEntriesWithPrefix(
+                    toIndexedName(nameKey))) {
+                Optional<byte[]> value = persons.get(entry.value);
+                if (value.isEmpty()) {
+                    continue;
+                }
+                JsonAdaptedPerson jsonAdaptedPerson = toJsonAdaptedPerson(value.get());
+                if (!jsonAdaptedPerson.getNameKey().equals(nameKey)) {
+                    continue;
+                }
+                jsonAdaptedPerson.setRemark(remarkStore.read(getRemarkReference(value.get())));
+                Person person = jsonAdaptedPerson.toModelType();
+                if (!readJobRoles(file).hasJobRolesOf(person)) {
+                    person.resetJobRoles();
+                }
+                return Optional.of(person);
+            }
+            return Optional.empty();
+        } catch (IllegalValueException | IOException e) {
+            logger.info("Person " + name + " could not be read from " + filePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. If the page file was last read or written by this
+     * storage, only the persons that changed since are written, and the other persons keep their ids, unless most of
+     * the remark file is then no longer referred to. Otherwise the page file and its remark file are replaced.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = List.copyOf(addressBook.getPersonList());
+        List<JobRole> jobRoles = List.copyOf(addressBook.getJobRoleList());
+        try {
+            long[] ids = filePath.equals(pageFilePath) && savedPersons != null ? assignIds(persons) : null;
+            if (ids == null) {
+                replace(filePath, persons, jobRoles);
+                return;
+            }
+            update(persons, ids, jobRoles);
+            if (isRemarkReclamationDue()) {
+                logger.info("Reclaiming " + (remarkStore.getSize() - savedRemarkBytes)
+                        + " bytes of remarks no longer referred to in " + filePath);
+                replace(filePath, persons, jobRoles);
+            }
+        } catch (IOException e) {
+            // the cached pages may no longer match the file
+            closePageFile();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of pages written to the page file in use since it was opened, for finding out how many pages
+     * a save touches.
+     */
+    int getPageWriteCount() {
+        return pageFile == null ? 0 : pageFile.getPageWriteCount();
+    }
+
+    /**
+     * Returns true if the remark file in use is large, and mostly holds remarks that are no longer referred to.
+     */
+    private boolean isRemarkReclamationDue() {
+        long size = remarkStore.getSize();
+        return size >= MIN_RECLAIMED_REMARK_FILE_SIZE
+                && size - savedRemarkBytes > size * MAX_UNREFERENCED_REMARK_RATIO;
+    }
+
+    /**
+     * Replaces the page file at {@code filePath} with one that holds {@code persons} and {@code jobRoles}.
+     */
+    private void replace(Path filePath, List<Person> persons, List<JobRole> jobRoles) throws IOException {
+        closePageFile();
+        Files.deleteIfExists(filePath);
+        Files.deleteIfExists(RemarkStore.getRemarkFilePath(filePath));
+        PageFile file = openPageFile(filePath);
+        BPlusTree personTree = new BPlusTree(file, PERSONS_ROOT);
+        BPlusTree nameIndex = new BPlusTree(file, NAME_INDEX_ROOT);
+        long[] ids = new long[persons.size()];
+        for (int i = 0; i < persons.size(); i++) {
+            ids[i] = (i + 1) * ID_GAP;
+            putPerson(personTree, nameIndex, ids[i], persons.get(i),
+                    remarkStore.append(persons.get(i).getRemark().value));
+            flushIfCacheFull(file);
+        }
+        writeJobRoles(file, jobRoles);
+        remarkStore.force();
+        file.flush();
+        remember(persons, ids, jobRoles);
+        savedRemarkBytes = remarkStore.getSize();
+        logger.fine("Replaced " + filePath + " with " + persons.size() + " person(s)");
+    }
+
+    /**
+     * Updates the page file with the persons that are not in it, removing the persons that are no longer in the
+     * address book. {@code ids} are the ids of {@code persons}, as assigned by {@link #assignIds(List)}.
+     * An added person with the same remark as a removed person, such as an edited person, refers to the remark of the
+     * removed person instead of appending it again. A remark is referred to by one person at most, so that the
+     * number of bytes of the remark file that are referred to is known.
+     */
+    private void update(List<Person> persons, long[] ids, List<JobRole> jobRoles) throws IOException {
+        BPlusTree personTree = new BPlusTree(pageFile, PERSONS_ROOT);
+        BPlusTree nameIndex = new BPlusTree(pageFile, NAME_INDEX_ROOT);
+        Map<Person, Long> keptIds = new IdentityHashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            keptIds.put(persons.get(i), ids[i]);
+        }
+
+        Map<String, RemarkStore.Reference> removedRemarks = new HashMap<>();
+        int removedCount = 0;
+        for (int i = 0; i < savedPersons.size(); i++) {
+            Person savedPerson = savedPersons.get(i);
+            if (!Long.valueOf(savedIds[i]).equals(keptIds.get(savedPerson))) {
+                Optional<byte[]> value = personTree.get(toKey(savedIds[i]));
+                if (value.isPresent()) {
+                    RemarkStore.Reference remarkReference = getRemarkReference(value.get());
+                    removedRemarks.put(savedPerson.getRemark().value, remarkReference);
+                    savedRemarkBytes -= remarkReference.length;
+                }
+                personTree.remove(toKey(savedIds[i]));
+                nameIndex.remove(toNameIndexKey(savedPerson, savedIds[i]));
+                flushIfCacheFull(pageFile);
+                removedCount++;
+            }
+        }
+        Map<Person, Long> savedIdsByPerson = getSavedIdsByPerson();
+        int addedCount = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            if (!Long.valueOf(ids[i]).equals(savedIdsByPerson.get(persons.get(i)))) {
+                String remark = persons.get(i).getRemark().value;
+                RemarkStore.Reference remarkReference = removedRemarks.remove(remark);
+                if (remarkReference == null) {
+                    remarkReference = remarkStore.append(remark);
+                }
+                putPerson(personTree, nameIndex, ids[i], persons.get(i), remarkReference);
+                savedRemarkBytes += remarkReference.length;
+                flushIfCacheFull(pageFile);
+                addedCount++;
+            }
+        }
+        if (!jobRoles.equals(savedJobRoles)) {
+            writeJobRoles(pageFile, jobRoles);
+        }
+
+        remarkStore.force();
+        pageFile.flush();
+        remember(persons, ids, jobRoles);
+        logger.fine("Removed " + removedCount + " and added " + addedCount + " person(s) in " + pageFilePath);
+    }
+
+    /**
+     * Returns ids for {@code persons} that increase in the order of the persons, keeping the saved id of each saved
+     * person that is still in order, and choosing ids between those for the other persons.
+     * Returns null if there is no room between the ids of two kept persons for the persons between them.
+     */
+    private long[] assignIds(List<Person> persons) {
+        Map<Person, Long> savedIdsByPerson = getSavedIdsByPerson();
+        long[] ids = new long[persons.size()];
+        long lastKeptId = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            Long savedId = savedIdsByPerson.get(persons.get(i));
+            ids[i] = savedId != null && savedId > lastKeptId ? savedId : 0;
+            lastKeptId = Math.max(lastKeptId, ids[i]);
+        }
+
+        long previousId = 0;
+        for (int start = 0; start < persons.size(); start++) {
+            if (ids[start] != 0) {
+                previousId = ids[start];
+                continue;
+            }
+            int end = start;
+            while (end < persons.size() && ids[end] == 0) {
+                end++;
+            }
+            // persons after the last kept person are given ids after it, as if they were appended
+            long step = end < persons.size() ? (ids[end] - previousId) / (end - start + 1) : ID_GAP;
+            if (step == 0) {
+                return null;
+            }
+            for (int i = start; i < end; i++) {
+                ids[i] = previousId + step * (i - start + 1);
+            }
+            previousId = ids[end - 1];
+            start = end - 1;
+        }
+        return ids;
+    }
+
+    private Map<Person, Long> getSavedIdsByPerson() {
+        Map<Person, Long> savedIdsByPerson = new IdentityHashMap<>();
+        for (int i = 0; i < savedPersons.size(); i++) {
+            savedIdsByPerson.put(savedPersons.get(i), savedIds[i]);
+        }
+        return savedIdsByPerson;
+    }
+
+    private void putPerson(BPlusTree personTree, BPlusTree nameIndex, long id, Person person,
+            RemarkStore.Reference remark) throws IOException {
+        personTree.put(toKey(id), toValue(person, remark));
+        nameIndex.put(toNameIndexKey(person, id), toKey(id));
+    }
+
+    /**
+     * Flushes {@code file} if its changed pages fill its cache, forcing the remarks that they refer to first.
+     */
+    private void flushIfCacheFull(PageFile file) throws IOException {
+        if (file.isCacheFull()) {
+            remarkStore.force();
+            file.flush();
+        }
+    }
+
+    private void remember(List<Person> persons, long[] ids, List<JobRole> jobRoles) {
+        savedPersons = persons;
+        savedIds = ids;
+        savedJobRoles = List.copyOf(jobRoles);
+    }
+
+    /**
+     * Returns the page file at {@code filePath}, opening it and its remark file if it is not the page file in use.
+     */
+    private PageFile openPageFile(Path filePath) throws IOException {
+        if (!filePath.equals(pageFilePath)) {
+            closePageFile();
+            PageFile file = PageFile.open(filePath, cacheCapacity);
+            try {
+                remarkStore = RemarkStore.open(RemarkStore.getRemarkFilePath(filePath));
+            } catch (IOException e) {
+                file.close();
+                throw e;
+            }
+            pageFile = file;
+            pageFilePath = filePath;
+        }
+        return pageFile;
+    }
+
+    private void closePageFile() {
+        try {
+            if (pageFile != null) {
+                pageFile.close();
+            }
+            if (remarkStore != null) {
+                remarkStore.close();
+            }
+        } catch (IOException e) {
+            logger.warning("Error closing page file " + pageFilePath + ": " + e);
+        }
+        pageFile = null;
+        remarkStore = null;
+        pageFilePath = null;
+        savedPersons = null;
+    }
+
+    /**
+     * Returns an address book with only the job roles in {@code file}.
+     */
+    private static AddressBook readJobRoles(PageFile file) throws IOException, IllegalValueException {
+        Optional<byte[]> jobRoles = new BPlusTree(file, METADATA_ROOT).get(JOB_ROLES_KEY);
+        if (jobRoles.isEmpty()) {
+            throw new IllegalValueException(MESSAGE_MISSING_JOB_ROLES);
+        }
+        return JsonUtil.fromJsonString(new String(jobRoles.get(), StandardCharsets.UTF_8),
+                JsonSerializableAddressBook.class).toModelType();
+    }
+
+    private static void writeJobRoles(PageFile file, List<JobRole> jobRoles) throws IOException {
+        String json = JsonUtil.toCompactJsonString(new JsonSerializableAddressBook(List.of(),
+                jobRoles.stream().map(JsonAdaptedJobRole::new).collect(Collectors.toList())));
+        new BPlusTree(file, METADATA_ROOT).put(JOB_ROLES_KEY, json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the entry of {@code person} in the tree of persons, which is the reference to the remark of the person
+     * followed by the other details of the person.
+     */
+    private static byte[] toValue(Person person, RemarkStore.Reference remark) throws IOException {
+        JsonAdaptedPerson jsonAdaptedPerson = new JsonAdaptedPerson(person);
+        jsonAdaptedPerson.setRemark("");
+        byte[] details = JsonUtil.toCompactJsonString(jsonAdaptedPerson).getBytes(StandardCharsets.UTF_8);
+        ByteBuffer value = ByteBuffer.allocate(RemarkStore.Reference.ENCODED_LENGTH + details.length);
+        remark.encode(value);
+        return value.put(details).array();
+    }
+
+    /**
+     * Returns the reference to the remark of the person whose entry in the tree of persons is {@code value}.
+     */
+    static RemarkStore.Reference getRemarkReference(byte[] value) throws IOException {
+        if (value.length < RemarkStore.Reference.ENCODED_LENGTH) {
+            throw new IOException(PageFile.MESSAGE_NOT_A_PAGE_FILE);
+        }
+        return RemarkStore.Reference.decode(ByteBuffer.wrap(value));
+    }
+
+    /**
+     * Returns the details of the person whose entry in the tree of persons is {@code value}, without the remark.
+     */
+    static JsonAdaptedPerson toJsonAdaptedPerson(byte[] value) throws IOException {
+        if (value.length < RemarkStore.Reference.ENCODED_LENGTH) {
+            throw new IOException(PageFile.MESSAGE_NOT_A_PAGE_FILE);
+        }
+        int offset = RemarkStore.Reference.ENCODED_LENGTH;
+        return JsonUtil.fromJsonString(new String(value, offset, value.length - offset, StandardCharsets.UTF_8),
+                JsonAdaptedPerson.class);
+    }
+
+    /**
+     * Returns the key of the person with {@code id}, which sorts in the order of the ids as they are not negative.
+     */
+    static byte[] toKey(long id) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+    }
+
+    /**
+     * Returns the key of {@code person} in the name index, which is the indexed prefix of the name key followed by
+     * the id of the person, so that persons whose name keys share the prefix have different keys.
+     */
+    private static byte[] toNameIndexKey(Person person, long id) {
+        byte[] indexedName = toIndexedName(UniquePersonList.toNameKey(person));
+        return ByteBuffer.allocate(indexedName.length + Long.BYTES).put(indexedName).putLong(id).array();
+    }
+
+    /**
+     * Returns the prefix of {@code nameKey} that is kept in the name index, followed by a zero byte, which does not
+     * occur in a name and so separates the name from the id.
+     */
+    private static byte[] toIndexedName(String nameKey) {
+        byte[] name = nameKey.getBytes(StandardCharsets.UTF_8);
+        byte[] indexedName = Arrays.copyOf(name, Math.min(name.length, MAX_INDEXED_NAME_LENGTH - 1) + 1);
+        indexedName[indexedName.length - 1] = 0;
+        return indexedName;
+    }
+}
@@ -0,0 +1,152 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.LruCache;
+import seedu.address.model.person.Person;
+
+/**
+ * A read-only view of the candidates in a page file written by {@code PagedAddressBookStorage}, which keeps only the
+ * ids of the candidates in memory.
+ *
+ * Opening the archive reads the ids from the leaves of the tree of persons, without parsing the persons. A person is
+ * read through the page cache and parsed when it is first needed, and the most recently read persons are kept in a
+ * cache of a bounded size, so the memory used by the archive does not grow with the number of persons in the file.
+ * The remark of a person is read from the remark file beside the page file with the other details of the person.
+ */
+public class PagedArchive implements CandidateArchive {
+
+    public static final String MESSAGE_MISSING_PERSON = "Person is no longer in the page file.";
+
+    static final int DEFAULT_PERSON_CACHE_CAPACITY = 256;
+
+    private static final Logger logger = LogsCenter.getLogger(PagedArchive.class);
+
+    private static final int PAGE_CACHE_CAPACITY = 64;
+
+    private final Path filePath;
+    private final PageFile pageFile;
+    private final RemarkStore remarkStore;
+    private final BPlusTree persons;
+    private final long[] ids;
+    /** Most recently read persons, by their index in the archive. */
+    private final LruCache<Integer, Person> personCache;
+
+    private PagedArchive(Path filePath, PageFile pageFile, RemarkStore remarkStore, long[] ids,
+            int personCacheCapacity) {
+        this.filePath = filePath;
+        this.pageFile = pageFile;
+        this.remarkStore = remarkStore;
+        this.persons = new BPlusTree(pageFile, PagedAddressBookStorage.PERSONS_ROOT);
+        this.ids = ids;
+        this.personCache = new LruCache<>(personCacheCapacity);
+    }
+
+    /**
+     * Opens the page file at {@code filePath}, which must exist, and reads the ids of the persons in it.
+     *
+     * @throws DataLoadingException if the file could not be read, or is not a page file.
+     */
+    public static PagedArchive open(Path filePath) throws DataLoadingException {
+        return open(filePath, DEFAULT_PERSON_CACHE_CAPACITY);
+    }
+
+    /**
+     * Similar to {@link #open(Path)}, keeping up to {@code personCacheCapacity} persons in memory.
+     */
+    static PagedArchive open(Path filePath, int personCacheCapacity) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        PageFile pageFile = null;
+        try {
+            pageFile = PageFile.openReadOnly(filePath, PAGE_CACHE_CAPACITY);
+            List<byte[]> keys = new BPlusTree(pageFile, PagedAddressBookStorage.PERSONS_ROOT).getKeys();
+            long[] ids = keys.stream().mapToLong(key -> ByteBuffer.wrap(key).getLong()).toArray();
+            RemarkStore remarkStore = RemarkStore.openReadOnly(RemarkStore.getRemarkFilePath(filePath));
+            logger.info("Read the ids of " + ids.length + " person(s) in page file " + filePath);
+            return new PagedArchive(filePath, pageFile, remarkStore, ids, personCacheCapacity);
+        } catch (IOException e) {
+            logger.warning("Error opening page file " + filePath + ": " + e);
+            if (pageFile != null) {
+                closeQuietly(pageFile, filePath);
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Returns the person at {@code index} in the archive, reading it from the page file if it is not cached.
+     *
+     * @throws DataLoadingException if the person could not be read, or is not valid.
+     */
+    @Override
+    public synchronized Person getPerson(int index) throws DataLoadingException {
+        if (index < 0 || index >= ids.length) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        Optional<Person> cachedPerson = personCache.get(index);
+        if (cachedPerson.isPresent()) {
+            return cachedPerson.get();
+        }
+
+        try {
+            Optional<byte[]> value = persons.get(PagedAddressBookStorage.toKey(ids[index]));
+            if (value.isEmpty()) {
+                throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+            }
+            JsonAdaptedPerson jsonAdaptedPerson = PagedAddressBookStorage.toJsonAdaptedPerson(value.get());
+            jsonAdaptedPerson.setRemark(remarkStore.read(PagedAddressBookStorage.getRemarkReference(value.get())));
+            Person person = jsonAdaptedPerson.toModelType();
+            personCache.put(index, person);
+            return person;
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Person " + (index + 1) + " in page file " + filePath + " could not be read: "
+                    + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Returns the number of persons that were read from the cache rather than from the page file.
+     */
+    long getCacheHitCount() {
+        return personCache.getHitCount();
+    }
+
+    @Override
+    public synchronized void close() {
+        personCache.clear();
+        closeQuietly(pageFile, filePath);
+        closeQuietly(remarkStore, filePath);
+    }
+
+    private static void closeQuietly(Closeable file, Path filePath) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            logger.warning("Error closing page file " + filePath + ": " + e);
+        }
+    }
+}
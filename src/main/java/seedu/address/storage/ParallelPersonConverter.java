@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Converts adapted persons into the model's {@code Person} objects in parallel, in chunks on the common
+ * {@code ForkJoinPool}.
+ *
+ * The persons are checked as if they were converted one by one and added to an address book in order: a failure is
+ * reported for the first person in the list that is invalid, or that is the same person as one before it.
+ */
+class ParallelPersonConverter {
+
+    /** Number of persons below which a chunk is converted without being split further. */
+    private static final int CHUNK_SIZE = 512;
+
+    private final List<JsonAdaptedPerson> adaptedPersons;
+    private final Predicate<Person> isExistingPerson;
+    private final Person[] persons;
+    /** Index of the first person with each name key, as persons with the same name key are the same person. */
+    private final Map<String, Integer> firstIndexOfName = new ConcurrentHashMap<>();
+    private int firstFailureIndex = Integer.MAX_VALUE;
+    private IllegalValueException firstFailure;
+
+    private ParallelPersonConverter(List<JsonAdaptedPerson> adaptedPersons, Predicate<Person> isExistingPerson) {
+        this.adaptedPersons = adaptedPersons;
+        this.isExistingPerson = isExistingPerson;
+        this.persons = new Person[adaptedPersons.size()];
+    }
+
+    /**
+     * Returns the persons converted from {@code adaptedPersons}, in the same order.
+     * {@code isExistingPerson} tests if a person is the same person as one converted earlier, and is called from
+     * several threads at once.
+     *
+     * @throws IllegalValueException if any person is invalid, or is the same person as an earlier or existing person,
+     *     with the message of the failure of the first such person.
+     */
+    public static List<Person> toModelTypes(List<JsonAdaptedPerson> adaptedPersons,
+            Predicate<Person> isExistingPerson) throws IllegalValueException {
+        requireAllNonNull(adaptedPersons, isExistingPerson);
+        ParallelPersonConverter converter = new ParallelPersonConverter(adaptedPersons, isExistingPerson);
+        ForkJoinPool.commonPool().invoke(new Chunk(converter, 0, adaptedPersons.size(), false));
+        ForkJoinPool.commonPool().invoke(new Chunk(converter, 0, adaptedPersons.size(), true));
+        if (converter.firstFailure != null) {
+            throw converter.firstFailure;
+        }
+        return Arrays.asList(converter.persons);
+    }
+
+    /**
+     * Converts the persons from {@code start} (inclusive) to {@code end} (exclusive), stopping at the first failure.
+     */
+    private void convert(int start, int end) {
+        for (int i = start; i < end; i++) {
+            try {
+                Person person = adaptedPersons.get(i).toModelType();
+                persons[i] = person;
+                firstIndexOfName.merge(UniquePersonList.toNameKey(person), i, Math::min);
+            } catch (IllegalValueException ive) {
+                recordFailure(i, ive);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks the converted persons from {@code start} (inclusive) to {@code end} (exclusive) for duplicates,
+     * stopping at the first duplicate.
+     */
+    private void checkDuplicates(int start, int end) {
+        for (int i = start; i < end; i++) {
+            Person person = persons[i];
+            if (person != null && (firstIndexOfName.get(UniquePersonList.toNameKey(person)) < i
+                    || isExistingPerson.test(person))) {
+                recordFailure(i, new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON));
+                return;
+            }
+        }
+    }
+
+    private synchronized void recordFailure(int index, IllegalValueException failure) {
+        if (index < firstFailureIndex) {
+            firstFailureIndex = index;
+            firstFailure = failure;
+        }
+    }
+
+    /**
+     * A range of persons that is converted or checked for duplicates, split into halves until it is small enough.
+     */
+    private static class Chunk extends RecursiveAction {
+        private final ParallelPersonConverter converter;
+        private final int start;
+        private final int end;
+        private final boolean isDuplicateCheck;
+
+        Chunk(ParallelPersonConverter converter, int start, int end, boolean isDuplicateCheck) {
+            this.converter = converter;
+            this.start = start;
+            this.end = end;
+            this.isDuplicateCheck = isDuplicateCheck;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= CHUNK_SIZE) {
+                if (isDuplicateCheck) {
+                    converter.checkDuplicates(start, end);
+                } else {
+                    converter.convert(start, end);
+                }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new Chunk(converter, start, middle, isDuplicateCheck),
+                    new Chunk(converter, middle, end, isDuplicateCheck));
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.LruCache;
+
+/**
+ * An append-only file of remark bodies, in which each remark is referred to by its offset and length.
+ *
+ * Remarks are only appended, and are never changed in place, so a remark that is no longer referred to stays in the
+ * file until the file is written again from the start. A single remark is read with a positional read when it is
+ * needed, and the most recently read remarks are cached. The remarks of every person are read together with
+ * {@link #readAll(List)}, which reads only the ranges of the file that are referred to, in the order of the file.
+ */
+class RemarkStore implements Closeable {
+
+    public static final String MESSAGE_INVALID_REFERENCE = "Remark is not in the remark file.";
+
+    static final String FILE_EXTENSION_REMARKS = ".remarks";
+    static final int DEFAULT_CACHE_CAPACITY = 256;
+
+    /** Number of bytes read at once by {@link #readAll(List)}. */
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    /** Channel of the remark file, or null if the file is missing and is only read. */
+    private final FileChannel channel;
+    /** Most recently read remarks, by their offset in the file. */
+    private final LruCache<Long, String> cache;
+    private long size;
+
+    private RemarkStore(FileChannel channel, int cacheCapacity) throws IOException {
+        this.channel = channel;
+        this.cache = new LruCache<>(cacheCapacity);
+        this.size = channel == null ? 0 : channel.size();
+    }
+
+    /**
+     * Returns the path of the remark file of the page file at {@code pageFilePath}, which is beside the page file.
+     */
+    static Path getRemarkFilePath(Path pageFilePath) {
+        return pageFilePath.resolveSibling(pageFilePath.getFileName() + FILE_EXTENSION_REMARKS);
+    }
+
+    /**
+     * Opens the remark file at {@code filePath}, creating an empty one if it does not exist.
+     */
+    public static RemarkStore open(Path filePath) throws IOException {
+        return open(filePath, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Similar to {@link #open(Path)}, caching up to {@code cacheCapacity} remarks.
+     */
+    public static RemarkStore open(Path filePath, int cacheCapacity) throws IOException {
+        requireNonNull(filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        return new RemarkStore(FileChannel.open(filePath,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.CREATE), cacheCapacity);
+    }
+
+    /**
+     * Opens the remark file at {@code filePath} for reading only. A missing file is treated as an empty one, which
+     * only holds empty remarks.
+     */
+    public static RemarkStore openReadOnly(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return new RemarkStore(null, DEFAULT_CACHE_CAPACITY);
+        }
+        return new RemarkStore(FileChannel.open(filePath, StandardOpenOption.READ), DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * Returns the size of the file in bytes, including the remarks that are no longer referred to.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Appends {@code remark} to the file, and returns its reference. An empty remark is not written.
+     */
+    public Reference append(String remark) throws IOException {
+        requireNonNull(remark);
+        if (remark.isEmpty()) {
+            return Reference.EMPTY;
+        }
+
+        ByteBuffer bytes = ByteBuffer.wrap(remark.getBytes(StandardCharsets.UTF_8));
+        Reference reference = new Reference(size, bytes.remaining());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes, size + bytes.position());
+        }
+        size += reference.length;
+        return reference;
+    }
+
+    /**
+     * Returns the remark that {@code reference} refers to, reading only that remark from the file if it is not
+     * cached.
+     *
+     * @throws IOException if the remark could not be read, or is not in the file.
+     */
+    public String read(Reference reference) throws IOException {
+        requireNonNull(reference);
+        if (reference.length == 0) {
+            return "";
+        }
+
+        String cachedRemark = cache.get(reference.offset).orElse(null);
+        if (cachedRemark != null) {
+            return cachedRemark;
+        }
+        checkInFile(reference);
+        ByteBuffer bytes = ByteBuffer.allocate(reference.length);
+        readFully(bytes, reference.offset);
+        String remark = new String(bytes.array(), StandardCharsets.UTF_8);
+        cache.put(reference.offset, remark);
+        return remark;
+    }
+
+    /**
+     * Returns the remarks that {@code references} refer to, in the same order, without caching them.
+     * The referred ranges are read in the order of the file, and ranges that lie next to each other are read
+     * together, so that the remarks of many persons are read without a read of the file for each, and remarks that
+     * are no longer referred to are not read.
+     *
+     * @throws IOException if a remark could not be read, or is not in the file.
+     */
+    public String[] readAll(List<Reference> references) throws IOException {
+        requireNonNull(references);
+        String[] remarks = new String[references.size()];
+        Integer[] order = new Integer[references.size()];
+        for (int i = 0; i < references.size(); i++) {
+            Reference reference = references.get(i);
+            if (reference.length != 0) {
+                checkInFile(reference);
+            }
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingLong(i -> references.get(i).offset));
+
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        long bufferOffset = 0;
+        buffer.limit(0);
+        for (int next = 0; next < order.length; next++) {
+            Reference reference = references.get(order[next]);
+            if (reference.length == 0) {
+                remarks[order[next]] = "";
+                continue;
+            }
+            if (reference.length > READ_BUFFER_SIZE) {
+                ByteBuffer bytes = ByteBuffer.allocate(reference.length);
+                readFully(bytes, reference.offset);
+                remarks[order[next]] = new String(bytes.array(), StandardCharsets.UTF_8);
+                continue;
+            }
+            if (reference.offset < bufferOffset || reference.end() > bufferOffset + buffer.limit()) {
+                bufferOffset = reference.offset;
+                buffer.clear();
+                buffer.limit((int) (getEndOfRun(references, order, next) - bufferOffset));
+                readFully(buffer, bufferOffset);
+            }
+            remarks[order[next]] = new String(buffer.array(), (int) (reference.offset - bufferOffset),
+                    reference.length, StandardCharsets.UTF_8);
+        }
+        return remarks;
+    }
+
+    /**
+     * Forces the appended remarks to the storage device, so that they are stored before anything that refers to them.
+     */
+    public void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        cache.clear();
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Returns the end of the run of ranges from {@code references.get(order[first])} onwards that lie next to or
+     * over each other, in the order of {@code order}, and fit in the read buffer together.
+     */
+    private static long getEndOfRun(List<Reference> references, Integer[] order, int first) {
+        long start = references.get(order[first]).offset;
+        long end = references.get(order[first]).end();
+        for (int i = first + 1; i < order.length; i++) {
+            Reference reference = references.get(order[i]);
+            if (reference.length == 0) {
+                continue;
+            }
+            if (reference.offset > end || reference.end() - start > READ_BUFFER_SIZE) {
+                break;
+            }
+            end = Math.max(end, reference.end());
+        }
+        return end;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException(MESSAGE_INVALID_REFERENCE);
+            }
+        }
+    }
+
+    private void checkInFile(Reference reference) throws IOException {
+        if (reference.offset < 0 || reference.length < 0 || reference.offset + reference.length > size) {
+            throw new IOException(MESSAGE_INVALID_REFERENCE);
+        }
+    }
+
+    /**
+     * The offset and length in bytes of a remark in a remark file.
+     */
+    static class Reference {
+        /** Reference to the empty remark, which is not stored in the file. */
+        static final Reference EMPTY = new Reference(0, 0);
+        /** Number of bytes of an encoded reference. */
+        static final int ENCODED_LENGTH = Long.BYTES + Integer.BYTES;
+
+        final long offset;
+        final int length;
+
+        Reference(long offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns the offset just after the remark.
+         */
+        long end() {
+            return offset + length;
+        }
+
+        /**
+         * Returns the reference encoded at the current position of {@code buffer}, which is advanced past it.
+         */
+        static Reference decode(ByteBuffer buffer) {
+            return new Reference(buffer.getLong(), buffer.getInt());
+        }
+
+        /**
+         * Encodes this reference at the current position of {@code buffer}, which is advanced past it.
+         */
+        void encode(ByteBuffer buffer) {
+            buffer.putLong(offset).putInt(length);
+        }
+    }
+}
@@ -41,4 +41,13 @@ public interface ScheduleBoardStorage {
      * @see #saveScheduleBoard(ReadOnlyScheduleBoard)
      */
     void saveScheduleBoard(ReadOnlyScheduleBoard schedules, Path filePath) throws IOException;
+
+    /**
+     * Returns true if this storage remembers the data it last read or saved, so that it only writes what has changed
+     * when the data is saved again. The data of such a storage must be read through it, rather than from a snapshot
+     * of its file, for it to remember the data.
+     */
+    default boolean isScheduleBoardSavedIncrementally() {
+        return false;
+    }
 }
@@ -0,0 +1,521 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * A class to access AddressBook data stored as many small json files on the hard disk, so that saving the address
+ * book only rewrites the files of the persons that changed.
+ *
+ * The persons are partitioned into shards by a stable hash of their names, and each shard is stored in its own file
+ * in a directory beside the data file. The data file holds a {@code JsonShardManifest} instead of the persons.
+ * The number of shards is derived from the number of persons when the shards are first written, and kept until the
+ * number of persons has grown or shrunk so much that every shard is resharded, so that shards stay small enough to
+ * be rewritten cheaply without there being many more shard files than persons.
+ * Shard files are never overwritten: a save writes the changed shards to new files, then replaces the manifest, so
+ * that a save that fails part way leaves the previous data intact.
+ *
+ * Each person in a shard file has a position, and the address book lists the persons of all shards in the order of
+ * their positions. Positions are spaced apart, so that a person kept from the last save keeps its position, and an
+ * edited or added person is given one between its neighbours without moving the others. The manifest therefore does
+ * not grow with the number of persons, and is rewritten only with the shards that changed.
+ *
+ * The storage remembers the persons of each shard as it last read or wrote them, and a shard is written only if its
+ * persons are no longer the same objects at the same positions. A data file written by
+ * {@code JsonAddressBookStorage} can also be read, and is sharded when it is next saved.
+ */
+public class ShardedJsonAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_MISSING_SHARD = "Shard file %s is missing.";
+    public static final String MESSAGE_INVALID_POSITIONS = "Persons in the shard files must each have one position, "
+            + "and no two persons can have the same position.";
+
+    /** Number of persons per shard that the number of shards is derived for. */
+    static final int PERSONS_PER_SHARD = 64;
+    static final int MIN_SHARD_COUNT = 4;
+    static final int MAX_SHARD_COUNT = 4096;
+    /** Factor by which the derived number of shards must differ from the current one to reshard when shrinking. */
+    private static final int SHRINK_RESHARD_FACTOR = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedJsonAddressBookStorage.class);
+
+    private static final String SHARD_DIRECTORY_SUFFIX = "-shards";
+    private static final String SHARD_FILE_PREFIX = "shard-";
+    /** Space between the positions of consecutive persons when positions are given out afresh. */
+    private static final long POSITION_STEP = 1 << 20;
+
+    private Path filePath;
+    private final boolean isCompact;
+
+    /** Data file that {@code savedShards} was last read from or written to. */
+    private Path savedFilePath;
+    private SavedShards savedShards;
+
+    public ShardedJsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage of the data file at {@code filePath}, whose files are written without indentation if
+     * {@code isCompact}.
+     */
+    public ShardedJsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+    }
+
+    /**
+     * Returns the path of the directory that holds the shard files of the data file at {@code filePath}.
+     */
+    public static Path getShardDirectoryPath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public boolean isAddressBookSavedIncrementally() {
+        return true;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. The shard files are read in parallel.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            if (!manifest.get().isManifest()) {
+                logger.info("Data file " + filePath + " is not sharded, and will be sharded when it is saved.");
+                return JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook::readModelType);
+            }
+            return Optional.of(readShards(filePath, manifest.get()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Only the shards that changed since the data file was
+     * last read or written by this storage are written.
+     *
+     * @param filePath location of the data file. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        SavedShards previous = filePath.equals(savedFilePath) ? savedShards : null;
+        List<Person> persons = addressBook.getPersonList();
+        int derivedShardCount = shardCountFor(persons.size());
+        int shardCount = previous == null ? derivedShardCount : previous.fileNames.size();
+        boolean isResharded = previous != null && isReshardingDue(shardCount, derivedShardCount);
+        if (isResharded) {
+            logger.info("Resharding " + filePath + " from " + shardCount + " to " + derivedShardCount + " shards");
+            shardCount = derivedShardCount;
+        }
+        Map<Person, Long> positions = assignPositions(persons,
+                previous == null ? Collections.emptyMap() : previous.positions);
+        List<List<Person>> shards = partition(persons, shardCount);
+        List<JobRole> jobRoles = List.copyOf(addressBook.getJobRoleList());
+
+        boolean[] isChanged = new boolean[shardCount];
+        int changedShardCount = 0;
+        for (int i = 0; i < shardCount; i++) {
+            isChanged[i] = previous == null || isResharded || !previous.isSameShard(i, shards.get(i), positions);
+            changedShardCount += isChanged[i] ? 1 : 0;
+        }
+        if (changedShardCount == 0 && jobRoles.equals(previous.jobRoles)) {
+            logger.fine("No shards of " + filePath + " changed");
+            return;
+        }
+
+        long generation = (previous == null ? readGeneration(filePath) : previous.generation) + 1;
+        Path shardDirectoryPath = getShardDirectoryPath(filePath);
+        Files.createDirectories(shardDirectoryPath);
+        List<String> fileNames = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (!isChanged[i]) {
+                fileNames.add(previous.fileNames.get(i));
+                continue;
+            }
+            String fileName = SHARD_FILE_PREFIX + i + "-" + generation + ".json";
+            writeShard(shardDirectoryPath.resolve(fileName), shards.get(i), positions);
+            fileNames.add(fileName);
+        }
+
+        writeManifest(filePath, new JsonShardManifest(generation, fileNames,
+                jobRoles.stream().map(JsonAdaptedJobRole::new).collect(Collectors.toList())));
+        savedFilePath = filePath;
+        savedShards = new SavedShards(generation, fileNames, shards, jobRoles, positions);
+        logger.fine("Wrote " + changedShardCount + " of " + shardCount + " shards of " + filePath);
+        deleteUnusedShards(shardDirectoryPath, fileNames);
+    }
+
+    /**
+     * Returns the address book in the shards listed by {@code manifest}, which was read from {@code filePath}.
+     */
+    private AddressBook readShards(Path filePath, JsonShardManifest manifest)
+            throws DataLoadingException, IllegalValueException {
+        List<Shard> shards = readShardFiles(getShardDirectoryPath(filePath), manifest.getShards());
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setJobRoles(new ArrayList<>());
+        for (JsonAdaptedJobRole jsonAdaptedJobRole : manifest.getJobRoles()) {
+            JsonSerializableAddressBook.addJobRole(addressBook, jsonAdaptedJobRole.toModelType());
+        }
+
+        Map<Person, Long> positions = new IdentityHashMap<>();
+        List<List<Person>> savedPersons = new ArrayList<>(shards.size());
+        for (Shard shard : shards) {
+            // a shard with persons whose job roles are cleared when they are added differs from its file
+            boolean isSameAsFile = true;
+            for (int i = 0; i < shard.persons.size(); i++) {
+                Person person = shard.persons.get(i);
+                positions.put(person, shard.positions.get(i));
+                isSameAsFile &= addressBook.hasJobRolesOf(person);
+            }
+            savedPersons.add(isSameAsFile ? shard.persons : null);
+        }
+
+        List<Person> persons = new ArrayList<>(positions.keySet());
+        persons.sort(Comparator.comparing(positions::get));
+        for (int i = 0; i < persons.size(); i++) {
+            if (i > 0 && positions.get(persons.get(i - 1)).equals(positions.get(persons.get(i)))) {
+                throw new IllegalValueException(MESSAGE_INVALID_POSITIONS);
+            }
+            JsonSerializableAddressBook.addPerson(addressBook, persons.get(i));
+        }
+
+        savedFilePath = filePath;
+        savedShards = new SavedShards(manifest.getGeneration(), manifest.getShards(), savedPersons,
+                List.copyOf(addressBook.getJobRoleList()), positions);
+        return addressBook;
+    }
+
+    /**
+     * Reads the shard files named {@code fileNames} in {@code shardDirectoryPath} in parallel.
+     * If any shard cannot be read, the failure of the first such shard is thrown.
+     */
+    private static List<Shard> readShardFiles(Path shardDirectoryPath, List<String> fileNames)
+            throws DataLoadingException, IllegalValueException {
+        List<Shard> shards = new ArrayList<>(Collections.nCopies(fileNames.size(), null));
+        Exception[] failures = new Exception[fileNames.size()];
+        IntStream.range(0, fileNames.size()).parallel().forEach(i -> {
+            try {
+                shards.set(i, readShardFile(shardDirectoryPath.resolve(fileNames.get(i))));
+            } catch (DataLoadingException | IllegalValueException e) {
+                failures[i] = e;
+            }
+        });
+
+        for (Exception failure : failures) {
+            if (failure instanceof DataLoadingException) {
+                throw (DataLoadingException) failure;
+            } else if (failure instanceof IllegalValueException) {
+                throw (IllegalValueException) failure;
+            }
+        }
+        return shards;
+    }
+
+    private static Shard readShardFile(Path shardFilePath) throws DataLoadingException, IllegalValueException {
+        Optional<Shard> shard = JsonUtil.readJsonFile(shardFilePath, ShardedJsonAddressBookStorage::readShard);
+        if (shard.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shardFilePath.getFileName()));
+        }
+        return shard.get();
+    }
+
+    /**
+     * Reads the persons of a shard and their positions from {@code parser}.
+     */
+    private static Shard readShard(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a shard object");
+        }
+
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<Long> positions = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            if (fieldName.equals("persons")) {
+                JsonUtil.readArray(parser, JsonAdaptedPerson.class, persons::add);
+            } else if (fieldName.equals("positions")) {
+                JsonUtil.readArray(parser, Long.class, positions::add);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (positions.size() != persons.size() || positions.contains(null)) {
+            throw new IllegalValueException(MESSAGE_INVALID_POSITIONS);
+        }
+        return new Shard(ParallelPersonConverter.toModelTypes(persons, person -> false), positions);
+    }
+
+    private void writeShard(Path shardFilePath, List<Person> persons, Map<Person, Long> positions)
+            throws IOException {
+        JsonUtil.writeJsonFile(shardFilePath, generator -> writeShard(persons, positions, generator), isCompact);
+    }
+
+    private static void writeShard(List<Person> persons, Map<Person, Long> positions, JsonGenerator generator)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart("positions");
+        for (Person person : persons) {
+            generator.writeNumber(positions.get(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Replaces the data file at {@code filePath} with {@code manifest}, through a temporary file, so that the data
+     * file is never left partially written.
+     */
+    private void writeManifest(Path filePath, JsonShardManifest manifest) throws IOException {
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        JsonUtil.writeJsonFile(tempFilePath, generator -> generator.writeObject(manifest), isCompact);
+        Files.move(tempFilePath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the generation of the manifest in the data file at {@code filePath}, or 0 if there is none, so that
+     * shard files of that generation are not overwritten.
+     */
+    private static long readGeneration(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, JsonShardManifest.class)
+                    .map(JsonShardManifest::getGeneration)
+                    .orElse(0L);
+        } catch (DataLoadingException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Deletes the shard files in {@code shardDirectoryPath} that are not named in {@code fileNames}.
+     * The shard files are no longer used by the manifest, so failing to delete them is not an error.
+     */
+    private static void deleteUnusedShards(Path shardDirectoryPath, List<String> fileNames) {
+        try (Stream<Path> files = Files.list(shardDirectoryPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (fileName.startsWith(SHARD_FILE_PREFIX) && !fileNames.contains(fileName)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to delete unused shards in " + shardDirectoryPath + " : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the position of each of {@code persons}, in increasing order. Persons in {@code savedPositions} keep
+     * their positions as long as those stay in order, and the others are spread evenly between the kept positions
+     * around them. Only if there is no room left between two kept positions are all positions given out afresh.
+     */
+    private static Map<Person, Long> assignPositions(List<Person> persons, Map<Person, Long> savedPositions) {
+        long[] positions = new long[persons.size()];
+        boolean[] isKept = new boolean[persons.size()];
+        long lastPosition = Long.MIN_VALUE;
+        for (int i = 0; i < persons.size(); i++) {
+            Long savedPosition = savedPositions.get(persons.get(i));
+            if (savedPosition != null && savedPosition > lastPosition) {
+                positions[i] = savedPosition;
+                isKept[i] = true;
+                lastPosition = savedPosition;
+            }
+        }
+
+        long lowerPosition = 0;
+        for (int start = 0; start < persons.size(); start++) {
+            if (isKept[start]) {
+                lowerPosition = positions[start];
+                continue;
+            }
+            int end = start;
+            while (end < persons.size() && !isKept[end]) {
+                end++;
+            }
+            int count = end - start;
+            long upperPosition = end < persons.size() ? positions[end] : lowerPosition + (count + 1) * POSITION_STEP;
+            if (upperPosition - lowerPosition <= count) {
+                return toPositionMap(persons, LongStream.rangeClosed(1, persons.size())
+                        .map(i -> i * POSITION_STEP).toArray());
+            }
+            long step = (upperPosition - lowerPosition) / (count + 1);
+            for (int i = 0; i < count; i++) {
+                positions[start + i] = lowerPosition + step * (i + 1);
+            }
+            start = end - 1;
+        }
+        return toPositionMap(persons, positions);
+    }
+
+    private static Map<Person, Long> toPositionMap(List<Person> persons, long[] positions) {
+        Map<Person, Long> positionMap = new IdentityHashMap<>(persons.size());
+        for (int i = 0; i < persons.size(); i++) {
+            positionMap.put(persons.get(i), positions[i]);
+        }
+        return positionMap;
+    }
+
+    /**
+     * Returns the number of shards for {@code personCount} persons, which is a power of two so that resharding
+     * doubles or halves it at least.
+     */
+    static int shardCountFor(int personCount) {
+        int shardCount = MIN_SHARD_COUNT;
+        while (shardCount < MAX_SHARD_COUNT && (long) shardCount * PERSONS_PER_SHARD < personCount) {
+            shardCount *= 2;
+        }
+        return shardCount;
+    }
+
+    /**
+     * Returns true if shards written as {@code currentShardCount} shards should be resharded into
+     * {@code derivedShardCount} shards. Shards are resharded as soon as they hold more persons than they are derived
+     * for, but only once they hold much fewer, so that a number of persons near a threshold does not reshard on
+     * every save.
+     */
+    private static boolean isReshardingDue(int currentShardCount, int derivedShardCount) {
+        return derivedShardCount > currentShardCount
+                || (long) derivedShardCount * SHRINK_RESHARD_FACTOR <= currentShardCount;
+    }
+
+    /**
+     * Returns {@code persons} partitioned into {@code shardCount} shards by the hash of their names, keeping their
+     * order within each shard.
+     */
+    private static List<List<Person>> partition(List<Person> persons, int shardCount) {
+        List<List<Person>> shards = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            // String.hashCode is specified, so the shard of a person is the same in every run
+            shards.get(Math.floorMod(UniquePersonList.toNameKey(person).hashCode(), shardCount)).add(person);
+        }
+        return shards;
+    }
+
+    /**
+     * The persons of a shard file and their positions, in the same order.
+     */
+    private static class Shard {
+        private final List<Person> persons;
+        private final List<Long> positions;
+
+        Shard(List<Person> persons, List<Long> positions) {
+            this.persons = persons;
+            this.positions = positions;
+        }
+    }
+
+    /**
+     * The shards of an address book as they are in its files.
+     */
+    private static class SavedShards {
+        private final long generation;
+        private final List<String> fileNames;
+        /** Persons of each shard, or null for a shard that differs from its file. */
+        private final List<List<Person>> persons;
+        private final List<JobRole> jobRoles;
+        /** Position of each person in the files, by identity. */
+        private final Map<Person, Long> positions;
+
+        SavedShards(long generation, List<String> fileNames, List<List<Person>> persons, List<JobRole> jobRoles,
+                Map<Person, Long> positions) {
+            this.generation = generation;
+            this.fileNames = fileNames;
+            this.persons = persons;
+            this.jobRoles = jobRoles;
+            this.positions = positions;
+        }
+
+        /**
+         * Returns true if shard {@code index} consists of the same person objects as {@code shard}, in order, at the
+         * same positions as in {@code shardPositions}.
+         */
+        boolean isSameShard(int index, List<Person> shard, Map<Person, Long> shardPositions) {
+            List<Person> savedShard = persons.get(index);
+            if (savedShard == null || savedShard.size() != shard.size()) {
+                return false;
+            }
+            for (int i = 0; i < shard.size(); i++) {
+                if (savedShard.get(i) != shard.get(i)
+                        || !positions.get(shard.get(i)).equals(shardPositions.get(shard.get(i)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
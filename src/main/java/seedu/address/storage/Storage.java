@@ -2,17 +2,21 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, UserPrefsStorage, ScheduleBoardStorage {
+public interface Storage extends AddressBookStorage, UserPrefsStorage, ScheduleBoardStorage, JournalStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataLoadingException;
@@ -29,4 +33,57 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, ScheduleB
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Persists the given {@code changes}, which lead to {@code addressBook} and {@code scheduleBoard}, by appending
+     * them to the journal, or by compacting the journal if the changes cannot be journaled or the journal is due
+     * for compaction.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard)
+            throws IOException;
+
+    /**
+     * Returns true if saving {@code changes} next would compact the journal, so that the data must be given in full.
+     */
+    boolean isCompactionDue(List<ModelChange> changes);
+
+    /**
+     * Persists the given {@code changes} by appending them to the journal, which must not be due for compaction.
+     *
+     * @throws IOException if there was any problem writing to the journal.
+     * @see #isCompactionDue(List)
+     */
+    void appendChanges(List<ModelChange> changes) throws IOException;
+
+    /**
+     * Saves {@code addressBook} and {@code scheduleBoard} in full, then clears the journal.
+     *
+     * @throws IOException if there was any problem writing to the files.
+     */
+    void compact(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard) throws IOException;
+
+    /**
+     * Writes snapshots of {@code addressBook} and {@code scheduleBoard}, so that the data files are loaded faster the
+     * next time the app starts. This is only done when the app stops, as a snapshot holds all of the data, and the
+     * snapshot of data that is not what was last saved to its data file is not written.
+     */
+    void saveSnapshots(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard);
+
+    /**
+     * Returns the writes performed and skipped by this storage, for diagnostics.
+     * Data that is unchanged since it was last saved is not written again.
+     */
+    WriteStatistics getWriteStatistics();
+
+    /**
+     * Blocks until every save requested so far has been written to the files.
+     */
+    void flush();
+
+    /**
+     * Sets the handler that is given the exception of any save that fails after its save method has returned.
+     */
+    void setSaveFailureHandler(Consumer<IOException> saveFailureHandler);
+
 }
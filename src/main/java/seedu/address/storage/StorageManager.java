@@ -1,35 +1,76 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.WriteStatistics.Component;
 
 /**
  * Manages storage of AddressBook data in local storage.
  */
 public class StorageManager implements Storage {
 
+    /** Name of the journal file, which is kept in the same folder as the address book file by default. */
+    public static final String DEFAULT_JOURNAL_FILE_NAME = "journal.ndjson";
+
+    /** Number of changes after which the journal is compacted into the data files. */
+    public static final int COMPACTION_THRESHOLD = 500;
+
+    /** Version of data that has not been saved, which is never issued to any data. */
+    private static final long UNSAVED_VERSION = -1;
+
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
     private ScheduleBoardStorage scheduleBoardStorage;
+    private JournalStorage journalStorage;
+    private final BinarySnapshotStorage snapshotStorage = new BinarySnapshotStorage();
+    /** State of the journal, which may be read by threads other than the one saving. */
+    private volatile int journalSize = 0;
+    private volatile boolean isJournalBehind = false;
+    /** Versions of the data last saved to the default files, which identify the saved data as versions are unique. */
+    private long savedAddressBookVersion = UNSAVED_VERSION;
+    private long savedScheduleBoardVersion = UNSAVED_VERSION;
+    private long savedUserPrefsVersion = UNSAVED_VERSION;
+    private final WriteStatistics writeStatistics = new WriteStatistics();
 
     /**
-     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}, and a
+     * journal in the same folder as the address book file.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
             ScheduleBoardStorage scheduleBoardStorage) {
+        this(addressBookStorage, userPrefsStorage, scheduleBoardStorage, new JsonJournalStorage(
+                addressBookStorage.getAddressBookFilePath().resolveSibling(DEFAULT_JOURNAL_FILE_NAME)));
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage}, {@code UserPrefStorage},
+     * {@code ScheduleBoardStorage} and {@code JournalStorage}.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+            ScheduleBoardStorage scheduleBoardStorage, JournalStorage journalStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
         this.scheduleBoardStorage = scheduleBoardStorage;
+        this.journalStorage = journalStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -46,7 +87,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        if (userPrefs.getVersion() == savedUserPrefsVersion) {
+            writeStatistics.recordSkippedWrite(Component.USER_PREFS);
+            return;
+        }
         userPrefsStorage.saveUserPrefs(userPrefs);
+        savedUserPrefsVersion = userPrefs.getVersion();
+        writeStatistics.recordPerformedWrite(Component.USER_PREFS);
     }
 
 
@@ -57,9 +104,28 @@ public class StorageManager implements Storage {
         return addressBookStorage.getAddressBookFilePath();
     }
 
+    /**
+     * Reads the address book from the snapshot of its file if the snapshot is up to date, or from the file otherwise,
+     * in which case a snapshot of the data read is written for the next read.
+     * Snapshots are not used if the address book storage saves incrementally, as it must read the data itself.
+     */
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        Path filePath = addressBookStorage.getAddressBookFilePath();
+        if (addressBookStorage.isAddressBookSavedIncrementally()) {
+            return readAddressBook(filePath);
+        }
+
+        Optional<AddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (snapshot.isPresent()) {
+            return Optional.of(snapshot.get());
+        }
+
+        Optional<ReadOnlyAddressBook> addressBook = readAddressBook(filePath);
+        if (addressBook.isPresent()) {
+            saveAddressBookSnapshot(addressBook.get());
+        }
+        return addressBook;
     }
 
     @Override
@@ -70,7 +136,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        if (addressBook.getVersion() == savedAddressBookVersion) {
+            writeStatistics.recordSkippedWrite(Component.ADDRESS_BOOK);
+            return;
+        }
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        savedAddressBookVersion = addressBook.getVersion();
+        writeStatistics.recordPerformedWrite(Component.ADDRESS_BOOK);
     }
 
     @Override
@@ -86,9 +158,28 @@ public class StorageManager implements Storage {
         return scheduleBoardStorage.getScheduleBoardFilePath();
     }
 
+    /**
+     * Reads the schedule board from the snapshot of its file if the snapshot is up to date, or from the file
+     * otherwise, in which case a snapshot of the data read is written for the next read.
+     * Snapshots are not used if the schedule board storage saves incrementally, as it must read the data itself.
+     */
     @Override
     public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException, IOException {
-        return readScheduleBoard(scheduleBoardStorage.getScheduleBoardFilePath());
+        Path filePath = scheduleBoardStorage.getScheduleBoardFilePath();
+        if (scheduleBoardStorage.isScheduleBoardSavedIncrementally()) {
+            return readScheduleBoard(filePath);
+        }
+
+        Optional<ScheduleBoard> snapshot = snapshotStorage.readScheduleBoard(filePath);
+        if (snapshot.isPresent()) {
+            return Optional.of(snapshot.get());
+        }
+
+        Optional<ReadOnlyScheduleBoard> scheduleBoard = readScheduleBoard(filePath);
+        if (scheduleBoard.isPresent()) {
+            saveScheduleBoardSnapshot(scheduleBoard.get());
+        }
+        return scheduleBoard;
     }
 
     @Override
@@ -99,7 +190,13 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        if (scheduleBoard.getVersion() == savedScheduleBoardVersion) {
+            writeStatistics.recordSkippedWrite(Component.SCHEDULE_BOARD);
+            return;
+        }
         saveScheduleBoard(scheduleBoard, scheduleBoardStorage.getScheduleBoardFilePath());
+        savedScheduleBoardVersion = scheduleBoard.getVersion();
+        writeStatistics.recordPerformedWrite(Component.SCHEDULE_BOARD);
     }
 
     @Override
@@ -107,4 +204,136 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         scheduleBoardStorage.saveScheduleBoard(scheduleBoard, filePath);
     }
+
+    // ================ Snapshot methods ==============================
+
+    /**
+     * Writes snapshots of {@code addressBook} and {@code scheduleBoard} if they are the data last saved to the data
+     * files, and their storages do not save incrementally.
+     */
+    @Override
+    public void saveSnapshots(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard) {
+        requireAllNonNull(addressBook, scheduleBoard);
+        if (addressBook.getVersion() == savedAddressBookVersion
+                && !addressBookStorage.isAddressBookSavedIncrementally()) {
+            saveAddressBookSnapshot(addressBook);
+        }
+        if (scheduleBoard.getVersion() == savedScheduleBoardVersion
+                && !scheduleBoardStorage.isScheduleBoardSavedIncrementally()) {
+            saveScheduleBoardSnapshot(scheduleBoard);
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code addressBook}, which must be the data in the address book file.
+     * A snapshot is only a cache of the file, so failing to write it is not an error.
+     */
+    private void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        try {
+            snapshotStorage.saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to write snapshot of address book : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes a snapshot of {@code scheduleBoard}, which must be the data in the schedule board file.
+     * A snapshot is only a cache of the file, so failing to write it is not an error.
+     */
+    private void saveScheduleBoardSnapshot(ReadOnlyScheduleBoard scheduleBoard) {
+        try {
+            snapshotStorage.saveScheduleBoard(scheduleBoard, scheduleBoardStorage.getScheduleBoardFilePath());
+        } catch (IOException e) {
+            logger.warning("Failed to write snapshot of schedule board : " + StringUtil.getDetails(e));
+        }
+    }
+
+    // ================ Journal methods ==============================
+
+    @Override
+    public Path getJournalFilePath() {
+        return journalStorage.getJournalFilePath();
+    }
+
+    @Override
+    public List<ModelChange> readJournal() throws DataLoadingException {
+        logger.fine("Attempting to read journal: " + getJournalFilePath());
+        List<ModelChange> changes = journalStorage.readJournal();
+        journalSize = changes.size();
+        return changes;
+    }
+
+    @Override
+    public void appendToJournal(List<ModelChange> changes) throws IOException {
+        logger.fine("Attempting to append " + changes.size() + " change(s) to journal: " + getJournalFilePath());
+        journalStorage.appendToJournal(changes);
+        journalSize += changes.size();
+        writeStatistics.recordPerformedWrite(Component.JOURNAL);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        journalStorage.clearJournal();
+        journalSize = 0;
+    }
+
+    @Override
+    public void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook,
+            ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        requireAllNonNull(changes, addressBook, scheduleBoard);
+        if (changes.isEmpty() && !isJournalBehind) {
+            writeStatistics.recordSkippedWrite(Component.JOURNAL);
+            return;
+        }
+
+        if (isCompactionDue(changes)) {
+            isJournalBehind = true;
+            compact(addressBook, scheduleBoard);
+            isJournalBehind = false;
+        } else {
+            appendChanges(changes);
+        }
+    }
+
+    @Override
+    public boolean isCompactionDue(List<ModelChange> changes) {
+        requireNonNull(changes);
+        // changes that failed to be saved are no longer available, so they can only be saved by compacting
+        return isJournalBehind
+                || changes.stream().anyMatch(ModelChange::requiresSnapshot)
+                || journalSize + changes.size() > COMPACTION_THRESHOLD;
+    }
+
+    @Override
+    public void appendChanges(List<ModelChange> changes) throws IOException {
+        assert !isCompactionDue(changes);
+        isJournalBehind = true;
+        appendToJournal(changes);
+        isJournalBehind = false;
+    }
+
+    @Override
+    public void compact(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        logger.fine("Compacting journal " + getJournalFilePath() + " into data files");
+        saveAddressBook(addressBook);
+        saveScheduleBoard(scheduleBoard);
+        clearJournal();
+    }
+
+    @Override
+    public WriteStatistics getWriteStatistics() {
+        return writeStatistics;
+    }
+
+    /**
+     * Does nothing, as every save of this storage is complete when the save method returns.
+     */
+    @Override
+    public void flush() {}
+
+    /**
+     * Does nothing, as failures to save are reported by the save methods of this storage.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {}
 }
@@ -0,0 +1,442 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.storage.WriteStatistics.Component;
+
+/**
+ * A {@code Storage} that saves data on a background thread, so that saving does not hold up the caller.
+ *
+ * Saves of changes, compactions and user prefs return at once. Saves that are requested while a write is in progress
+ * are coalesced, so that a burst of saves results in a single write of the latest data. Failures of these saves are
+ * given to the save failure handler. Every other method waits for pending writes to complete, then delegates to the
+ * underlying storage.
+ *
+ * Changes that are appended to the journal are saved without the rest of the data, so a snapshot of the data is only
+ * taken when the data is to be saved in full, which keeps the cost of a save proportional to the changes. Saves
+ * without changes to unchanged data are skipped.
+ */
+public class WriteBehindStorage implements Storage {
+
+    /** Version of data that has not been given to this storage, which is never issued to any data. */
+    private static final long UNSAVED_VERSION = -1;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** Guards the pending saves below, which are taken together by the writer. */
+    private final Object lock = new Object();
+    private final List<ModelChange> pendingChanges = new ArrayList<>();
+    /** Changes taken by the writer that it has not finished saving. */
+    private List<ModelChange> writingChanges = List.of();
+    /** Latest data to be saved in full, or null if the pending changes are only to be appended to the journal. */
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlyScheduleBoard pendingScheduleBoard;
+    private boolean isCompactionPending = false;
+    private ReadOnlyUserPrefs pendingUserPrefs;
+    private boolean isWriteScheduled = false;
+    /** Whether the writer found that the pending changes cannot be saved without the data in full. */
+    private boolean isDataRequested = false;
+
+    /** Versions of the data last given to a save of changes, which are only used by the thread that saves. */
+    private long lastAddressBookVersion = UNSAVED_VERSION;
+    private long lastScheduleBoardVersion = UNSAVED_VERSION;
+
+    private volatile Consumer<IOException> saveFailureHandler = exception -> {};
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes through {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ Write-behind methods ==============================
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        UserPrefs snapshot = new UserPrefs(userPrefs);
+        synchronized (lock) {
+            pendingUserPrefs = snapshot;
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void saveChanges(List<ModelChange> changes, ReadOnlyAddressBook addressBook,
+            ReadOnlyScheduleBoard scheduleBoard) {
+        requireAllNonNull(changes, addressBook, scheduleBoard);
+        boolean isDataUnchanged = addressBook.getVersion() == lastAddressBookVersion
+                && scheduleBoard.getVersion() == lastScheduleBoardVersion;
+        lastAddressBookVersion = addressBook.getVersion();
+        lastScheduleBoardVersion = scheduleBoard.getVersion();
+
+        synchronized (lock) {
+            if (changes.isEmpty() && isDataUnchanged && !isDataRequested && !storage.isCompactionDue(List.of())) {
+                storage.getWriteStatistics().recordSkippedWrite(Component.JOURNAL);
+                return;
+            }
+
+            pendingChanges.addAll(changes);
+            // a pending full save must be of the latest data, as it stands for every pending change
+            if (isDataRequested || pendingAddressBook != null || storage.isCompactionDue(getUnsavedChanges())) {
+                pendingAddressBook = AddressBookSnapshot.of(addressBook);
+                pendingScheduleBoard = ScheduleBoardSnapshot.of(scheduleBoard);
+                isDataRequested = false;
+            }
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void compact(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard) {
+        requireAllNonNull(addressBook, scheduleBoard);
+        ReadOnlyAddressBook addressBookSnapshot = AddressBookSnapshot.of(addressBook);
+        ReadOnlyScheduleBoard scheduleBoardSnapshot = ScheduleBoardSnapshot.of(scheduleBoard);
+        synchronized (lock) {
+            pendingAddressBook = addressBookSnapshot;
+            pendingScheduleBoard = scheduleBoardSnapshot;
+            isCompactionPending = true;
+            isDataRequested = false;
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public boolean isCompactionDue(List<ModelChange> changes) {
+        return storage.isCompactionDue(changes);
+    }
+
+    /**
+     * Appends {@code changes} to the journal when the pending writes are written.
+     */
+    @Override
+    public void appendChanges(List<ModelChange> changes) {
+        requireNonNull(changes);
+        synchronized (lock) {
+            pendingChanges.addAll(changes);
+            scheduleWrite();
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            writer.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Flushing does not throw.", e);
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Schedules a write of the pending saves, unless one is already scheduled and has not started.
+     */
+    private void scheduleWrite() {
+        assert Thread.holdsLock(lock);
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            writer.execute(this::writePending);
+        }
+    }
+
+    /**
+     * Returns the changes that are pending or being written, in the order they were made.
+     */
+    private List<ModelChange> getUnsavedChanges() {
+        assert Thread.holdsLock(lock);
+        List<ModelChange> unsavedChanges = new ArrayList<>(writingChanges);
+        unsavedChanges.addAll(pendingChanges);
+        return unsavedChanges;
+    }
+
+    /**
+     * Writes the saves that are pending, with the latest data of each.
+     * A pending compaction saves the latest data in full, which includes every pending change.
+     */
+    private void writePending() {
+        List<ModelChange> changes;
+        ReadOnlyAddressBook addressBook;
+        ReadOnlyScheduleBoard scheduleBoard;
+        boolean isCompaction;
+        ReadOnlyUserPrefs userPrefs;
+        synchronized (lock) {
+            changes = new ArrayList<>(pendingChanges);
+            addressBook = pendingAddressBook;
+            scheduleBoard = pendingScheduleBoard;
+            isCompaction = isCompactionPending;
+            userPrefs = pendingUserPrefs;
+            pendingChanges.clear();
+            pendingAddressBook = null;
+            pendingScheduleBoard = null;
+            isCompactionPending = false;
+            pendingUserPrefs = null;
+            isWriteScheduled = false;
+            writingChanges = changes;
+        }
+
+        if (userPrefs != null) {
+            try {
+                storage.saveUserPrefs(userPrefs);
+            } catch (IOException e) {
+                reportFailure(e);
+            }
+        }
+        try {
+            if (isCompaction) {
+                storage.compact(addressBook, scheduleBoard);
+            } else if (addressBook != null) {
+                storage.saveChanges(changes, addressBook, scheduleBoard);
+            } else if (!changes.isEmpty()) {
+                appendOrRequestData(changes);
+            }
+        } catch (IOException e) {
+            reportFailure(e);
+        } finally {
+            synchronized (lock) {
+                writingChanges = List.of();
+            }
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, or returns them to the pending changes if the journal became due for
+     * compaction after they were made, to be saved with the data in full by a later save of changes.
+     */
+    private void appendOrRequestData(List<ModelChange> changes) throws IOException {
+        if (!storage.isCompactionDue(changes)) {
+            storage.appendChanges(changes);
+            return;
+        }
+
+        synchronized (lock) {
+            pendingChanges.addAll(0, changes);
+            // data taken after these changes were made may already be pending, which is then saved with them
+            if (pendingAddressBook == null) {
+                isDataRequested = true;
+            }
+        }
+    }
+
+    private void reportFailure(IOException e) {
+        logger.warning("Failed to save data in the background " + StringUtil.getDetails(e));
+        saveFailureHandler.accept(e);
+    }
+
+    // ================ Delegated methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        flush();
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public Path getScheduleBoardFilePath() {
+        return storage.getScheduleBoardFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard() throws DataLoadingException, IOException {
+        flush();
+        return storage.readScheduleBoard();
+    }
+
+    @Override
+    public Optional<ReadOnlyScheduleBoard> readScheduleBoard(Path filePath) throws DataLoadingException, IOException {
+        flush();
+        return storage.readScheduleBoard(filePath);
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard) throws IOException {
+        flush();
+        storage.saveScheduleBoard(scheduleBoard);
+    }
+
+    @Override
+    public void saveScheduleBoard(ReadOnlyScheduleBoard scheduleBoard, Path filePath) throws IOException {
+        flush();
+        storage.saveScheduleBoard(scheduleBoard, filePath);
+    }
+
+    @Override
+    public Path getJournalFilePath() {
+        return storage.getJournalFilePath();
+    }
+
+    @Override
+    public List<ModelChange> readJournal() throws DataLoadingException {
+        flush();
+        return storage.readJournal();
+    }
+
+    @Override
+    public void appendToJournal(List<ModelChange> changes) throws IOException {
+        flush();
+        storage.appendToJournal(changes);
+    }
+
+    @Override
+    public void clearJournal() throws IOException {
+        flush();
+        storage.clearJournal();
+    }
+
+    @Override
+    public void saveSnapshots(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard) {
+        flush();
+        storage.saveSnapshots(addressBook, scheduleBoard);
+    }
+
+    @Override
+    public WriteStatistics getWriteStatistics() {
+        return storage.getWriteStatistics();
+    }
+
+    /**
+     * An unmodifiable copy of the data of an address book, with the same version.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<JobRole> jobRoles;
+        private final Map<JobRole, Long> jobApplicantStatistics;
+        private final long version;
+
+        private AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            jobRoles = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getJobRoleList()));
+            jobApplicantStatistics = Map.copyOf(addressBook.getJobApplicantStatistics());
+            version = addressBook.getVersion();
+        }
+
+        static ReadOnlyAddressBook of(ReadOnlyAddressBook addressBook) {
+            return addressBook instanceof AddressBookSnapshot ? addressBook : new AddressBookSnapshot(addressBook);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<JobRole> getJobRoleList() {
+            return jobRoles;
+        }
+
+        @Override
+        public Map<JobRole, Long> getJobApplicantStatistics() {
+            return jobApplicantStatistics;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+
+    /**
+     * An unmodifiable copy of the schedules of a schedule board, with the same version.
+     */
+    private static class ScheduleBoardSnapshot implements ReadOnlyScheduleBoard {
+        private final List<Schedule> schedules;
+        private final long version;
+
+        private ScheduleBoardSnapshot(ReadOnlyScheduleBoard scheduleBoard) {
+            schedules = List.copyOf(scheduleBoard.getScheduleList());
+            version = scheduleBoard.getVersion();
+        }
+
+        static ReadOnlyScheduleBoard of(ReadOnlyScheduleBoard scheduleBoard) {
+            return scheduleBoard instanceof ScheduleBoardSnapshot ? scheduleBoard
+                    : new ScheduleBoardSnapshot(scheduleBoard);
+        }
+
+        @Override
+        public List<Schedule> getScheduleList() {
+            return schedules;
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+    }
+}
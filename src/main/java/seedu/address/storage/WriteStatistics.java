@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Counts the writes that storage performed, and the writes that it skipped because the data was unchanged since it
+ * was last saved, for each of the files it manages.
+ * The statistics may be recorded and read by different threads.
+ */
+public class WriteStatistics {
+
+    /**
+     * The files that storage writes to.
+     */
+    public enum Component {
+        ADDRESS_BOOK, SCHEDULE_BOARD, USER_PREFS, JOURNAL
+    }
+
+    private final Map<Component, Integer> performedWrites = new EnumMap<>(Component.class);
+    private final Map<Component, Integer> skippedWrites = new EnumMap<>(Component.class);
+
+    /**
+     * Records a write to the file of {@code component}.
+     */
+    public synchronized void recordPerformedWrite(Component component) {
+        requireNonNull(component);
+        performedWrites.merge(component, 1, Integer::sum);
+    }
+
+    /**
+     * Records a write to the file of {@code component} that was skipped as the data was unchanged.
+     */
+    public synchronized void recordSkippedWrite(Component component) {
+        requireNonNull(component);
+        skippedWrites.merge(component, 1, Integer::sum);
+    }
+
+    public synchronized int getPerformedWrites(Component component) {
+        return performedWrites.getOrDefault(component, 0);
+    }
+
+    public synchronized int getSkippedWrites(Component component) {
+        return skippedWrites.getOrDefault(component, 0);
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this)
+                .add("performedWrites", performedWrites)
+                .add("skippedWrites", skippedWrites)
+                .toString();
+    }
+}
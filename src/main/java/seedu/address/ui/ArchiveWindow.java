@@ -0,0 +1,60 @@
+package seedu.address.ui;
+
+import java.util.List;
+
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import seedu.address.logic.ArchivePersonList;
+
+/**
+ * A new window that displays the candidates in an archive in a read-only list.
+ */
+public class ArchiveWindow {
+
+    private static final String TITLE_FORMAT = "Archive (read-only): %1$s";
+    private static final double WIDTH = 500;
+    private static final double HEIGHT = 600;
+
+    private final ArchivePersonList archive;
+    private final Stage stage;
+
+    /**
+     * Constructs a new ArchiveWindow that shows the persons in {@code archive}, styled with {@code stylesheets}.
+     * The persons are read as they are scrolled into view, and {@code archive} is closed when the window is hidden.
+     */
+    public ArchiveWindow(ArchivePersonList archive, List<String> stylesheets) {
+        this.archive = archive;
+        PersonListPanel personListPanel = new PersonListPanel(archive);
+        Scene scene = new Scene(personListPanel.getRoot(), WIDTH, HEIGHT);
+        scene.getStylesheets().addAll(stylesheets);
+
+        stage = new Stage();
+        stage.setTitle(String.format(TITLE_FORMAT, archive.getFilePath().getFileName()));
+        stage.setScene(scene);
+        stage.setOnHidden(e -> archive.close());
+    }
+
+    /**
+     * Sets the action to run when the archive window is hidden.
+     */
+    public void setOnHidden(Runnable action) {
+        stage.setOnHidden(e -> {
+            archive.close();
+            action.run();
+        });
+    }
+
+    /**
+     * Displays the archive window.
+     */
+    public void show() {
+        stage.show();
+    }
+
+    /**
+     * Hides the archive window.
+     */
+    public void hide() {
+        stage.hide();
+    }
+}
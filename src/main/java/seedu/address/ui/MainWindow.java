@@ -1,9 +1,11 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -16,6 +18,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Theme;
+import seedu.address.logic.ArchivePersonList;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ThemeCommand;
@@ -43,6 +46,7 @@ public class MainWindow extends UiPart<Stage> {
     private ScheduleListPanel scheduleListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
+    private final List<ArchiveWindow> archiveWindows = new ArrayList<>();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -138,6 +142,7 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         candidateFullDetailsCard = new CandidateFullDetailsCard(logic.getFirstPerson());
         candidateFullDetailsContainer.getChildren().add(candidateFullDetailsCard.getRoot());
@@ -196,6 +201,7 @@ public class MainWindow extends UiPart<Stage> {
         if (statisticsWindow.isShowing()) {
             statisticsWindow.hide();
         }
+        List.copyOf(archiveWindows).forEach(ArchiveWindow::hide);
         primaryStage.hide();
     }
 
@@ -214,6 +220,16 @@ public class MainWindow extends UiPart<Stage> {
         candidateFullDetailsCard.show();
     }
 
+    /**
+     * Opens a new window that displays the candidates in {@code archive}.
+     */
+    private void handleOpenArchive(ArchivePersonList archive) {
+        ArchiveWindow archiveWindow = new ArchiveWindow(archive, primaryStage.getScene().getStylesheets());
+        archiveWindows.add(archiveWindow);
+        archiveWindow.setOnHidden(() -> archiveWindows.remove(archiveWindow));
+        archiveWindow.show();
+    }
+
     @FXML
     private void handleHidePerson() {
         while (allResultsContainer.getChildren().size() > 1) {
@@ -312,6 +328,10 @@ public class MainWindow extends UiPart<Stage> {
                 statisticsWindow.show();
             }
 
+            if (commandResult.getArchiveToShow() != null) {
+                handleOpenArchive(commandResult.getArchiveToShow());
+            }
+
             return commandResult;
 
         } catch (CommandException | ParseException e) {
@@ -5,6 +5,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import org.junit.jupiter.api.Test;
 
 public class GuiSettingsTest {
+    @Test
+    public void withTheme_differentTheme_onlyThemeChanged() {
+        GuiSettings guiSettings = new GuiSettings(300, 600, 4, 6, Theme.LIGHT);
+        GuiSettings darkGuiSettings = guiSettings.withTheme(Theme.DARK);
+
+        assertEquals(new GuiSettings(300, 600, 4, 6, Theme.DARK), darkGuiSettings);
+        assertEquals(Theme.LIGHT, guiSettings.getTheme());
+    }
+
     @Test
     public void toStringMethod() {
         GuiSettings guiSettings = new GuiSettings();
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
 
 public class FileUtilTest {
@@ -20,4 +22,49 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void isGzipFile() {
+        // compressed file
+        assertTrue(FileUtil.isGzipFile(Path.of("archive.json.gz")));
+        assertTrue(FileUtil.isGzipFile(Path.of("data", "archive.gz")));
+
+        // uncompressed file
+        assertFalse(FileUtil.isGzipFile(Path.of("archive.json")));
+        assertFalse(FileUtil.isGzipFile(Path.of("gz", "archive.json")));
+        assertFalse(FileUtil.isGzipFile(Path.of("")));
+
+        // null path -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> FileUtil.isGzipFile(null));
+    }
+
+    @Test
+    public void isNdjsonFile() {
+        // NDJSON file
+        assertTrue(FileUtil.isNdjsonFile(Path.of("candidatelist.ndjson")));
+        assertTrue(FileUtil.isNdjsonFile(Path.of("data", "schedulelist.ndjson")));
+
+        // other file
+        assertFalse(FileUtil.isNdjsonFile(Path.of("candidatelist.json")));
+        assertFalse(FileUtil.isNdjsonFile(Path.of("ndjson", "candidatelist.json")));
+        assertFalse(FileUtil.isNdjsonFile(Path.of("")));
+
+        // null path -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> FileUtil.isNdjsonFile(null));
+    }
+
+    @Test
+    public void isPageFile() {
+        // page file
+        assertTrue(FileUtil.isPageFile(Path.of("candidatelist.db")));
+        assertTrue(FileUtil.isPageFile(Path.of("data", "candidatelist.db")));
+
+        // other file
+        assertFalse(FileUtil.isPageFile(Path.of("candidatelist.json")));
+        assertFalse(FileUtil.isPageFile(Path.of("db", "candidatelist.ndjson")));
+        assertFalse(FileUtil.isPageFile(Path.of("")));
+
+        // null path -> throws NullPointerException
+        assertThrows(NullPointerException.class, () -> FileUtil.isPageFile(null));
+    }
+
 }
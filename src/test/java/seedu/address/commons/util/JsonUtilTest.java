@@ -3,7 +3,11 @@ package seedu.address.commons.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -39,6 +43,43 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void writeJsonFile_notCompact_sameAsSerializedObject() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.writeJsonFile(SERIALIZATION_FILE, generator -> generator.writeObject(serializableTestClass), false);
+
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void writeJsonFile_compact_sameAsCompactString() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.writeJsonFile(SERIALIZATION_FILE, generator -> generator.writeObject(serializableTestClass), true);
+
+        assertEquals(JsonUtil.toCompactJsonString(serializableTestClass), FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void writeJsonFile_gzipFile_compressedAndReadBack() throws Exception {
+        Path gzipFile = TestUtil.getFilePathInSandboxFolder("serialize.json.gz");
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.writeJsonFile(gzipFile, generator -> generator.writeObject(serializableTestClass), false);
+
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(gzipFile))) {
+            assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION,
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        String name = JsonUtil.readJsonFile(gzipFile, parser -> parser.readValueAs(SerializableTestClass.class)
+                .getName()).get();
+        assertEquals(SerializableTestClass.getNameTestValue(), name);
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
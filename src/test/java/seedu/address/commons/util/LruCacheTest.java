@@ -0,0 +1,65 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class LruCacheTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, LruCache.MESSAGE_INVALID_CAPACITY, () -> new LruCache<>(0));
+    }
+
+    @Test
+    public void get_cachedValue_returnsValue() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.put("one", 11);
+
+        assertEquals(Optional.of(11), cache.get("one"));
+        assertEquals(Optional.of(2), cache.get("two"));
+        assertFalse(cache.get("three").isPresent());
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void put_cacheFull_evictsLeastRecentlyUsed() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.get("one");
+        cache.put("three", 3);
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.get("two").isPresent());
+        assertEquals(Optional.of(1), cache.get("one"));
+        assertEquals(Optional.of(3), cache.get("three"));
+    }
+
+    @Test
+    public void remove_cachedValue_notFound() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        cache.put("one", 1);
+        cache.put("two", 2);
+        cache.remove("one");
+        assertFalse(cache.get("one").isPresent());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void put_null_throwsNullPointerException() {
+        LruCache<String, Integer> cache = new LruCache<>(2);
+        assertThrows(NullPointerException.class, () -> cache.put(null, 1));
+        assertThrows(NullPointerException.class, () -> cache.put("one", null));
+    }
+}
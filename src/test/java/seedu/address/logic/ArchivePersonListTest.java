@@ -0,0 +1,44 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.storage.PagedAddressBookStorage;
+import seedu.address.storage.PagedArchive;
+
+public class ArchivePersonListTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void get_pageFile_personsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        AddressBook addressBook = getTypicalAddressBook();
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        try (ArchivePersonList persons = new ArchivePersonList(PagedArchive.open(filePath))) {
+            assertEquals(addressBook.getPersonList(), persons);
+            assertEquals(filePath, persons.getFilePath());
+        }
+    }
+
+    @Test
+    public void get_closed_returnsNull() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        AddressBook addressBook = getTypicalAddressBook();
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        ArchivePersonList persons = new ArchivePersonList(PagedArchive.open(filePath));
+        persons.close();
+        assertEquals(addressBook.getPersonList().size(), persons.size());
+        assertNull(persons.get(0));
+    }
+}
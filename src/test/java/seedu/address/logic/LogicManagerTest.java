@@ -16,6 +16,7 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,15 +28,19 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.schedule.ReadOnlyScheduleBoard;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonJournalStorage;
 import seedu.address.storage.JsonScheduleBoardStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteStatistics;
+import seedu.address.storage.WriteStatistics.Component;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -46,6 +51,7 @@ public class LogicManagerTest {
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -55,7 +61,7 @@ public class LogicManagerTest {
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
         JsonScheduleBoardStorage scheduleBoardStorage =
                 new JsonScheduleBoardStorage(temporaryFolder.resolve("scheduleBoard.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -77,6 +83,19 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_nothingWritten() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        WriteStatistics writeStatistics = storage.getWriteStatistics();
+        int userPrefsWrites = writeStatistics.getPerformedWrites(Component.USER_PREFS);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(userPrefsWrites, writeStatistics.getPerformedWrites(Component.USER_PREFS));
+        assertEquals(0, writeStatistics.getPerformedWrites(Component.ADDRESS_BOOK));
+        assertEquals(0, writeStatistics.getPerformedWrites(Component.SCHEDULE_BOARD));
+        assertEquals(0, writeStatistics.getPerformedWrites(Component.JOURNAL));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -173,11 +192,17 @@ public class LogicManagerTest {
                 throw e;
             }
         };
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage);
+        JsonJournalStorage journalStorage = new JsonJournalStorage(temporaryFolder.resolve("ExceptionJournal")) {
+            @Override
+            public void appendToJournal(List<ModelChange> changes) throws IOException {
+                throw e;
+            }
+        };
+        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleBoardStorage, journalStorage);
 
         logic = new LogicManager(model, storage);
 
-        // Triggers the saveAddressBook method by executing an add command
+        // Triggers the appendToJournal method by executing an add command
         String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
                 + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + JOB_ROLE_DESC_AMY
                 + LABEL_DESC_AMY + REMARK_DESC_AMY;
@@ -11,6 +11,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -23,6 +24,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.JobRole;
@@ -201,12 +203,6 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void editCandidateInSchedule(Schedule target, Person editedCandidate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
         @Override
         public ObservableList<Schedule> getFilteredScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -281,6 +277,11 @@ public class AddCommandTest {
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public List<ModelChange> takeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
 
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalJobRoles.JOB_ROLES_NOT_IN_DEFAULT_LI
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -21,6 +22,7 @@ import seedu.address.commons.core.Theme;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.JobRole;
@@ -228,12 +230,6 @@ public class AddJCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void editCandidateInSchedule(Schedule target, Person editedCandidate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-
         @Override
         public ObservableList<Schedule> getFilteredScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -308,5 +304,10 @@ public class AddJCommandTest {
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public List<ModelChange> takeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 }
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_FILE_NOT_FOUND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.ArchivePersonList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.MappedArchive;
+import seedu.address.storage.PagedAddressBookStorage;
+
+public class OpenArchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(new AddressBook(), new UserPrefs(), new ScheduleBoard());
+
+    @Test
+    public void execute_archiveExists_archiveShownAndModelUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("archive.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        CommandResult result = new OpenArchiveCommand(filePath).execute(model);
+
+        assertEquals(String.format(OpenArchiveCommand.MESSAGE_OPEN_ARCHIVE_SUCCESS,
+                getTypicalAddressBook().getPersonList().size(), filePath.toAbsolutePath().normalize()),
+                result.getFeedbackToUser());
+        ArchivePersonList archive = result.getArchiveToShow();
+        assertEquals(getTypicalAddressBook().getPersonList().size(), archive.size());
+        assertEquals(ALICE, archive.get(0));
+        assertEquals(new ModelManager(new AddressBook(), new UserPrefs(), new ScheduleBoard()), model);
+    }
+
+    @Test
+    public void execute_pageFileExists_archiveShown() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        new PagedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        CommandResult result = new OpenArchiveCommand(filePath).execute(model);
+
+        try (ArchivePersonList archive = result.getArchiveToShow()) {
+            assertEquals(getTypicalAddressBook().getPersonList().size(), archive.size());
+            assertEquals(ALICE, archive.get(0));
+        }
+    }
+
+    @Test
+    public void execute_missingFile_failure() {
+        Path filePath = testFolder.resolve("missing.json");
+        assertCommandFailure(new OpenArchiveCommand(filePath), model,
+                String.format(MESSAGE_FILE_NOT_FOUND, filePath.toAbsolutePath().normalize()));
+    }
+
+    @Test
+    public void execute_notAnArchive_failure() throws Exception {
+        Path filePath = testFolder.resolve("schedules.json");
+        Files.writeString(filePath, "{\"schedules\":[]}");
+        assertCommandFailure(new OpenArchiveCommand(filePath), model,
+                String.format(OpenArchiveCommand.MESSAGE_INVALID_ARCHIVE, filePath.toAbsolutePath().normalize(),
+                        MappedArchive.MESSAGE_NOT_AN_ARCHIVE));
+    }
+
+    @Test
+    public void equals() {
+        OpenArchiveCommand openFirstCommand = new OpenArchiveCommand(Path.of("first.json"));
+        OpenArchiveCommand openSecondCommand = new OpenArchiveCommand(Path.of("second.json"));
+
+        // same object -> returns true
+        assertTrue(openFirstCommand.equals(openFirstCommand));
+
+        // same values -> returns true
+        assertTrue(openFirstCommand.equals(new OpenArchiveCommand(Path.of("first.json"))));
+
+        // different types -> returns false
+        assertFalse(openFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(openFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(openFirstCommand.equals(openSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Path.of("first.json");
+        assertEquals(OpenArchiveCommand.class.getCanonicalName() + "{filePath=" + filePath + "}",
+                new OpenArchiveCommand(filePath).toString());
+    }
+}
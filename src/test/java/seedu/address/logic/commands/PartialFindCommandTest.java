@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PartialFindCommand}.
+ */
+public class PartialFindCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleBoard());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleBoard());
+
+    @Test
+    public void equals() {
+        PersonDetailsContainPartialKeywordsPredicate firstPredicate =
+                new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("first"));
+        PersonDetailsContainPartialKeywordsPredicate secondPredicate =
+                new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("second"));
+
+        PartialFindCommand findFirstCommand = new PartialFindCommand(firstPredicate);
+        PartialFindCommand findSecondCommand = new PartialFindCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        PartialFindCommand findFirstCommandCopy = new PartialFindCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_zeroKeywords_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PersonDetailsContainPartialKeywordsPredicate predicate = preparePredicate(" ");
+        PartialFindCommand command = new PartialFindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multiplePartialKeywords_multiplePersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonDetailsContainPartialKeywordsPredicate predicate = preparePredicate("kUR Mey");
+        PartialFindCommand command = new PartialFindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonDetailsContainPartialKeywordsPredicate predicate =
+                new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList("keyword"));
+        PartialFindCommand partialFindCommand = new PartialFindCommand(predicate);
+        String expected = PartialFindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, partialFindCommand.toString());
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code PersonDetailsContainPartialKeywordsPredicate}.
+     */
+    private PersonDetailsContainPartialKeywordsPredicate preparePredicate(String userInput) {
+        return new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 
@@ -29,6 +30,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.JsonAddressBookStorage;
 
 public class SaveCommandTest {
     private Path validCandidatesFilePath;
@@ -96,6 +98,24 @@ public class SaveCommandTest {
         assertCommandSuccess(saveCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_compressedCandidateFileSpecified_savedCompressed() throws Exception {
+        Path candidatesFilePath = Path.of(VALID_FOLDER_PATH, "test_candidates.json.gz");
+        SaveCommand saveCommand = new SaveCommand(candidatesFilePath, this.emptyPath, true, false);
+        String expectedMessage = String.format(
+                MESSAGE_SAVE_CANDIDATES_FILE_SUCCESS, candidatesFilePath.toAbsolutePath());
+        Model expectedModel = new ModelManager(
+                new AddressBook(model.getAddressBook()), new UserPrefs(), new ScheduleBoard());
+
+        assertCommandSuccess(saveCommand, model, expectedMessage, expectedModel);
+
+        byte[] savedBytes = Files.readAllBytes(candidatesFilePath);
+        assertEquals((byte) 0x1f, savedBytes[0]); // GZIP magic number
+        assertEquals((byte) 0x8b, savedBytes[1]);
+        assertEquals(model.getAddressBook(),
+                new JsonAddressBookStorage(candidatesFilePath).readAddressBook().get());
+    }
+
     @Test
     public void execute_onlyCandidateFileSpecifiedAndFileCanBeOverwritten_success() throws IOException {
         Path candidatesFilePath = this.validCandidatesFilePath;
@@ -31,6 +31,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.JobRole;
@@ -55,7 +56,9 @@ public class AddScheduleCommandTest {
 
         CommandResult commandResult = new AddScheduleCommand(index, validSchedule).execute(modelStub);
 
-        assertEquals(String.format(AddScheduleCommand.MESSAGE_SUCCESS, Messages.format(validSchedule)),
+        Schedule expectedSchedule = new ScheduleBuilder(validSchedule).withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        assertEquals(String.format(AddScheduleCommand.MESSAGE_SUCCESS, Messages.format(expectedSchedule)),
                 commandResult.getFeedbackToUser());
         assertEquals(Arrays.asList(validSchedule), modelStub.schedulesAdded);
     }
@@ -206,11 +209,6 @@ public class AddScheduleCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
-        @Override
-        public void editCandidateInSchedule(Schedule target, Person editedCandidate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
         @Override
         public ObservableList<Schedule> getFilteredScheduleList() {
             throw new AssertionError("This method should not be called.");
@@ -285,6 +283,11 @@ public class AddScheduleCommandTest {
         public void setTheme(Theme theme) {
             throw new AssertionError("This method should not be called");
         }
+
+        @Override
+        public List<ModelChange> takeChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
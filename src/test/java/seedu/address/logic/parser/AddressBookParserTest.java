@@ -32,6 +32,8 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListJCommand;
+import seedu.address.logic.commands.OpenArchiveCommand;
+import seedu.address.logic.commands.PartialFindCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.SaveCommand;
 import seedu.address.logic.commands.ViewCommand;
@@ -46,6 +48,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.JobRole;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonDetailsContainKeywordsPredicate;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
 import seedu.address.model.schedule.Schedule;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.EditScheduleDescriptorBuilder;
@@ -101,6 +104,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new PersonDetailsContainKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_partialFind() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        PartialFindCommand command = (PartialFindCommand) parser.parseCommand(
+                PartialFindCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new PartialFindCommand(new PersonDetailsContainPartialKeywordsPredicate(keywords)), command);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -159,6 +170,12 @@ public class AddressBookParserTest {
                 + " " + PREFIX_CANDIDATES_FILE_PATH + VALID_CANDIDATES_FILE_PATH) instanceof SaveCommand);
     }
 
+    @Test
+    public void parseCommand_openArchive() throws Exception {
+        assertTrue(parser.parseCommand(OpenArchiveCommand.COMMAND_WORD
+                + " " + PREFIX_CANDIDATES_FILE_PATH + VALID_CANDIDATES_FILE_PATH) instanceof OpenArchiveCommand);
+    }
+
     @Test
     public void parseCommand_view() throws Exception {
         assertTrue(parser.parseCommand(ViewCommand.COMMAND_WORD
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CANDIDATES_FILE_PATH;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.OpenArchiveCommand;
+
+public class OpenArchiveCommandParserTest {
+    private final OpenArchiveCommandParser parser = new OpenArchiveCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsOpenArchiveCommand() {
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + VALID_CANDIDATES_FILE_PATH,
+                new OpenArchiveCommand(Path.of(VALID_CANDIDATES_FILE_PATH)));
+
+        // json extension appended
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "archive",
+                new OpenArchiveCommand(Path.of("archive.json")));
+
+        // compressed archive
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "archive.json.gz",
+                new OpenArchiveCommand(Path.of("archive.json.gz")));
+
+        // page file
+        assertParseSuccess(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "candidates.db",
+                new OpenArchiveCommand(Path.of("candidates.db")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, OpenArchiveCommand.MESSAGE_USAGE);
+
+        // no file path
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_CANDIDATES_FILE_PATH, expectedMessage);
+
+        // preamble
+        assertParseFailure(parser, " archive.json", expectedMessage);
+        assertParseFailure(parser, " archive " + PREFIX_CANDIDATES_FILE_PATH + "archive.json", expectedMessage);
+
+        // duplicate file paths
+        assertParseFailure(parser, " " + PREFIX_CANDIDATES_FILE_PATH + "first.json "
+                + PREFIX_CANDIDATES_FILE_PATH + "second.json",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_CANDIDATES_FILE_PATH));
+    }
+}
@@ -288,6 +288,23 @@ public class ParserUtilTest {
         assertEquals(expectedPath, actualPath);
     }
 
+    @Test
+    public void parsePath_validCompressedPathGiven_returnsPath() throws Exception {
+        String compressedFilePath = VALID_FILE_PATH_RELATIVE + ".gz";
+        assertEquals(Path.of(compressedFilePath), ParserUtil.parsePath(compressedFilePath));
+    }
+
+    @Test
+    public void parseArchivePath_pageFilePathGiven_returnsPath() throws Exception {
+        assertEquals(Path.of("candidates.db"), ParserUtil.parseArchivePath(" candidates.db "));
+    }
+
+    @Test
+    public void parseArchivePath_otherPathGiven_parsedAsPath() throws Exception {
+        assertEquals(Path.of(VALID_FILE_PATH_RELATIVE), ParserUtil.parseArchivePath(VALID_FILE_NAME));
+        assertEquals(Path.of(VALID_FILE_PATH_RELATIVE), ParserUtil.parseArchivePath(VALID_FILE_PATH_RELATIVE));
+    }
+
     @Test
     public void parseRemark_validRemarkGiven_returnsRemark() throws ParseException {
         Remark actualRemark = ParserUtil.parseRemark(VALID_REMARK);
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.PartialFindCommand;
+import seedu.address.model.person.PersonDetailsContainPartialKeywordsPredicate;
+
+public class PartialFindCommandParserTest {
+
+    private PartialFindCommandParser parser = new PartialFindCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, PartialFindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsPartialFindCommand() {
+        // no leading and trailing whitespaces
+        PartialFindCommand expectedPartialFindCommand =
+                new PartialFindCommand(new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList("Ali", "Bo")));
+        assertParseSuccess(parser, "Ali Bo", expectedPartialFindCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Ali \n \t Bo  \t", expectedPartialFindCommand);
+    }
+
+}
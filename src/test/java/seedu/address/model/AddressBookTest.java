@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -84,6 +85,76 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void getJobApplicantStatistics_afterPersonChanges_countsCurrentApplicants() {
+        Person engineer = new PersonBuilder().withName("Alice").withJobRole("Software Engineer").build();
+        Person scientist = new PersonBuilder().withName("Bob").withJobRole("Data Scientist").build();
+        Person otherEngineer = new PersonBuilder().withName("Carl").withJobRole("Software Engineer").build();
+        addressBook.addPerson(engineer);
+        addressBook.addPerson(scientist);
+        addressBook.addPerson(otherEngineer);
+        assertEquals(Map.of(new JobRole("Software Engineer"), 2L, new JobRole("Data Scientist"), 1L),
+                addressBook.getJobApplicantStatistics());
+
+        Person editedEngineer = new PersonBuilder(otherEngineer).withJobRole("Data Scientist").build();
+        addressBook.setPerson(otherEngineer, editedEngineer);
+        addressBook.removePerson(engineer);
+        assertEquals(Map.of(new JobRole("Data Scientist"), 2L), addressBook.getJobApplicantStatistics());
+    }
+
+    @Test
+    public void getJobApplicantStatistics_afterResetData_countsNewApplicants() {
+        addressBook.addPerson(ALICE);
+        AddressBook newData = getTypicalAddressBook();
+        addressBook.resetData(newData);
+        Map<JobRole, Long> expected = newData.getPersonList().stream()
+                .flatMap(person -> person.getJobRoles().stream())
+                .collect(Collectors.groupingBy(jobRole -> jobRole, Collectors.counting()));
+        assertEquals(expected, addressBook.getJobApplicantStatistics());
+    }
+
+    @Test
+    public void getJobApplicantStatistics_jobRolesDifferingInCase_countedAsOneJobRole() {
+        addressBook.addPerson(new PersonBuilder().withName("Alice").withJobRole("Software Engineer").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob").withJobRole("software engineer").build());
+        assertEquals(Map.of(new JobRole("Software Engineer"), 2L), addressBook.getJobApplicantStatistics());
+    }
+
+    @Test
+    public void hasJobRolesOf() {
+        addressBook.addJobRole(new JobRole("Chef"));
+
+        assertTrue(addressBook.hasJobRolesOf(new PersonBuilder().withJobRole("Chef", "Data Scientist").build()));
+        // job role that differs only in case
+        assertTrue(addressBook.hasJobRolesOf(new PersonBuilder().withJobRole("chef").build()));
+        assertFalse(addressBook.hasJobRolesOf(new PersonBuilder().withJobRole("Chef", "Baker").build()));
+
+        addressBook.removeJobRole(new JobRole("CHEF"));
+        assertFalse(addressBook.hasJobRolesOf(new PersonBuilder().withJobRole("Chef").build()));
+    }
+
+    @Test
+    public void getVersion_dataChanged_versionChanges() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getJobApplicantStatistics();
+        assertEquals(version, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_copiedAddressBook_sameVersion() {
+        addressBook.addPerson(ALICE);
+        assertEquals(addressBook.getVersion(), new AddressBook(addressBook).getVersion());
+        assertNotEquals(addressBook.getVersion(), new AddressBook().getVersion());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -131,6 +202,11 @@ public class AddressBookTest {
         public ObservableList<JobRole> getJobRoleList() {
             return jobRoles;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
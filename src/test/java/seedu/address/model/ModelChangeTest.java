@@ -0,0 +1,137 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.Schedule;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.ScheduleBuilder;
+
+public class ModelChangeTest {
+
+    private final AddressBook addressBook = new AddressBook();
+    private final ScheduleBoard scheduleBoard = new ScheduleBoard();
+
+    @Test
+    public void applyTo_changesMadeToModelManager_sameData() {
+        Schedule aliceSchedule = new ScheduleBuilder(SCHEDULE_1).withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        JobRole jobRole = new JobRole("Data Analyst");
+
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addSchedule(aliceSchedule);
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.setSchedule(aliceSchedule, SCHEDULE_2.withCandidate(editedAlice.getName(),
+                editedAlice.getEmail()));
+        modelManager.deletePerson(BENSON);
+        modelManager.addJobRole(jobRole);
+        modelManager.deleteJobRoles(jobRole);
+
+        applyAll(modelManager.takeChanges());
+        assertEquals(modelManager.getAddressBook(), addressBook);
+        assertEquals(modelManager.getScheduleBoard(), scheduleBoard);
+        assertEquals(editedAlice.getEmail(), scheduleBoard.getScheduleList().get(0).getCandidateEmail());
+    }
+
+    @Test
+    public void applyTo_changesAppliedTwice_sameData() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        List<ModelChange> changes = List.of(ModelChange.addPerson(ALICE), ModelChange.addPerson(BENSON),
+                ModelChange.setPerson(ALICE, editedAlice), ModelChange.deletePerson(BENSON),
+                ModelChange.addSchedule(SCHEDULE_1), ModelChange.setSchedule(SCHEDULE_1, SCHEDULE_2));
+
+        applyAll(changes);
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        ScheduleBoard expectedScheduleBoard = new ScheduleBoard(scheduleBoard);
+
+        applyAll(changes);
+        assertEquals(expectedAddressBook, addressBook);
+        assertEquals(expectedScheduleBoard, scheduleBoard);
+        assertTrue(addressBook.hasPerson(editedAlice));
+        assertFalse(addressBook.hasPerson(BENSON));
+        assertTrue(scheduleBoard.hasSchedule(SCHEDULE_2));
+        assertFalse(scheduleBoard.hasSchedule(SCHEDULE_1));
+    }
+
+    @Test
+    public void applyTo_onlyAddressBookSavedAfterChanges_schedulesCascaded() {
+        Schedule aliceSchedule = new ScheduleBuilder(SCHEDULE_1).withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        Schedule bensonSchedule = new ScheduleBuilder(SCHEDULE_2).withCandidateName(BENSON.getName().fullName)
+                .withCandidateEmail(BENSON.getEmail().value).build();
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+
+        ModelManager modelManager = new ModelManager();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addSchedule(aliceSchedule);
+        modelManager.addSchedule(bensonSchedule);
+        scheduleBoard.resetData(modelManager.getScheduleBoard());
+        modelManager.takeChanges();
+
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        addressBook.resetData(modelManager.getAddressBook());
+
+        applyAll(modelManager.takeChanges());
+        assertEquals(modelManager.getAddressBook(), addressBook);
+        assertEquals(modelManager.getScheduleBoard(), scheduleBoard);
+        assertEquals(List.of(editedAlice.getEmail()), scheduleBoard.getScheduleList().stream()
+                .map(Schedule::getCandidateEmail).toList());
+    }
+
+    @Test
+    public void applyTo_resetChange_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                ModelChange.resetAddressBook().applyTo(addressBook, scheduleBoard));
+    }
+
+    @Test
+    public void requiresSnapshot() {
+        assertTrue(ModelChange.resetAddressBook().requiresSnapshot());
+        assertTrue(ModelChange.resetScheduleBoard().requiresSnapshot());
+        assertFalse(ModelChange.addPerson(ALICE).requiresSnapshot());
+        assertFalse(ModelChange.deleteSchedule(SCHEDULE_1).requiresSnapshot());
+    }
+
+    @Test
+    public void equals() {
+        ModelChange change = ModelChange.setPerson(ALICE, BENSON);
+
+        // same values -> returns true
+        assertTrue(change.equals(ModelChange.setPerson(ALICE, BENSON)));
+
+        // same object -> returns true
+        assertTrue(change.equals(change));
+
+        // null -> returns false
+        assertFalse(change.equals(null));
+
+        // different type -> returns false
+        assertFalse(change.equals(5));
+
+        // different values -> returns false
+        assertFalse(change.equals(ModelChange.setPerson(BENSON, ALICE)));
+        assertFalse(change.equals(ModelChange.addPerson(ALICE)));
+    }
+
+    private void applyAll(List<ModelChange> changes) {
+        changes.forEach(change -> change.applyTo(addressBook, scheduleBoard));
+    }
+}
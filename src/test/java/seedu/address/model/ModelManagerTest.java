@@ -22,9 +22,11 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.Theme;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.schedule.Schedule;
 import seedu.address.model.schedule.ScheduleBoard;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.ScheduleBoardBuilder;
+import seedu.address.testutil.ScheduleBuilder;
 
 public class ModelManagerTest {
 
@@ -37,6 +39,32 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void adopt_nullData_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                ModelManager.adopt(null, new UserPrefs(), new ScheduleBoard()));
+        assertThrows(NullPointerException.class, () ->
+                ModelManager.adopt(new AddressBook(), null, new ScheduleBoard()));
+        assertThrows(NullPointerException.class, () ->
+                ModelManager.adopt(new AddressBook(), new UserPrefs(), null));
+    }
+
+    @Test
+    public void adopt_validData_usesDataWithoutCopying() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ScheduleBoard scheduleBoard = new ScheduleBoardBuilder().withSchedule(SCHEDULE_1).build();
+        UserPrefs userPrefs = new UserPrefs();
+        ModelManager adoptingModelManager = ModelManager.adopt(addressBook, userPrefs, scheduleBoard);
+
+        assertTrue(adoptingModelManager.getAddressBook() == addressBook);
+        assertTrue(adoptingModelManager.getScheduleBoard() == scheduleBoard);
+        assertEquals(new ModelManager(addressBook, userPrefs, scheduleBoard), adoptingModelManager);
+
+        // user prefs are still copied
+        userPrefs.setAddressBookFilePath(Paths.get("new/address/book/file/path"));
+        assertEquals(new UserPrefs(), adoptingModelManager.getUserPrefs());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -103,6 +131,40 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void deletePerson_personWithSchedules_removesSchedules() {
+        Schedule aliceSchedule = new ScheduleBuilder().withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(aliceSchedule);
+        modelManager.deletePerson(ALICE);
+        assertFalse(modelManager.hasSchedule(aliceSchedule));
+    }
+
+    @Test
+    public void setPerson_personWithSchedules_updatesSchedules() {
+        Schedule aliceSchedule = new ScheduleBuilder().withCandidateName(ALICE.getName().fullName)
+                .withCandidateEmail(ALICE.getEmail().value).build();
+        modelManager.addPerson(ALICE);
+        modelManager.addSchedule(aliceSchedule);
+        modelManager.setPerson(ALICE, BENSON);
+        assertEquals(BENSON.getEmail(), modelManager.getFilteredScheduleList().get(0).getCandidateEmail());
+        assertEquals(BENSON.getName(), modelManager.getFilteredScheduleList().get(0).getCandidateName());
+    }
+
+    @Test
+    public void takeChanges_changesMade_returnsChangesInOrderOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.setPerson(ALICE, BENSON);
+        modelManager.addSchedule(SCHEDULE_1);
+        modelManager.setScheduleBoard(new ScheduleBoard());
+
+        assertEquals(Arrays.asList(ModelChange.addPerson(ALICE), ModelChange.setPerson(ALICE, BENSON),
+                ModelChange.addSchedule(SCHEDULE_1), ModelChange.resetScheduleBoard()),
+                modelManager.takeChanges());
+        assertTrue(modelManager.takeChanges().isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.Theme;
+
 public class UserPrefsTest {
 
     @Test
@@ -18,4 +23,34 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setTheme_validTheme_versionChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        long version = userPrefs.getVersion();
+        userPrefs.setTheme(Theme.DARK);
+        assertEquals(Theme.DARK, userPrefs.getGuiSettings().getTheme());
+        assertNotEquals(version, userPrefs.getVersion());
+    }
+
+    @Test
+    public void setCompactDataFiles_versionChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        long version = userPrefs.getVersion();
+        userPrefs.setCompactDataFiles(true);
+        assertTrue(userPrefs.isCompactDataFiles());
+        assertNotEquals(version, userPrefs.getVersion());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+    }
+
+    @Test
+    public void setShardedCandidateFiles_versionChanges() {
+        UserPrefs userPrefs = new UserPrefs();
+        long version = userPrefs.getVersion();
+        userPrefs.setShardedCandidateFiles(true);
+        assertTrue(userPrefs.isShardedCandidateFiles());
+        assertNotEquals(version, userPrefs.getVersion());
+        assertEquals(userPrefs, new UserPrefs(userPrefs));
+        assertNotEquals(new UserPrefs(), userPrefs);
+    }
+
 }
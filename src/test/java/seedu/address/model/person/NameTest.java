@@ -19,6 +19,11 @@ public class NameTest {
         assertThrows(IllegalArgumentException.class, () -> new Name(invalidName));
     }
 
+    @Test
+    public void ofValidated_validName_equalsConstructedName() {
+        assertTrue(new Name("Valid Name").equals(Name.ofValidated("Valid Name")));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -0,0 +1,94 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonDetailsContainPartialKeywordsPredicateTest {
+    @Test
+    public void equals() {
+        List<String> firstPredicateKeywordList = Collections.singletonList("first");
+        List<String> secondPredicateKeywordList = Arrays.asList("first", "second");
+
+        PersonDetailsContainPartialKeywordsPredicate firstPredicate =
+                new PersonDetailsContainPartialKeywordsPredicate(firstPredicateKeywordList);
+        PersonDetailsContainPartialKeywordsPredicate secondPredicate =
+                new PersonDetailsContainPartialKeywordsPredicate(secondPredicateKeywordList);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        PersonDetailsContainPartialKeywordsPredicate firstPredicateCopy =
+                new PersonDetailsContainPartialKeywordsPredicate(firstPredicateKeywordList);
+        assertTrue(firstPredicate.equals(firstPredicateCopy));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different person -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+    }
+
+    @Test
+    public void test_personDetailsContainPartialKeywords_returnsTrue() {
+        // Full word
+        PersonDetailsContainPartialKeywordsPredicate predicate =
+                new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("Alice"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Partial words in different fields
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("oliv"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Charlotte Oliveiro").build()));
+
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("234"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").withPhone("12345").build()));
+
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("bob@example.com"));
+        assertTrue(predicate.test(new PersonBuilder().withEmail("alicebob@example.com").build()));
+
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("design"));
+        assertTrue(predicate.test(new PersonBuilder().withJobRole("UI Designer").build()));
+
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Collections.singletonList("friend"));
+        assertTrue(predicate.test(new PersonBuilder().withTags("friends").build()));
+
+        // Only one matching keyword, mixed case
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList("xyz", "cODE"));
+        assertTrue(predicate.test(new PersonBuilder().withRemark("Codes in Java").build()));
+    }
+
+    @Test
+    public void test_personDetailsContainPartialKeywords_returnsFalse() {
+        // Zero keywords
+        PersonDetailsContainPartialKeywordsPredicate predicate =
+                new PersonDetailsContainPartialKeywordsPredicate(Collections.emptyList());
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice").build()));
+
+        // Non-matching keyword
+        predicate = new PersonDetailsContainPartialKeywordsPredicate(Arrays.asList("Carol"));
+        assertFalse(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        PersonDetailsContainPartialKeywordsPredicate predicate =
+                new PersonDetailsContainPartialKeywordsPredicate(keywords);
+
+        String expected =
+                PersonDetailsContainPartialKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
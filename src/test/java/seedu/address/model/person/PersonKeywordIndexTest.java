@@ -0,0 +1,77 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonKeywordIndexTest {
+
+    private final PersonKeywordIndex index = new PersonKeywordIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void containsAnyWord_wordInDetails_returnsTrue() {
+        index.add(ALICE);
+
+        // name, ignoring case
+        assertTrue(index.containsAnyWord(List.of("pAULINE")).test(ALICE));
+        // remark
+        assertTrue(index.containsAnyWord(List.of("leetcode")).test(ALICE));
+        // multi-word job role
+        assertTrue(index.containsAnyWord(List.of("Developer")).test(ALICE));
+        // one matching keyword
+        assertTrue(index.containsAnyWord(List.of("Carol", "Java")).test(ALICE));
+    }
+
+    @Test
+    public void containsAnyWord_partialWordOrOtherPerson_returnsFalse() {
+        index.add(ALICE);
+
+        assertFalse(index.containsAnyWord(List.of("Pau")).test(ALICE));
+        assertFalse(index.containsAnyWord(List.of("Pauline")).test(BENSON));
+    }
+
+    @Test
+    public void containsAnyWord_removedPerson_returnsFalse() {
+        Predicate<Person> predicate = index.containsAnyWord(List.of("Alice"));
+        index.add(ALICE);
+        assertTrue(predicate.test(ALICE));
+
+        index.remove(ALICE);
+        assertFalse(predicate.test(ALICE));
+    }
+
+    @Test
+    public void containsAnyWord_sameResultsAsPersonDetailsPredicate() {
+        getTypicalPersons().forEach(index::add);
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Prefers remote work").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        for (List<String> keywords : List.of(List.of("Meier"), Arrays.asList("leetcode", "remote"),
+                List.of("example.com"), Arrays.asList("94351253", "unreviewed", "JAVA"))) {
+            PersonDetailsContainKeywordsPredicate expected = new PersonDetailsContainKeywordsPredicate(keywords);
+            Predicate<Person> actual = index.containsAnyWord(keywords);
+            for (Person person : getTypicalPersons()) {
+                Person indexedPerson = person == ALICE ? editedAlice : person;
+                assertEquals(expected.test(indexedPerson), actual.test(indexedPerson), keywords + " " + person);
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -35,6 +36,16 @@ public class PersonTest {
         assertEquals(expectedPerson, person);
     }
 
+    @Test
+    public void getJobRolesAndTags_samePersonDetails_sharesInstances() {
+        Person person = new PersonBuilder().withJobRole("QA Engineer").withTags("friends").build();
+        Person otherPerson = new PersonBuilder().withName("Other").withJobRole("QA Engineer").withTags("friends")
+                .build();
+
+        assertSame(person.getJobRoles().iterator().next(), otherPerson.getJobRoles().iterator().next());
+        assertSame(person.getTags().iterator().next(), otherPerson.getTags().iterator().next());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -104,6 +115,10 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withJobRole(VALID_JOBROLE_BOB).build();
         assertFalse(ALICE.equals(editedAlice));
 
+        // jobRole differs in case -> returns true
+        editedAlice = new PersonBuilder(ALICE).withJobRole("front end developer").build();
+        assertTrue(ALICE.equals(editedAlice));
+
         // different label -> return false
         editedAlice = new PersonBuilder(ALICE).withLabel(VALID_LABEL_BOB).build();
         assertFalse(ALICE.equals(editedAlice));
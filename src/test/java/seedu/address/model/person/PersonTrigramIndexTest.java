@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonTrigramIndexTest {
+
+    private final PersonTrigramIndex index = new PersonTrigramIndex();
+
+    @Test
+    public void add_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+    }
+
+    @Test
+    public void containsAnyPartialWord_partOfWord_returnsTrue() {
+        Person charlotte = new PersonBuilder().withName("Charlotte Oliveiro").build();
+        index.add(charlotte);
+        index.add(ALICE);
+
+        assertTrue(index.containsAnyPartialWord(List.of("oliv")).test(charlotte));
+        assertTrue(index.containsAnyPartialWord(List.of("OTTE")).test(charlotte));
+        // keyword shorter than a trigram
+        assertTrue(index.containsAnyPartialWord(List.of("ol")).test(charlotte));
+        assertFalse(index.containsAnyPartialWord(List.of("oliv")).test(ALICE));
+    }
+
+    @Test
+    public void containsAnyPartialWord_trigramsInDifferentWords_returnsFalse() {
+        // "tteoli" has all its trigrams in the details, but not in a single word
+        Person charlotte = new PersonBuilder().withName("Charlotte Oliveiro").withRemark("tte eol teo oli").build();
+        index.add(charlotte);
+
+        assertFalse(index.containsAnyPartialWord(List.of("tteoli")).test(charlotte));
+    }
+
+    @Test
+    public void containsAnyPartialWord_afterIndexChanges_reflectsChanges() {
+        Predicate<Person> predicate = index.containsAnyPartialWord(List.of("leet"));
+        index.add(ALICE);
+        assertTrue(predicate.test(ALICE));
+
+        Person editedAlice = new PersonBuilder(ALICE).withRemark("Prefers remote work").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+        assertFalse(predicate.test(ALICE));
+        assertFalse(predicate.test(editedAlice));
+
+        index.clear();
+        assertFalse(predicate.test(editedAlice));
+    }
+
+    @Test
+    public void containsAnyPartialWord_sameResultsAsPersonDetailsPredicate() {
+        getTypicalPersons().forEach(index::add);
+
+        for (List<String> keywords : List.of(List.of("Mei"), Arrays.asList("leet", "aScRI"),
+                List.of("example.com"), Arrays.asList("9435", "e", "@"), List.of("#08-1"))) {
+            PersonDetailsContainPartialKeywordsPredicate expected =
+                    new PersonDetailsContainPartialKeywordsPredicate(keywords);
+            Predicate<Person> actual = index.containsAnyPartialWord(keywords);
+            for (Person person : getTypicalPersons()) {
+                assertEquals(expected.test(person), actual.test(person), keywords + " " + person);
+            }
+        }
+    }
+}
@@ -8,13 +8,19 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -47,6 +53,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentCaseNameInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -100,6 +120,8 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -127,6 +149,18 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personBeforeOthers_laterPersonsSetAndRemovedAtTheirPositions() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL, DANIEL));
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPerson(DANIEL, ELLE);
+        uniquePersonList.remove(CARL);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(ELLE, DANIEL);
+
+        assertEquals(List.of(ALICE, DANIEL, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +196,41 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDifferentCaseDuplicates_throwsDuplicatePersonException() {
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, lowerCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void containsAnyKeyword_testedWhenListChanges_indexUpToDate() {
+        Predicate<Person> predicate = uniquePersonList.containsAnyKeyword(List.of("Alice"));
+        List<Boolean> results = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                results.add(uniquePersonList.asUnmodifiableObservableList().stream().anyMatch(predicate)));
+
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        uniquePersonList.setPersons(List.of(ALICE));
+        uniquePersonList.remove(ALICE);
+        assertEquals(List.of(true, false, true, false), results);
+    }
+
+    @Test
+    public void containsAnyPartialKeyword_testedWhenListChanges_indexUpToDate() {
+        Predicate<Person> predicate = uniquePersonList.containsAnyPartialKeyword(List.of("lic"));
+        List<Boolean> results = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                results.add(uniquePersonList.asUnmodifiableObservableList().stream().anyMatch(predicate)));
+
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(BOB, ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        uniquePersonList.setPersons(List.of(ALICE));
+        assertEquals(List.of(false, true, false, true), results);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -2,6 +2,7 @@ package seedu.address.model.schedule;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
@@ -28,6 +29,21 @@ public class ScheduleBoardTest {
         assertEquals(Collections.emptyList(), scheduleBoard.getScheduleList());
     }
 
+    @Test
+    public void getVersion_schedulesChanged_versionChanges() {
+        long version = scheduleBoard.getVersion();
+        scheduleBoard.addSchedule(SCHEDULE_1);
+        assertNotEquals(version, scheduleBoard.getVersion());
+
+        version = scheduleBoard.getVersion();
+        scheduleBoard.hasSchedule(SCHEDULE_1);
+        scheduleBoard.hasSameDateTime(SCHEDULE_1);
+        assertEquals(version, scheduleBoard.getVersion());
+
+        scheduleBoard.removeSchedule(SCHEDULE_1);
+        assertNotEquals(version, scheduleBoard.getVersion());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> scheduleBoard.resetData(null));
@@ -106,6 +122,11 @@ public class ScheduleBoardTest {
         public ObservableList<Schedule> getScheduleList() {
             return schedules;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 
 }
@@ -10,9 +10,13 @@ import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Mode;
+import seedu.address.model.person.Name;
 import seedu.address.testutil.ScheduleBuilder;
 
 public class ScheduleTest {
@@ -63,6 +67,65 @@ public class ScheduleTest {
 
     }
 
+    @Test
+    public void hashCode_equalSchedules_sameHashCode() {
+        Schedule otherCandidateSchedule = new ScheduleBuilder(SCHEDULE_1).withMode("offline")
+                .withCandidateName("Other").withCandidateEmail("other@example.com").build();
+        assertEquals(SCHEDULE_1, otherCandidateSchedule);
+        assertEquals(SCHEDULE_1.hashCode(), otherCandidateSchedule.hashCode());
+    }
+
+    @Test
+    public void getters_returnConstructedTiming() {
+        Schedule schedule = new Schedule(LocalDate.of(1969, 12, 31), LocalTime.of(22, 15), LocalTime.of(23, 59),
+                Mode.ONLINE);
+        assertEquals(LocalDate.of(1969, 12, 31), schedule.getDate());
+        assertEquals(LocalTime.of(22, 15), schedule.getStartTime());
+        assertEquals(LocalTime.of(23, 59), schedule.getEndTime());
+        assertEquals(104, schedule.getDurationMinutes());
+    }
+
+    @Test
+    public void ofValidated_timingOfSchedule_returnsEqualSchedule() {
+        Schedule schedule = Schedule.ofValidated(SCHEDULE_1.getStartEpochMinute(), SCHEDULE_1.getDurationMinutes(),
+                SCHEDULE_1.getMode(), SCHEDULE_1.getCandidateName(), SCHEDULE_1.getCandidateEmail());
+        assertEquals(SCHEDULE_1.getDate(), schedule.getDate());
+        assertEquals(SCHEDULE_1.getStartTime(), schedule.getStartTime());
+        assertEquals(SCHEDULE_1.getEndTime(), schedule.getEndTime());
+        assertEquals(SCHEDULE_1, schedule);
+    }
+
+    @Test
+    public void withCandidate_returnsCopyForCandidate() {
+        Name name = new Name("New Name");
+        Email email = new Email("new@example.com");
+        Schedule schedule = SCHEDULE_1.withCandidate(name, email);
+
+        assertEquals(name, schedule.getCandidateName());
+        assertEquals(email, schedule.getCandidateEmail());
+        assertEquals(SCHEDULE_1.getMode(), schedule.getMode());
+        assertEquals(SCHEDULE_1, schedule);
+        // the original schedule is unchanged
+        assertFalse(name.equals(SCHEDULE_1.getCandidateName()));
+    }
+
+    @Test
+    public void timeClash() {
+        Schedule schedule = new ScheduleBuilder().withDate("2025-03-15").withStartTime("10:00")
+                .withEndTime("11:00").build();
+
+        // overlapping -> returns true
+        assertTrue(schedule.timeClash(new ScheduleBuilder(schedule).withStartTime("10:30")
+                .withEndTime("11:30").build()));
+
+        // adjacent -> returns false
+        assertFalse(schedule.timeClash(new ScheduleBuilder(schedule).withStartTime("11:00")
+                .withEndTime("12:00").build()));
+
+        // same time on another date -> returns false
+        assertFalse(schedule.timeClash(new ScheduleBuilder(schedule).withDate("2025-03-16").build()));
+    }
+
     @Test
     public void isPast_whenScheduleEndDateTimeInPast_returnsTrue() {
         String pastDate = LocalDate.now().minusDays(1).toString();
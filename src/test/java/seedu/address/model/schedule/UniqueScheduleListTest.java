@@ -11,14 +11,18 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
 import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Email;
 import seedu.address.model.schedule.exceptions.DuplicateScheduleException;
 import seedu.address.model.schedule.exceptions.ScheduleNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -226,6 +230,72 @@ public class UniqueScheduleListTest {
         assertTrue(uniqueScheduleList.hasSameTime(newSchedule));
     }
 
+    @Test
+    public void hasSameTime_earlierOverlappingSchedule_returnsTrue() {
+        Schedule longSchedule = new ScheduleBuilder()
+                .withDate("2025-03-27")
+                .withStartTime("09:00")
+                .withEndTime("13:00")
+                .build();
+        Schedule shortSchedule = new ScheduleBuilder()
+                .withDate("2025-03-27")
+                .withStartTime("14:00")
+                .withEndTime("14:30")
+                .build();
+        uniqueScheduleList.add(longSchedule);
+        uniqueScheduleList.add(shortSchedule);
+
+        Schedule newSchedule = new ScheduleBuilder()
+                .withDate("2025-03-27")
+                .withStartTime("12:30")
+                .withEndTime("13:30")
+                .build();
+        assertTrue(uniqueScheduleList.hasSameTime(newSchedule));
+    }
+
+    @Test
+    public void hasSameTime_adjacentSchedulesOrOtherDate_returnsFalse() {
+        uniqueScheduleList.add(new ScheduleBuilder()
+                .withDate("2025-03-27")
+                .withStartTime("09:00")
+                .withEndTime("10:00")
+                .build());
+        uniqueScheduleList.add(new ScheduleBuilder()
+                .withDate("2025-03-27")
+                .withStartTime("11:00")
+                .withEndTime("12:00")
+                .build());
+        uniqueScheduleList.add(new ScheduleBuilder()
+                .withDate("2025-03-28")
+                .withStartTime("10:00")
+                .withEndTime("11:00")
+                .build());
+
+        Schedule newSchedule = new ScheduleBuilder()
+                .withDate("2025-03-27")
+                .withStartTime("10:00")
+                .withEndTime("11:00")
+                .build();
+        assertFalse(uniqueScheduleList.hasSameTime(newSchedule));
+    }
+
+    @Test
+    public void setSchedule_editedScheduleAtDifferentTime_keepsListSorted() {
+        Schedule first = new ScheduleBuilder().withDate("2025-03-27").build();
+        Schedule second = new ScheduleBuilder().withDate("2025-03-28").build();
+        Schedule third = new ScheduleBuilder().withDate("2025-03-29").build();
+        uniqueScheduleList.add(third);
+        uniqueScheduleList.add(first);
+        uniqueScheduleList.add(second);
+
+        Schedule editedFirst = new ScheduleBuilder().withDate("2025-03-30").build();
+        uniqueScheduleList.setSchedule(first, editedFirst);
+
+        assertEquals(List.of(second, third, editedFirst), uniqueScheduleList.asUnmodifiableObservableList());
+        assertFalse(uniqueScheduleList.contains(first));
+        assertTrue(uniqueScheduleList.contains(editedFirst));
+    }
+
     @Test
     public void hasSameTimeEdit_singleSchedule_returnsFalse() {
         // For edit, when there is only one schedule in the list (the schedule itself),
@@ -326,4 +396,103 @@ public class UniqueScheduleListTest {
         assertEquals(schedule2, iterator.next());
         assertFalse(iterator.hasNext());
     }
+
+    @Test
+    public void getSchedulesOfCandidate_returnsOnlySchedulesOfCandidate() {
+        Schedule amySchedule = new ScheduleBuilder().withDate("2025-03-27").withCandidateName("Amy")
+                .withCandidateEmail("amy@example.com").build();
+        Schedule bobSchedule = new ScheduleBuilder().withDate("2025-03-28").withCandidateName("Bob")
+                .withCandidateEmail("bob@example.com").build();
+        uniqueScheduleList.add(amySchedule);
+        uniqueScheduleList.add(bobSchedule);
+
+        assertEquals(List.of(amySchedule),
+                uniqueScheduleList.getSchedulesOfCandidate(amySchedule.getCandidateEmail()));
+        uniqueScheduleList.remove(amySchedule);
+        assertTrue(uniqueScheduleList.getSchedulesOfCandidate(amySchedule.getCandidateEmail()).isEmpty());
+    }
+
+    @Test
+    public void editCandidateInSchedules_updatesAllSchedulesOfCandidate() {
+        Schedule firstSchedule = new ScheduleBuilder().withDate("2025-03-27").withCandidateName("Old Name")
+                .withCandidateEmail("old@example.com").build();
+        Schedule secondSchedule = new ScheduleBuilder().withDate("2025-03-28").withCandidateName("Old Name")
+                .withCandidateEmail("old@example.com").build();
+        Schedule otherSchedule = new ScheduleBuilder().withDate("2025-03-29").withCandidateName("Other")
+                .withCandidateEmail("other@example.com").build();
+        uniqueScheduleList.add(firstSchedule);
+        uniqueScheduleList.add(secondSchedule);
+        uniqueScheduleList.add(otherSchedule);
+
+        PersonBuilder personBuilder = new PersonBuilder();
+        var oldCandidate = personBuilder.withName("Old Name").withEmail("old@example.com").build();
+        var newCandidate = personBuilder.withName("New Name").withEmail("new@example.com").build();
+        uniqueScheduleList.editCandidateInSchedules(oldCandidate, newCandidate);
+
+        assertEquals("New Name", uniqueScheduleList.getSchedule(0).getCandidateName().toString());
+        assertEquals("New Name", uniqueScheduleList.getSchedule(1).getCandidateName().toString());
+        assertEquals("Other", uniqueScheduleList.getSchedule(2).getCandidateName().toString());
+        assertEquals(2, uniqueScheduleList.getSchedulesOfCandidate(newCandidate.getEmail()).size());
+        assertTrue(uniqueScheduleList.getSchedulesOfCandidate(oldCandidate.getEmail()).isEmpty());
+    }
+
+    @Test
+    public void editCandidateInSchedules_severalSchedules_singleListChange() {
+        uniqueScheduleList.add(new ScheduleBuilder().withDate("2025-03-27").withCandidateEmail("old@example.com")
+                .build());
+        uniqueScheduleList.add(new ScheduleBuilder().withDate("2025-03-28").withCandidateEmail("old@example.com")
+                .build());
+        uniqueScheduleList.add(new ScheduleBuilder().withDate("2025-03-29").withCandidateEmail("old@example.com")
+                .build());
+        List<Integer> changeSizes = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener((ListChangeListener<Schedule>) change ->
+                changeSizes.add(uniqueScheduleList.asUnmodifiableObservableList().size()));
+
+        PersonBuilder personBuilder = new PersonBuilder();
+        uniqueScheduleList.editCandidateInSchedules(personBuilder.withEmail("old@example.com").build(),
+                personBuilder.withName("New Name").withEmail("new@example.com").build());
+
+        assertEquals(List.of(3), changeSizes);
+        assertEquals(3, uniqueScheduleList.getSchedulesOfCandidate(new Email("new@example.com")).size());
+    }
+
+    @Test
+    public void removeSchedulesOfCandidate_removesOnlySchedulesOfCandidate() {
+        Schedule firstSchedule = new ScheduleBuilder().withDate("2025-03-27")
+                .withCandidateEmail("amy@example.com").build();
+        Schedule secondSchedule = new ScheduleBuilder().withDate("2025-03-28")
+                .withCandidateEmail("amy@example.com").build();
+        Schedule otherSchedule = new ScheduleBuilder().withDate("2025-03-29")
+                .withCandidateEmail("bob@example.com").build();
+        uniqueScheduleList.add(firstSchedule);
+        uniqueScheduleList.add(secondSchedule);
+        uniqueScheduleList.add(otherSchedule);
+
+        uniqueScheduleList.removeSchedulesOfCandidate(firstSchedule.getCandidateEmail());
+
+        UniqueScheduleList expectedUniqueScheduleList = new UniqueScheduleList();
+        expectedUniqueScheduleList.add(otherSchedule);
+        assertEquals(expectedUniqueScheduleList, uniqueScheduleList);
+    }
+
+    @Test
+    public void removeSchedulesOfCandidate_schedulesBetweenOthers_singleListChange() {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int day = 1; day <= 6; day++) {
+            schedules.add(new ScheduleBuilder().withDate("2025-03-0" + day)
+                    .withCandidateEmail(day % 2 == 0 ? "amy@example.com" : "bob@example.com").build());
+        }
+        uniqueScheduleList.setSchedules(schedules);
+        List<List<Schedule>> changedLists = new ArrayList<>();
+        uniqueScheduleList.asUnmodifiableObservableList().addListener((ListChangeListener<Schedule>) change ->
+                changedLists.add(List.copyOf(uniqueScheduleList.asUnmodifiableObservableList())));
+
+        uniqueScheduleList.removeSchedulesOfCandidate(new Email("amy@example.com"));
+
+        List<Schedule> expectedSchedules = List.of(schedules.get(0), schedules.get(2), schedules.get(4));
+        assertEquals(List.of(expectedSchedules), changedLists);
+        assertEquals(expectedSchedules, uniqueScheduleList.getSchedulesOfCandidate(new Email("bob@example.com"))
+                .stream().sorted().collect(Collectors.toList()));
+        assertFalse(uniqueScheduleList.hasSameTime(schedules.get(1)));
+    }
 }
@@ -0,0 +1,107 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.JobRole;
+
+public class ValueDictionaryTest {
+
+    private final ValueDictionary<JobRole> dictionary = new ValueDictionary<>(JobRole::getValue);
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> dictionary.intern(null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        JobRole first = new JobRole("QA Engineer");
+
+        assertSame(first, dictionary.intern(first));
+        assertSame(first, dictionary.intern(new JobRole("QA Engineer")));
+    }
+
+    @Test
+    public void intern_differentKeys_returnsDifferentInstances() {
+        // keys are case-sensitive even though job roles are equal ignoring case
+        assertNotSame(dictionary.intern(new JobRole("QA Engineer")), dictionary.intern(new JobRole("qa engineer")));
+    }
+
+    @Test
+    public void internAll_returnsDistinctValuesSortedByKey() {
+        JobRole designer = dictionary.intern(new JobRole("UI Designer"));
+        JobRole engineer = dictionary.intern(new JobRole("QA Engineer"));
+
+        // the order does not depend on the order in which values were first interned
+        JobRole[] interned = dictionary.internAll(List.of(new JobRole("UI Designer"), new JobRole("QA Engineer"),
+                new JobRole("UI Designer")), JobRole[]::new);
+        assertArrayEquals(new JobRole[] {engineer, designer}, interned);
+        assertSame(engineer, interned[0]);
+        assertSame(designer, interned[1]);
+    }
+
+    @Test
+    public void idOf_sameKey_returnsSameId() {
+        JobRole engineer = dictionary.intern(new JobRole("QA Engineer"));
+        JobRole designer = dictionary.intern(new JobRole("UI Designer"));
+
+        assertEquals(dictionary.idOf(engineer), dictionary.idOf(new JobRole("QA Engineer")));
+        assertNotEquals(dictionary.idOf(engineer), dictionary.idOf(designer));
+        assertNotEquals(dictionary.idOf(engineer), dictionary.idOf(dictionary.intern(new JobRole("qa engineer"))));
+    }
+
+    @Test
+    public void idsOf_returnsSortedIds() {
+        JobRole designer = dictionary.intern(new JobRole("UI Designer"));
+        JobRole engineer = dictionary.intern(new JobRole("QA Engineer"));
+
+        // the ids are sorted even though the values are sorted by key
+        assertArrayEquals(new int[] {dictionary.idOf(designer), dictionary.idOf(engineer)},
+                dictionary.idsOf(new JobRole[] {engineer, designer}));
+    }
+
+    @Test
+    public void decode_id_returnsValue() {
+        JobRole engineer = dictionary.intern(new JobRole("QA Engineer"));
+
+        assertSame(engineer, dictionary.decode(dictionary.idOf(engineer)));
+    }
+
+    @Test
+    public void intern_valueNoLongerUsed_droppedAndIdReused() {
+        JobRole engineer = dictionary.intern(new JobRole("QA Engineer"));
+        int id = dictionary.idOf(engineer);
+
+        // clears and enqueues the reference as the garbage collector would once the value is no longer used
+        dictionary.getReference(engineer).enqueue();
+        assertEquals(0, dictionary.size());
+
+        JobRole designer = dictionary.intern(new JobRole("UI Designer"));
+        assertEquals(id, dictionary.idOf(designer));
+        assertSame(designer, dictionary.decode(id));
+
+        // a value with the key of the dropped value is interned anew
+        JobRole newEngineer = new JobRole("QA Engineer");
+        assertSame(newEngineer, dictionary.intern(newEngineer));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void asSet_returnsValues() {
+        JobRole[] values = dictionary.internAll(List.of(new JobRole("QA Engineer"), new JobRole("UI Designer")),
+                JobRole[]::new);
+
+        assertEquals(Set.of(new JobRole("QA Engineer"), new JobRole("UI Designer")), ValueDictionary.asSet(values));
+        assertEquals(Set.of(), ValueDictionary.asSet(new JobRole[0]));
+    }
+}
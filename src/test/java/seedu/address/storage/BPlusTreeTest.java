@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class BPlusTreeTest {
+
+    /** More entries than fit in a leaf, or in the leaves under one internal node, so that internal nodes split. */
+    private static final int ENTRY_COUNT = 100000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void get_emptyTree_emptyResult() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            assertFalse(tree.get(toBytes("key")).isPresent());
+            assertTrue(tree.getEntries().isEmpty());
+            assertFalse(tree.remove(toBytes("key")));
+        }
+    }
+
+    @Test
+    public void put_manyEntries_allInKeyOrder() throws Exception {
+        Path filePath = testFolder.resolve("tree.db");
+        try (PageFile file = PageFile.open(filePath, 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            // keys are put out of order
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                int key = (int) ((i * 7919L) % ENTRY_COUNT);
+                tree.put(toKey(key), toBytes("value " + key));
+            }
+            file.flush();
+        }
+
+        try (PageFile file = PageFile.open(filePath, 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            assertEquals("value 12345", toString(tree.get(toKey(12345)).get()));
+            // a lookup reads one page per level of the tree
+            assertTrue(file.getPageReadCount() <= 4);
+
+            List<BPlusTree.Entry> entries = tree.getEntries();
+            assertEquals(ENTRY_COUNT, entries.size());
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                assertArrayEquals(toKey(i), entries.get(i).key);
+            }
+        }
+    }
+
+    @Test
+    public void getKeys_largeValues_keysInOrder() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            for (int i = 999; i >= 0; i--) {
+                tree.put(toKey(i), toBytes("x".repeat(i)));
+            }
+
+            List<byte[]> keys = tree.getKeys();
+            assertEquals(1000, keys.size());
+            for (int i = 0; i < 1000; i++) {
+                assertArrayEquals(toKey(i), keys.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void put_existingKey_valueReplaced() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            tree.put(toBytes("key"), toBytes("first"));
+            tree.put(toBytes("key"), toBytes("second"));
+            assertEquals("second", toString(tree.get(toBytes("key")).get()));
+            assertEquals(1, tree.getEntries().size());
+        }
+    }
+
+    @Test
+    public void put_largeValues_storedAsBlobs() throws Exception {
+        Path filePath = testFolder.resolve("tree.db");
+        String largeValue = "x".repeat(PageFile.PAGE_SIZE * 2);
+        try (PageFile file = PageFile.open(filePath, 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            for (int i = 0; i < 100; i++) {
+                tree.put(toKey(i), toBytes(largeValue + i));
+            }
+            file.flush();
+        }
+
+        try (PageFile file = PageFile.open(filePath, 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            assertEquals(largeValue + 42, toString(tree.get(toKey(42)).get()));
+
+            // replacing and removing the values frees their pages, which are reused
+            long sizeBefore = Files.size(filePath);
+            for (int i = 0; i < 50; i++) {
+                tree.put(toKey(i), toBytes("small"));
+            }
+            for (int i = 50; i < 100; i++) {
+                tree.remove(toKey(i));
+            }
+            for (int i = 0; i < 100; i++) {
+                tree.put(toKey(1000 + i), toBytes(largeValue));
+            }
+            file.flush();
+            assertEquals(sizeBefore, Files.size(filePath));
+            assertEquals("small", toString(tree.get(toKey(0)).get()));
+        }
+    }
+
+    @Test
+    public void remove_manyEntries_remainingEntriesFound() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            for (int i = 0; i < ENTRY_COUNT; i++) {
+                tree.put(toKey(i), toBytes("value " + i));
+            }
+            for (int i = 0; i < ENTRY_COUNT; i += 2) {
+                assertTrue(tree.remove(toKey(i)));
+            }
+
+            assertFalse(tree.remove(toKey(0)));
+            assertFalse(tree.get(toKey(100)).isPresent());
+            assertEquals("value 101", toString(tree.get(toKey(101)).get()));
+            assertEquals(ENTRY_COUNT / 2, tree.getEntries().size());
+        }
+    }
+
+    @Test
+    public void getEntriesWithPrefix_acrossLeaves_matchingEntriesInOrder() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            for (int i = 0; i < 3000; i++) {
+                tree.put(toBytes("b" + i), toBytes("value"));
+                tree.put(toBytes("a" + i), toBytes("value"));
+                tree.put(toBytes("c" + i), toBytes("value"));
+            }
+
+            List<String> keys = tree.getEntriesWithPrefix(toBytes("b"))
+                    .stream().map(entry -> toString(entry.key)).collect(Collectors.toList());
+            assertEquals(3000, keys.size());
+            assertTrue(keys.stream().allMatch(key -> key.startsWith("b")));
+            assertEquals(keys.stream().sorted().collect(Collectors.toList()), keys);
+            assertEquals(List.of("b1234"), tree.getEntriesWithPrefix(toBytes("b1234"))
+                    .stream().map(entry -> toString(entry.key)).collect(Collectors.toList()));
+            assertTrue(tree.getEntriesWithPrefix(toBytes("d")).isEmpty());
+        }
+    }
+
+    @Test
+    public void put_keyTooLong_throwsIllegalArgumentException() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            BPlusTree tree = new BPlusTree(file, 0);
+            assertThrows(IllegalArgumentException.class, BPlusTree.MESSAGE_KEY_TOO_LONG, () ->
+                    tree.put(new byte[BPlusTree.MAX_KEY_LENGTH + 1], toBytes("value")));
+        }
+    }
+
+    @Test
+    public void put_separateRoots_independentTrees() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("tree.db"), 16)) {
+            new BPlusTree(file, 0).put(toBytes("key"), toBytes("first"));
+            new BPlusTree(file, 1).put(toBytes("key"), toBytes("second"));
+            assertEquals("first", toString(new BPlusTree(file, 0).get(toBytes("key")).get()));
+            assertEquals("second", toString(new BPlusTree(file, 1).get(toBytes("key")).get()));
+        }
+    }
+
+    private static byte[] toKey(int i) {
+        return String.format("%08d", i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] toBytes(String string) {
+        return string.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String toString(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.schedule.ScheduleBoard;
+
+public class BinarySnapshotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final BinarySnapshotStorage snapshotStorage = new BinarySnapshotStorage();
+    private Path dataFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFilePath = testFolder.resolve("data.json");
+        FileUtil.writeToFile(dataFilePath, "{}");
+    }
+
+    @Test
+    public void getSnapshotFilePath_dataFile_besideDataFile() {
+        assertEquals(testFolder.resolve("data.json.snapshot"), BinarySnapshotStorage.getSnapshotFilePath(dataFilePath));
+    }
+
+    @Test
+    public void readAddressBook_savedSnapshot_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        snapshotStorage.saveAddressBook(original, dataFilePath);
+        assertEquals(original, snapshotStorage.readAddressBook(dataFilePath).get());
+    }
+
+    @Test
+    public void readScheduleBoard_savedSnapshot_sameScheduleBoard() throws Exception {
+        ScheduleBoard original = getTypicalScheduleBoard();
+        snapshotStorage.saveScheduleBoard(original, dataFilePath);
+        assertEquals(original, snapshotStorage.readScheduleBoard(dataFilePath).get());
+    }
+
+    @Test
+    public void readAddressBook_missingSnapshot_emptyResult() {
+        assertFalse(snapshotStorage.readAddressBook(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_dataFileChanged_emptyResult() throws Exception {
+        snapshotStorage.saveAddressBook(getTypicalAddressBook(), dataFilePath);
+        FileUtil.writeToFile(dataFilePath, "{ }");
+        assertFalse(snapshotStorage.readAddressBook(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_snapshotOfScheduleBoard_emptyResult() throws Exception {
+        snapshotStorage.saveScheduleBoard(getTypicalScheduleBoard(), dataFilePath);
+        assertFalse(snapshotStorage.readAddressBook(dataFilePath).isPresent());
+    }
+
+    @Test
+    public void readAddressBook_truncatedSnapshot_emptyResult() throws Exception {
+        snapshotStorage.saveAddressBook(getTypicalAddressBook(), dataFilePath);
+        Path snapshotFilePath = BinarySnapshotStorage.getSnapshotFilePath(dataFilePath);
+        byte[] snapshot = Files.readAllBytes(snapshotFilePath);
+        Files.write(snapshotFilePath, Arrays.copyOf(snapshot, snapshot.length / 2));
+        assertFalse(snapshotStorage.readAddressBook(dataFilePath).isPresent());
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ModelChange;
+import seedu.address.model.person.JobRole;
+
+public class JsonJournalStorageTest {
+
+    private static final List<ModelChange> CHANGES = List.of(ModelChange.addPerson(ALICE),
+            ModelChange.setPerson(ALICE, BENSON), ModelChange.deletePerson(BENSON),
+            ModelChange.addSchedule(SCHEDULE_1), ModelChange.setSchedule(SCHEDULE_1, SCHEDULE_2),
+            ModelChange.deleteSchedule(SCHEDULE_2), ModelChange.addJobRole(new JobRole("Data Analyst")),
+            ModelChange.deleteJobRole(new JobRole("Data Analyst")));
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readJournal_missingFile_emptyResult() throws Exception {
+        assertTrue(new JsonJournalStorage(testFolder.resolve("NonExistentFile")).readJournal().isEmpty());
+    }
+
+    @Test
+    public void appendToJournal_allTypesOfChanges_success() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal.ndjson"));
+
+        journalStorage.appendToJournal(CHANGES.subList(0, 3));
+        journalStorage.appendToJournal(CHANGES.subList(3, CHANGES.size()));
+        assertEquals(CHANGES, journalStorage.readJournal());
+        assertEquals(CHANGES.size(), Files.readAllLines(journalStorage.getJournalFilePath()).size());
+    }
+
+    @Test
+    public void appendToJournal_resetChange_cannotBeRead() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal.ndjson"));
+        journalStorage.appendToJournal(List.of(ModelChange.resetAddressBook(), ModelChange.addPerson(ALICE)));
+        assertThrows(DataLoadingException.class, journalStorage::readJournal);
+    }
+
+    @Test
+    public void readJournal_incompleteLastEntry_entryIgnored() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal.ndjson"));
+        journalStorage.appendToJournal(CHANGES);
+        Files.write(journalStorage.getJournalFilePath(), "{\"type\":\"ADD_PER".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(CHANGES, journalStorage.readJournal());
+    }
+
+    @Test
+    public void readJournal_invalidEntryBeforeLastEntry_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("journal.ndjson");
+        Files.write(filePath, "not json\n".getBytes(StandardCharsets.UTF_8));
+        JsonJournalStorage journalStorage = new JsonJournalStorage(filePath);
+        journalStorage.appendToJournal(CHANGES);
+
+        assertThrows(DataLoadingException.class, journalStorage::readJournal);
+    }
+
+    @Test
+    public void clearJournal_existingJournal_journalEmpty() throws Exception {
+        JsonJournalStorage journalStorage = new JsonJournalStorage(testFolder.resolve("journal.ndjson"));
+        journalStorage.appendToJournal(CHANGES);
+        journalStorage.clearJournal();
+
+        assertFalse(Files.exists(journalStorage.getJournalFilePath()));
+        assertTrue(journalStorage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void appendToJournal_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonJournalStorage(testFolder.resolve("journal.ndjson")).appendToJournal(null));
+    }
+}
@@ -4,13 +4,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
@@ -30,6 +33,9 @@ public class JsonSerializableAddressBookTest {
             TEST_DATA_FOLDER.resolve("unrecognisedJobRoleAddressBook.json");
     private static final Path DUPLICATE_JOB_ROLE_FILE = TEST_DATA_FOLDER.resolve("duplicateJobRoleAddressBook.json");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
@@ -85,4 +91,56 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_JOBROLE,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void readModelType_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook::readModelType).get();
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readModelType_jobRolesBeforePersons_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(typicalPersonsAddressBook), filePath);
+
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook::readModelType).get();
+        assertEquals(typicalPersonsAddressBook, addressBookFromFile);
+    }
+
+    @Test
+    public void readModelType_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonFile(INVALID_PERSON_FILE,
+                JsonSerializableAddressBook::readModelType));
+    }
+
+    @Test
+    public void readModelType_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE, JsonSerializableAddressBook::readModelType));
+    }
+
+    @Test
+    public void readModelType_unrecognisedJobRoleFile_returnsUnrecognisedJobRole() throws Exception {
+        AddressBook addressBookFromFile = JsonUtil.readJsonFile(UNRECOGNISED_JOB_ROLE_FILE,
+                JsonSerializableAddressBook::readModelType).get();
+        assertEquals(JsonUtil.readJsonFile(UNRECOGNISED_JOB_ROLE_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType(), addressBookFromFile);
+    }
+
+    @Test
+    public void readModelType_duplicateJobRoles_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_JOBROLE, () ->
+                JsonUtil.readJsonFile(DUPLICATE_JOB_ROLE_FILE, JsonSerializableAddressBook::readModelType));
+    }
+
+    @Test
+    public void readModelType_notAnObject_throwsDataLoadingException() throws IOException {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonUtil.saveJsonFile(List.of("persons"), filePath);
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook::readModelType));
+    }
 }
@@ -44,4 +44,23 @@ public class JsonSerializableScheduleBoardTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void readModelType_typicalSchedulesFile_success() throws Exception {
+        ScheduleBoard scheduleBoardFromFile = JsonUtil.readJsonFile(TYPICAL_SCHEDULES_FILE,
+                JsonSerializableScheduleBoard::readModelType).get();
+        assertEquals(TypicalSchedules.getTypicalScheduleBoard(), scheduleBoardFromFile);
+    }
+
+    @Test
+    public void readModelType_invalidScheduleFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonFile(INVALID_SCHEDULE_FILE,
+                JsonSerializableScheduleBoard::readModelType));
+    }
+
+    @Test
+    public void readModelType_duplicateSchedules_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableScheduleBoard.MESSAGE_CLASHING_SCHEDULE, () ->
+                JsonUtil.readJsonFile(DUPLICATE_SCHEDULE_FILE, JsonSerializableScheduleBoard::readModelType));
+    }
+
 }
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MappedArchiveTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> MappedArchive.open(null));
+    }
+
+    @Test
+    public void open_savedArchive_allPersonsInOrder() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+
+        // indented
+        Path filePath = testFolder.resolve("archive.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertArchivePersons(addressBook.getPersonList(), MappedArchive.open(filePath));
+
+        // compact
+        Path compactFilePath = testFolder.resolve("compact_archive.json");
+        new JsonAddressBookStorage(compactFilePath, true).saveAddressBook(addressBook);
+        assertArchivePersons(addressBook.getPersonList(), MappedArchive.open(compactFilePath));
+
+        // compressed
+        Path compressedFilePath = testFolder.resolve("archive.json.gz");
+        new JsonAddressBookStorage(compressedFilePath, true).saveAddressBook(addressBook);
+        assertArchivePersons(addressBook.getPersonList(), MappedArchive.open(compressedFilePath));
+    }
+
+    @Test
+    public void open_structuralCharactersInValues_personsFound() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Amy Bee").withAddress("Block {1}, [persons] \"road\" \\")
+                .withRemark("}]\"persons\":[{").build());
+        addressBook.addPerson(new PersonBuilder().withName("Bob Choo").withAddress("Caf\u00e9 \u00fc 2").build());
+        Path filePath = testFolder.resolve("archive.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        assertArchivePersons(addressBook.getPersonList(), MappedArchive.open(filePath));
+    }
+
+    @Test
+    public void open_emptyArchive_noPersons() throws Exception {
+        Path filePath = testFolder.resolve("archive.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertEquals(0, MappedArchive.open(filePath).size());
+    }
+
+    @Test
+    public void open_notAnArchive_throwsDataLoadingException() throws Exception {
+        Path schedulesFilePath = testFolder.resolve("schedules.json");
+        Files.writeString(schedulesFilePath, "{\"schedules\":[]}");
+        assertThrows(DataLoadingException.class, () -> MappedArchive.open(schedulesFilePath));
+
+        Path truncatedFilePath = testFolder.resolve("truncated.json");
+        Files.writeString(truncatedFilePath, "{\"persons\":[{\"name\":\"Amy Bee\"");
+        assertThrows(DataLoadingException.class, () -> MappedArchive.open(truncatedFilePath));
+
+        Path emptyFilePath = testFolder.resolve("empty.json");
+        Files.writeString(emptyFilePath, "");
+        assertThrows(DataLoadingException.class, () -> MappedArchive.open(emptyFilePath));
+    }
+
+    @Test
+    public void getPerson_invalidPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("archive.json");
+        Files.writeString(filePath, "{\"persons\":[{\"name\":\"R@chel\"}]}");
+
+        // the invalid person is only found when it is read
+        MappedArchive archive = MappedArchive.open(filePath);
+        assertEquals(1, archive.size());
+        assertThrows(DataLoadingException.class, () -> archive.getPerson(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> archive.getPerson(1));
+    }
+
+    private static void assertArchivePersons(List<Person> expectedPersons, MappedArchive archive) throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < archive.size(); i++) {
+            persons.add(archive.getPerson(i));
+        }
+        assertEquals(expectedPersons, persons);
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.PersonBuilder;
+
+public class NdjsonAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new NdjsonAddressBookStorage(testFolder.resolve("AddressBook.ndjson")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new NdjsonAddressBookStorage(testFolder.resolve("NonExistentFile.ndjson"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        AddressBook original = getTypicalAddressBook();
+        NdjsonAddressBookStorage storage = new NdjsonAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, save again and read back with a new storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new NdjsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Save to another file
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.ndjson");
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsAdded_appendedToFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        AddressBook addressBook = getTypicalAddressBook();
+        NdjsonAddressBookStorage storage = new NdjsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        String contentBefore = Files.readString(filePath);
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        String contentAfter = Files.readString(filePath);
+        assertTrue(contentAfter.startsWith(contentBefore));
+        assertEquals(contentBefore.lines().count() + 2, contentAfter.lines().count());
+        assertEquals(addressBook, new AddressBook(new NdjsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_fileRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        AddressBook addressBook = getTypicalAddressBook();
+        NdjsonAddressBookStorage storage = new NdjsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        String contentBefore = Files.readString(filePath);
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.readString(filePath).startsWith(contentBefore));
+        assertEquals(addressBook, new AddressBook(new NdjsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readPerson_personInFile_returnsPerson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        NdjsonAddressBookStorage storage = new NdjsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        assertEquals(BENSON.getName(), storage.readPerson(BENSON.getName()).get().getName());
+        assertEquals(BENSON.getName(), storage.readPerson(new Name("benson meier")).get().getName());
+        assertFalse(storage.readPerson(HOON.getName()).isPresent());
+
+        // without the index, the file is read line by line
+        Files.delete(NdjsonFile.getIndexFilePath(filePath));
+        assertEquals(BENSON.getName(), storage.readPerson(BENSON.getName()).get().getName());
+    }
+
+    @Test
+    public void readAddressBook_staleIndex_readLineByLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        AddressBook original = getTypicalAddressBook();
+        new NdjsonAddressBookStorage(filePath).saveAddressBook(original);
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.ndjson");
+        original.removePerson(ALICE);
+        new NdjsonAddressBookStorage(otherFilePath).saveAddressBook(original);
+
+        // data file replaced without its index
+        Files.copy(otherFilePath, filePath, StandardCopyOption.REPLACE_EXISTING);
+        assertEquals(original, new AddressBook(new NdjsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        Files.writeString(filePath, "{\"jobRoles\":[]}\n{\"name\":\"R@chel\"}\n");
+        assertThrows(DataLoadingException.class, () -> new NdjsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingHeader_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.ndjson");
+        Files.writeString(filePath, "");
+        assertThrows(DataLoadingException.class, () -> new NdjsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new NdjsonAddressBookStorage(testFolder.resolve("AddressBook.ndjson")).saveAddressBook(null));
+    }
+}
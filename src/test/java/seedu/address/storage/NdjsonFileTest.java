@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+
+public class NdjsonFileTest {
+
+    /** More records than one byte range, so that the records are read in several ranges. */
+    private static final int RECORD_COUNT = 10000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(openFile(testFolder.resolve("NonExistentFile.ndjson")).read().isPresent());
+    }
+
+    @Test
+    public void writeAndRead_indexed_allInOrder() throws Exception {
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(testFolder.resolve("records.ndjson"));
+        List<JsonAdaptedJobRole> records = createRecords(0, RECORD_COUNT);
+        file.write(new JsonAdaptedJobRole("header"), records);
+
+        assertTrue(file.isIndexed());
+        NdjsonFile.Contents<JsonAdaptedJobRole> contents = file.read().get();
+        assertEquals("\"header\"", contents.header);
+        assertEquals(toNames(records), toNames(contents.records));
+    }
+
+    @Test
+    public void read_missingIndex_readLineByLine() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(filePath);
+        List<JsonAdaptedJobRole> records = createRecords(0, 10);
+        file.write(new JsonAdaptedJobRole("header"), records);
+        Files.delete(NdjsonFile.getIndexFilePath(filePath));
+
+        assertFalse(file.isIndexed());
+        assertEquals(toNames(records), toNames(file.read().get().records));
+        assertEquals("role 3", file.readRecord("role 3").get().getJobRole());
+    }
+
+    @Test
+    public void read_dataFileChangedSinceIndexed_readLineByLine() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(filePath);
+        file.write(new JsonAdaptedJobRole("header"), createRecords(0, 10));
+        Files.writeString(filePath, "\"header\"\n\"edited\"\n");
+
+        assertFalse(file.isIndexed());
+        assertEquals(List.of("edited"), toNames(file.read().get().records));
+    }
+
+    @Test
+    public void append_indexed_recordsAddedWithoutRewritingFile() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(filePath);
+        List<JsonAdaptedJobRole> records = createRecords(0, 10);
+        file.write(new JsonAdaptedJobRole("header"), records);
+        String contentBefore = Files.readString(filePath);
+
+        List<JsonAdaptedJobRole> addedRecords = createRecords(10, 15);
+        file.append(addedRecords);
+        records.addAll(addedRecords);
+
+        assertTrue(Files.readString(filePath).startsWith(contentBefore));
+        assertTrue(file.isIndexed());
+        assertEquals(toNames(records), toNames(file.read().get().records));
+        assertEquals("role 12", file.readRecord("role 12").get().getJobRole());
+    }
+
+    @Test
+    public void append_indexKeptInMemory_recordsOfIndexFileNotReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(filePath);
+        List<JsonAdaptedJobRole> records = createRecords(0, 10);
+        file.write(new JsonAdaptedJobRole("header"), records);
+        // removes the records of the index file, but not the size of the data file in its header
+        Path indexFilePath = NdjsonFile.getIndexFilePath(filePath);
+        Files.write(indexFilePath, Arrays.copyOf(Files.readAllBytes(indexFilePath), 16));
+
+        List<JsonAdaptedJobRole> addedRecords = createRecords(10, 15);
+        file.append(addedRecords);
+        records.addAll(addedRecords);
+
+        assertEquals(toNames(records), toNames(file.read().get().records));
+        assertEquals("role 3", file.readRecord("role 3").get().getJobRole());
+        assertEquals("role 12", file.readRecord("role 12").get().getJobRole());
+    }
+
+    @Test
+    public void read_dataFileRewrittenSinceIndexed_indexReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(filePath);
+        file.write(new JsonAdaptedJobRole("header"), createRecords(0, 10));
+        List<JsonAdaptedJobRole> records = createRecords(20, 23);
+        openFile(filePath).write(new JsonAdaptedJobRole("header"), records);
+
+        assertTrue(file.isIndexed());
+        assertEquals(toNames(records), toNames(file.read().get().records));
+        assertEquals(Optional.empty(), file.readRecord("role 3"));
+        assertEquals("role 21", file.readRecord("role 21").get().getJobRole());
+    }
+
+    @Test
+    public void readRecord_indexed_returnsRecordWithKey() throws Exception {
+        NdjsonFile<JsonAdaptedJobRole> file = openFile(testFolder.resolve("records.ndjson"));
+        file.write(new JsonAdaptedJobRole("header"), createRecords(0, RECORD_COUNT));
+
+        assertEquals("role 9999", file.readRecord("role 9999").get().getJobRole());
+        assertEquals(Optional.empty(), file.readRecord("header"));
+        assertEquals(Optional.empty(), file.readRecord("missing role"));
+    }
+
+    @Test
+    public void read_noHeader_allLinesAreRecords() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        NdjsonFile<JsonAdaptedJobRole> file = new NdjsonFile<>(filePath, JsonAdaptedJobRole.class, false,
+                JsonAdaptedJobRole::getJobRole);
+        List<JsonAdaptedJobRole> records = createRecords(0, 10);
+        file.write(null, records);
+
+        assertNull(file.readHeader());
+        assertEquals(toNames(records), toNames(file.read().get().records));
+        Files.delete(NdjsonFile.getIndexFilePath(filePath));
+        assertEquals(toNames(records), toNames(file.read().get().records));
+    }
+
+    @Test
+    public void read_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("records.ndjson");
+        Files.writeString(filePath, "\"header\"\nnot json\n");
+        assertThrows(DataLoadingException.class, () -> openFile(filePath).read());
+    }
+
+    @Test
+    public void getIndexFilePath() {
+        assertEquals(testFolder.resolve("candidatelist.ndjson.idx"),
+                NdjsonFile.getIndexFilePath(testFolder.resolve("candidatelist.ndjson")));
+    }
+
+    private static NdjsonFile<JsonAdaptedJobRole> openFile(Path filePath) {
+        return new NdjsonFile<>(filePath, JsonAdaptedJobRole.class, true, JsonAdaptedJobRole::getJobRole);
+    }
+
+    private static List<JsonAdaptedJobRole> createRecords(int start, int end) {
+        List<JsonAdaptedJobRole> records = new ArrayList<>();
+        for (int i = start; i < end; i++) {
+            records.add(new JsonAdaptedJobRole("role " + i));
+        }
+        return records;
+    }
+
+    private static List<String> toNames(List<JsonAdaptedJobRole> records) {
+        return records.stream().map(JsonAdaptedJobRole::getJobRole).collect(Collectors.toList());
+    }
+}
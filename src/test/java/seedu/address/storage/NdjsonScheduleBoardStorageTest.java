@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_2;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_3;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.schedule.ScheduleBoard;
+
+public class NdjsonScheduleBoardStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readScheduleBoard_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new NdjsonScheduleBoardStorage(testFolder.resolve("ScheduleBoard.ndjson")).readScheduleBoard(null));
+    }
+
+    @Test
+    public void readScheduleBoard_missingFile_emptyResult() throws Exception {
+        assertFalse(new NdjsonScheduleBoardStorage(testFolder.resolve("NonExistentFile.ndjson"))
+                .readScheduleBoard().isPresent());
+    }
+
+    @Test
+    public void readAndSaveScheduleBoard_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempScheduleBoard.ndjson");
+        ScheduleBoard original = new ScheduleBoard();
+        original.addSchedule(SCHEDULE_1);
+        original.addSchedule(SCHEDULE_2);
+        NdjsonScheduleBoardStorage storage = new NdjsonScheduleBoardStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveScheduleBoard(original);
+        assertEquals(original, new ScheduleBoard(storage.readScheduleBoard().get()));
+
+        // Modify data, save again and read back with a new storage
+        original.removeSchedule(SCHEDULE_1);
+        original.addSchedule(SCHEDULE_3);
+        storage.saveScheduleBoard(original);
+        assertEquals(original, new ScheduleBoard(new NdjsonScheduleBoardStorage(filePath).readScheduleBoard().get()));
+    }
+
+    @Test
+    public void saveScheduleBoard_schedulesAdded_appendedToFile() throws Exception {
+        Path filePath = testFolder.resolve("TempScheduleBoard.ndjson");
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        scheduleBoard.addSchedule(SCHEDULE_1);
+        NdjsonScheduleBoardStorage storage = new NdjsonScheduleBoardStorage(filePath);
+        storage.saveScheduleBoard(scheduleBoard);
+        String contentBefore = Files.readString(filePath);
+
+        scheduleBoard.addSchedule(SCHEDULE_2);
+        storage.saveScheduleBoard(scheduleBoard);
+
+        assertTrue(Files.readString(filePath).startsWith(contentBefore));
+        assertEquals(scheduleBoard,
+                new ScheduleBoard(new NdjsonScheduleBoardStorage(filePath).readScheduleBoard().get()));
+    }
+
+    @Test
+    public void readScheduleBoard_clashingSchedules_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempScheduleBoard.ndjson");
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        scheduleBoard.addSchedule(SCHEDULE_1);
+        new NdjsonScheduleBoardStorage(filePath).saveScheduleBoard(scheduleBoard);
+        String line = Files.readString(filePath);
+        Files.writeString(filePath, line + line);
+
+        assertThrows(DataLoadingException.class, () -> new NdjsonScheduleBoardStorage(filePath).readScheduleBoard());
+    }
+
+    @Test
+    public void saveScheduleBoard_nullScheduleBoard_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new NdjsonScheduleBoardStorage(testFolder.resolve("ScheduleBoard.ndjson")).saveScheduleBoard(null));
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PageFileTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_newFile_emptyPageFile() throws Exception {
+        Path filePath = testFolder.resolve("new").resolve("file.db");
+        try (PageFile file = PageFile.open(filePath, 4)) {
+            assertEquals(PageFile.NO_PAGE, file.getRoot(0));
+            assertThrows(IOException.class, () -> file.getPage(1));
+        }
+        assertEquals(PageFile.PAGE_SIZE, Files.size(filePath));
+    }
+
+    @Test
+    public void open_notPageFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        Files.writeString(filePath, "{\"persons\":[]}");
+        assertThrows(IOException.class, PageFile.MESSAGE_NOT_A_PAGE_FILE, () -> PageFile.open(filePath, 4));
+    }
+
+    @Test
+    public void flush_changedPages_persistedAfterReopen() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        int pageNumber;
+        try (PageFile file = PageFile.open(filePath, 4)) {
+            pageNumber = file.allocatePage();
+            file.getPage(pageNumber).putInt(100, 42);
+            file.setRoot(1, pageNumber);
+            file.flush();
+            assertEquals(1, file.getPageWriteCount());
+        }
+
+        try (PageFile file = PageFile.open(filePath, 4)) {
+            assertEquals(pageNumber, file.getRoot(1));
+            assertEquals(42, file.getPage(pageNumber).getInt(100));
+            assertEquals(1, file.getPageReadCount());
+        }
+    }
+
+    @Test
+    public void openReadOnly_pageFile_pagesRead() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        try (PageFile file = PageFile.open(filePath, 4)) {
+            file.getPage(file.allocatePage()).putInt(100, 42);
+            file.flush();
+        }
+
+        try (PageFile file = PageFile.openReadOnly(filePath, 4)) {
+            assertEquals(42, file.getPage(1).getInt(100));
+        }
+    }
+
+    @Test
+    public void openReadOnly_missingOrEmptyFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        assertThrows(IOException.class, () -> PageFile.openReadOnly(filePath, 4));
+        Files.createFile(filePath);
+        assertThrows(IOException.class, () -> PageFile.openReadOnly(filePath, 4));
+    }
+
+    @Test
+    public void close_withoutFlush_changesDiscarded() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        try (PageFile file = PageFile.open(filePath, 4)) {
+            file.allocatePage();
+        }
+
+        try (PageFile file = PageFile.open(filePath, 4)) {
+            assertThrows(IOException.class, () -> file.getPage(1));
+        }
+    }
+
+    @Test
+    public void writeBlob_largerThanPage_readBack() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        byte[] value = new byte[PageFile.PAGE_SIZE * 3 + 7];
+        new Random(1).nextBytes(value);
+        int firstPageNumber;
+        try (PageFile file = PageFile.open(filePath, 2)) {
+            firstPageNumber = file.writeBlob(value);
+            assertArrayEquals(value, file.readBlob(firstPageNumber, value.length));
+            file.flush();
+        }
+
+        // read through a cache smaller than the blob
+        try (PageFile file = PageFile.open(filePath, 2)) {
+            assertArrayEquals(value, file.readBlob(firstPageNumber, value.length));
+            assertArrayEquals(new byte[0], file.readBlob(file.writeBlob(new byte[0]), 0));
+        }
+    }
+
+    @Test
+    public void freeBlob_pagesReused() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("file.db"), 4)) {
+            int firstPageNumber = file.writeBlob(new byte[PageFile.PAGE_SIZE * 2]);
+            file.flush();
+            long sizeBefore = Files.size(testFolder.resolve("file.db"));
+
+            file.freeBlob(firstPageNumber);
+            file.writeBlob(new byte[PageFile.PAGE_SIZE]);
+            file.flush();
+            assertEquals(sizeBefore, Files.size(testFolder.resolve("file.db")));
+        }
+    }
+
+    @Test
+    public void getPage_cacheFull_evictsLeastRecentlyUsed() throws Exception {
+        Path filePath = testFolder.resolve("file.db");
+        try (PageFile file = PageFile.open(filePath, 2)) {
+            for (int i = 0; i < 3; i++) {
+                file.allocatePage();
+            }
+            file.flush();
+        }
+
+        try (PageFile file = PageFile.open(filePath, 2)) {
+            file.getPage(1);
+            file.getPage(2);
+            file.getPage(1);
+            assertEquals(2, file.getPageReadCount());
+
+            // page 2 is the least recently used, so reading page 3 evicts it
+            file.getPage(3);
+            file.getPage(1);
+            assertEquals(3, file.getPageReadCount());
+            file.getPage(2);
+            assertEquals(4, file.getPageReadCount());
+        }
+    }
+
+    @Test
+    public void flush_changedPages_evictedOnceWritten() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("file.db"), 2)) {
+            for (int i = 0; i < 3; i++) {
+                file.allocatePage();
+            }
+            // changed pages are kept beyond the capacity of the cache until they are written
+            assertTrue(file.isCacheFull());
+            file.getPage(1);
+            assertEquals(0, file.getPageReadCount());
+
+            file.flush();
+            assertFalse(file.isCacheFull());
+            file.getPage(1);
+            assertEquals(1, file.getPageReadCount());
+        }
+    }
+
+    @Test
+    public void getPage_invalidPageNumber_throwsIoException() throws Exception {
+        try (PageFile file = PageFile.open(testFolder.resolve("file.db"), 4)) {
+            file.allocatePage();
+            assertThrows(IOException.class, () -> file.getPage(0));
+            assertThrows(IOException.class, () -> file.getPage(2));
+            assertEquals(PageFile.PAGE_SIZE, file.getPage(1).capacity());
+        }
+    }
+}
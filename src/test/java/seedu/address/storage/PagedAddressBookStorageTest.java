@@ -0,0 +1,242 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PagedAddressBookStorageTest {
+
+    /** More persons than fit in a leaf, so that the persons are kept in several pages. */
+    private static final int PERSON_COUNT = 500;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new PagedAddressBookStorage(testFolder.resolve("AddressBook.db")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new PagedAddressBookStorage(testFolder.resolve("NonExistentFile.db"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook original = getTypicalAddressBook();
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, save again and read back with a new storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(CARL, new PersonBuilder(CARL).withPhone("99999999").build());
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new PagedAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Save to another file
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.db");
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_manyChanges_persistedInOrder() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook addressBook = createAddressBook(PERSON_COUNT);
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        // insert between, remove and edit persons across several saves
+        for (int i = 0; i < 20; i++) {
+            Person person = addressBook.getPersonList().get(i * 20);
+            addressBook.removePerson(person);
+            addressBook.addPerson(new PersonBuilder(person).withName("Added Person " + i).build());
+            Person edited = addressBook.getPersonList().get(i * 10 + 5);
+            addressBook.setPerson(edited, new PersonBuilder(edited).withPhone("9" + i + "999999").build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        assertEquals(addressBook, new AddressBook(new PagedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_moreChangedPagesThanCache_flushedInBatches() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook addressBook = createAddressBook(PERSON_COUNT);
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath, 8);
+        storage.saveAddressBook(addressBook);
+        assertTrue(storage.getPageWriteCount() > 8);
+
+        for (int i = 0; i < PERSON_COUNT; i += 2) {
+            Person person = addressBook.getPersonList().get(i);
+            addressBook.setPerson(person, new PersonBuilder(person).withPhone("9" + i + "999").build());
+        }
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new PagedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personEdited_fewPagesWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        AddressBook addressBook = createAddressBook(PERSON_COUNT);
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        long sizeBefore = Files.size(filePath);
+
+        Person person = addressBook.getPersonList().get(PERSON_COUNT / 2);
+        addressBook.setPerson(person, new PersonBuilder(person).withPhone("99999999").build());
+        int writeCountBefore = storage.getPageWriteCount();
+        storage.saveAddressBook(addressBook);
+        assertTrue(storage.getPageWriteCount() - writeCountBefore <= 4);
+        assertEquals(sizeBefore, Files.size(filePath));
+        assertEquals(addressBook, new AddressBook(new PagedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_remarks_keptInRemarkFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        Path remarkFilePath = RemarkStore.getRemarkFilePath(filePath);
+        String interviewNotes = "Strong in algorithms, weaker in system design. ".repeat(200);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withRemark(interviewNotes).build());
+        addressBook.addPerson(new PersonBuilder(BENSON).withRemark("").build());
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        long remarkFileSize = Files.size(remarkFilePath);
+        assertTrue(remarkFileSize >= interviewNotes.length());
+
+        // an edit that keeps the remark does not append it again
+        Person alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, new PersonBuilder(alice).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(remarkFileSize, Files.size(remarkFilePath));
+
+        // an edited remark is appended
+        alice = addressBook.getPersonList().get(0);
+        addressBook.setPerson(alice, new PersonBuilder(alice).withRemark("Hired").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(remarkFileSize + "Hired".length(), Files.size(remarkFilePath));
+
+        assertEquals(addressBook, new AddressBook(new PagedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_mostRemarksUnreferenced_remarkFileWrittenAgain() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        Path remarkFilePath = RemarkStore.getRemarkFilePath(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withRemark("Notes 0. ".repeat(1000)).build());
+        addressBook.addPerson(new PersonBuilder(BENSON).withRemark("Hired").build());
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+
+        long referencedBytes = Files.size(remarkFilePath);
+        long previousSize = referencedBytes;
+        int edits = 0;
+        // each edit leaves the previous notes in the remark file, until most of the file is no longer referred to
+        while (Files.size(remarkFilePath) >= previousSize) {
+            previousSize = Files.size(remarkFilePath);
+            Person alice = addressBook.getPersonList().get(0);
+            addressBook.setPerson(alice, new PersonBuilder(alice).withRemark(("Notes " + ++edits + ". ").repeat(1000))
+                    .build());
+            storage.saveAddressBook(addressBook);
+        }
+
+        // the file is written again only once it is large
+        assertTrue(previousSize + referencedBytes >= PagedAddressBookStorage.MIN_RECLAIMED_REMARK_FILE_SIZE);
+        assertEquals(referencedBytes, Files.size(remarkFilePath));
+        assertEquals(addressBook, new AddressBook(new PagedAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingRemarkFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        new PagedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.delete(RemarkStore.getRemarkFilePath(filePath));
+        assertThrows(DataLoadingException.class, () -> new PagedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readPerson_personInFile_returnsPerson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        PagedAddressBookStorage newStorage = new PagedAddressBookStorage(filePath);
+        assertEquals(BENSON, newStorage.readPerson(BENSON.getName()).get());
+        assertEquals(BENSON.getName(), newStorage.readPerson(new Name("benson meier")).get().getName());
+        assertFalse(newStorage.readPerson(HOON.getName()).isPresent());
+        assertFalse(newStorage.readPerson(new Name("Benson")).isPresent());
+    }
+
+    @Test
+    public void readPerson_longNamesWithSamePrefix_returnsPerson() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        String prefix = "A".repeat(BPlusTree.MAX_KEY_LENGTH);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder().withName(prefix + " One").build());
+        addressBook.addPerson(new PersonBuilder().withName(prefix + " Two").build());
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        PagedAddressBookStorage storage = new PagedAddressBookStorage(filePath);
+        assertEquals(new Name(prefix + " Two"), storage.readPerson(new Name(prefix + " Two")).get().getName());
+        assertFalse(storage.readPerson(new Name(prefix + " Three")).isPresent());
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_notPageFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        Files.writeString(filePath, "{\"persons\":[]}");
+        assertThrows(DataLoadingException.class, () -> new PagedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingJobRoles_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.db");
+        PageFile.open(filePath, 1).close();
+        assertThrows(DataLoadingException.class, () -> new PagedAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new PagedAddressBookStorage(testFolder.resolve("AddressBook.db")).saveAddressBook(null));
+    }
+
+    private static AddressBook createAddressBook(int personCount) {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        return addressBook;
+    }
+}
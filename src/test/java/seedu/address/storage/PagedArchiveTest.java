@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PagedArchiveTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_pageFile_personsInOrder() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        AddressBook addressBook = getTypicalAddressBook();
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        try (PagedArchive archive = PagedArchive.open(filePath)) {
+            assertEquals(filePath, archive.getFilePath());
+            assertEquals(addressBook.getPersonList().size(), archive.size());
+            for (int i = 0; i < archive.size(); i++) {
+                assertEquals(addressBook.getPersonList().get(i), archive.getPerson(i));
+            }
+        }
+    }
+
+    @Test
+    public void getPerson_recentlyRead_readFromCache() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        try (PagedArchive archive = PagedArchive.open(filePath, 2)) {
+            Person person = archive.getPerson(500);
+            assertEquals(addressBook.getPersonList().get(500), person);
+            archive.getPerson(501);
+            archive.getPerson(500);
+            assertEquals(1, archive.getCacheHitCount());
+
+            // only the two most recently read persons are kept
+            archive.getPerson(999);
+            archive.getPerson(501);
+            assertEquals(1, archive.getCacheHitCount());
+            assertEquals(addressBook.getPersonList().get(999), archive.getPerson(999));
+            assertEquals(2, archive.getCacheHitCount());
+        }
+    }
+
+    @Test
+    public void getPerson_remark_readFromRemarkFile() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        String interviewNotes = "Asked about distributed systems. ".repeat(200);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new PersonBuilder(ALICE).withRemark(interviewNotes).build());
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        try (PagedArchive archive = PagedArchive.open(filePath)) {
+            assertEquals(interviewNotes, archive.getPerson(0).getRemark().value);
+        }
+    }
+
+    @Test
+    public void getPerson_invalidIndex_throwsIndexOutOfBoundsException() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        new PagedAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        try (PagedArchive archive = PagedArchive.open(filePath)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.getPerson(-1));
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.getPerson(archive.size()));
+        }
+    }
+
+    @Test
+    public void getPerson_closed_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        new PagedAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        PagedArchive archive = PagedArchive.open(filePath);
+        archive.close();
+        assertThrows(DataLoadingException.class, () -> archive.getPerson(1));
+    }
+
+    @Test
+    public void open_notPageFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db");
+        Files.writeString(filePath, "{\"persons\":[]}");
+        assertThrows(DataLoadingException.class, () -> PagedArchive.open(filePath));
+
+        Path emptyFilePath = testFolder.resolve("empty.db");
+        Files.createFile(emptyFilePath);
+        assertThrows(DataLoadingException.class, () -> PagedArchive.open(emptyFilePath));
+    }
+}
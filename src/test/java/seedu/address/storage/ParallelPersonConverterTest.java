@@ -0,0 +1,83 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int PERSON_COUNT = 5000;
+
+    private final List<Person> persons = getPersons();
+
+    @Test
+    public void toModelTypes_validPersons_sameOrder() throws Exception {
+        assertEquals(persons, ParallelPersonConverter.toModelTypes(adapt(persons), person -> false));
+    }
+
+    @Test
+    public void toModelTypes_duplicateNamesInDifferentCase_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(persons);
+        adaptedPersons.set(PERSON_COUNT - 1, new JsonAdaptedPerson(new PersonBuilder(ALICE)
+                .withName(persons.get(0).getName().fullName.toUpperCase()).build()));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.toModelTypes(adaptedPersons, person -> false));
+    }
+
+    @Test
+    public void toModelTypes_invalidPersonBeforeDuplicate_throwsInvalidPersonMessage() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(persons);
+        adaptedPersons.set(10, getInvalidPerson());
+        adaptedPersons.set(PERSON_COUNT - 1, new JsonAdaptedPerson(persons.get(0)));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                ParallelPersonConverter.toModelTypes(adaptedPersons, person -> false));
+    }
+
+    @Test
+    public void toModelTypes_duplicateBeforeInvalidPerson_throwsDuplicatePersonMessage() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(persons);
+        adaptedPersons.set(10, new JsonAdaptedPerson(persons.get(0)));
+        adaptedPersons.set(PERSON_COUNT - 1, getInvalidPerson());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.toModelTypes(adaptedPersons, person -> false));
+    }
+
+    @Test
+    public void toModelTypes_existingPerson_throwsIllegalValueException() {
+        Person existingPerson = persons.get(PERSON_COUNT / 2);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                ParallelPersonConverter.toModelTypes(adapt(persons), existingPerson::isSamePerson));
+    }
+
+    private static List<Person> getPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            persons.add(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static JsonAdaptedPerson getInvalidPerson() {
+        return new JsonAdaptedPerson("@@@", ALICE.getPhone().value, ALICE.getEmail().value,
+                ALICE.getAddress().value, new ArrayList<>(), ALICE.getLabel().value, ALICE.getRemark().value,
+                new ArrayList<>());
+    }
+}
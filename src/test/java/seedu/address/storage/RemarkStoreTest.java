@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RemarkStoreTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getRemarkFilePath_pageFile_besidePageFile() {
+        assertEquals(Path.of("data", "candidates.db.remarks"),
+                RemarkStore.getRemarkFilePath(Path.of("data", "candidates.db")));
+    }
+
+    @Test
+    public void append_remarks_readBackAfterReopen() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db.remarks");
+        String longRemark = "Interview notes. ".repeat(1000);
+        RemarkStore.Reference first;
+        RemarkStore.Reference second;
+        try (RemarkStore store = RemarkStore.open(filePath)) {
+            first = store.append("Caf\u00e9 owner");
+            second = store.append(longRemark);
+            store.force();
+            assertEquals("Caf\u00e9 owner", store.read(first));
+        }
+        assertEquals(first.length + second.length, Files.size(filePath));
+
+        try (RemarkStore store = RemarkStore.open(filePath)) {
+            assertEquals(longRemark, store.read(second));
+            assertEquals("Caf\u00e9 owner", store.read(first));
+
+            // appended after the remarks already in the file
+            RemarkStore.Reference third = store.append("Third");
+            assertEquals(first.length + second.length, third.offset);
+        }
+    }
+
+    @Test
+    public void append_emptyRemark_notWritten() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db.remarks");
+        try (RemarkStore store = RemarkStore.open(filePath)) {
+            assertSame(RemarkStore.Reference.EMPTY, store.append(""));
+            assertEquals("", store.read(RemarkStore.Reference.EMPTY));
+        }
+        assertEquals(0, Files.size(filePath));
+    }
+
+    @Test
+    public void read_cachedRemark_notReadAgain() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db.remarks");
+        try (RemarkStore store = RemarkStore.open(filePath, 4)) {
+            RemarkStore.Reference reference = store.append("Remark");
+            String remark = store.read(reference);
+            assertSame(remark, store.read(reference));
+        }
+    }
+
+    @Test
+    public void readAll_referencedRemarks_readInGivenOrder() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db.remarks");
+        String longRemark = "Interview notes. ".repeat(10000);
+        try (RemarkStore store = RemarkStore.open(filePath)) {
+            RemarkStore.Reference first = store.append("Caf\u00e9 owner");
+            store.append("No longer referred to");
+            RemarkStore.Reference second = store.append("Second");
+            RemarkStore.Reference third = store.append(longRemark);
+            RemarkStore.Reference fourth = store.append("Fourth");
+
+            // shared, out of order and longer than a read of the file
+            assertArrayEquals(new String[] {"Fourth", "Second", "", longRemark, "Caf\u00e9 owner", "Second"},
+                    store.readAll(List.of(fourth, second, RemarkStore.Reference.EMPTY, third, first, second)));
+            assertArrayEquals(new String[0], store.readAll(List.of()));
+            assertThrows(IOException.class, RemarkStore.MESSAGE_INVALID_REFERENCE, () ->
+                    store.readAll(List.of(first, new RemarkStore.Reference(fourth.offset, fourth.length + 1))));
+        }
+    }
+
+    @Test
+    public void read_invalidReference_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("candidates.db.remarks");
+        try (RemarkStore store = RemarkStore.open(filePath)) {
+            store.append("Remark");
+            assertThrows(IOException.class, RemarkStore.MESSAGE_INVALID_REFERENCE, () ->
+                    store.read(new RemarkStore.Reference(2, 10)));
+        }
+    }
+
+    @Test
+    public void openReadOnly_missingFile_onlyEmptyRemarks() throws Exception {
+        try (RemarkStore store = RemarkStore.openReadOnly(testFolder.resolve("missing.remarks"))) {
+            assertEquals("", store.read(RemarkStore.Reference.EMPTY));
+            assertThrows(IOException.class, () -> store.read(new RemarkStore.Reference(0, 1)));
+        }
+    }
+
+    @Test
+    public void reference_encoded_decodedToSameReference() {
+        ByteBuffer buffer = ByteBuffer.allocate(RemarkStore.Reference.ENCODED_LENGTH);
+        new RemarkStore.Reference(1L << 40, 123).encode(buffer);
+        buffer.flip();
+        RemarkStore.Reference reference = RemarkStore.Reference.decode(buffer);
+        assertEquals(1L << 40, reference.offset);
+        assertEquals(123, reference.length);
+    }
+}
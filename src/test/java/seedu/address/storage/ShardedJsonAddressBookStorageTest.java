@@ -0,0 +1,206 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedJsonAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedJsonAddressBookStorage(testFolder.resolve("AddressBook.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new ShardedJsonAddressBookStorage(testFolder.resolve("NonExistentFile.json"))
+                .readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Modify data, save again and read back with a new storage
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new ShardedJsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // Save to another file
+        Path otherFilePath = testFolder.resolve("OtherAddressBook.json");
+        original.addPerson(IDA);
+        storage.saveAddressBook(original, otherFilePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherFilePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_onlyItsShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardsBefore = getShardFileNames(filePath);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardsAfter = getShardFileNames(filePath);
+
+        Set<String> removedShards = new HashSet<>(shardsBefore);
+        removedShards.removeAll(shardsAfter);
+        Set<String> addedShards = new HashSet<>(shardsAfter);
+        addedShards.removeAll(shardsBefore);
+        assertEquals(1, removedShards.size());
+        assertEquals(1, addedShards.size());
+        assertEquals(addressBook, new AddressBook(new ShardedJsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personAddedAndEdited_orderKeptInShards() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        Set<String> shardsBefore = getShardFileNames(filePath);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Set<String> addedShards = new HashSet<>(getShardFileNames(filePath));
+        addedShards.removeAll(shardsBefore);
+        assertEquals(1, addedShards.size());
+        assertFalse(Files.readString(filePath).contains(ALICE.getName().fullName));
+
+        addressBook.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(new ShardedJsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAfterRead_noShardWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedJsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Set<String> shardsBefore = getShardFileNames(filePath);
+        String manifestBefore = Files.readString(filePath);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(storage.readAddressBook().get());
+        assertEquals(shardsBefore, getShardFileNames(filePath));
+        assertEquals(manifestBefore, Files.readString(filePath));
+    }
+
+    @Test
+    public void readAddressBook_unshardedFile_shardedWhenSaved() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        storage.saveAddressBook(original);
+        assertEquals(ShardedJsonAddressBookStorage.shardCountFor(original.getPersonList().size()),
+                getShardFileNames(filePath).size());
+        assertEquals(original, new AddressBook(new ShardedJsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void shardCountFor_personCount_growsWithPersons() {
+        int perShard = ShardedJsonAddressBookStorage.PERSONS_PER_SHARD;
+        int minShardCount = ShardedJsonAddressBookStorage.MIN_SHARD_COUNT;
+        assertEquals(minShardCount, ShardedJsonAddressBookStorage.shardCountFor(0));
+        assertEquals(minShardCount, ShardedJsonAddressBookStorage.shardCountFor(minShardCount * perShard));
+        assertEquals(2 * minShardCount, ShardedJsonAddressBookStorage.shardCountFor(minShardCount * perShard + 1));
+        assertEquals(ShardedJsonAddressBookStorage.MAX_SHARD_COUNT,
+                ShardedJsonAddressBookStorage.shardCountFor(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void saveAddressBook_personsPastThreshold_resharded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook addressBook = getTypicalAddressBook();
+        ShardedJsonAddressBookStorage storage = new ShardedJsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        int shardCount = getShardFileNames(filePath).size();
+
+        // no resharding below the threshold
+        int threshold = shardCount * ShardedJsonAddressBookStorage.PERSONS_PER_SHARD;
+        int i = 0;
+        while (addressBook.getPersonList().size() < threshold) {
+            addressBook.addPerson(new PersonBuilder().withName("Person " + i++).build());
+        }
+        storage.saveAddressBook(addressBook);
+        assertEquals(shardCount, getShardFileNames(filePath).size());
+
+        addressBook.addPerson(new PersonBuilder().withName("Person " + i).build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(2 * shardCount, getShardFileNames(filePath).size());
+        assertEquals(addressBook, new AddressBook(new ShardedJsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // shrinking a little keeps the shards
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        storage.saveAddressBook(addressBook);
+        assertEquals(2 * shardCount, getShardFileNames(filePath).size());
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new ShardedJsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Path shardDirectoryPath = ShardedJsonAddressBookStorage.getShardDirectoryPath(filePath);
+        Files.delete(shardDirectoryPath.resolve(getShardFileNames(filePath).iterator().next()));
+
+        assertThrows(DataLoadingException.class, () -> new ShardedJsonAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new ShardedJsonAddressBookStorage(testFolder.resolve("AddressBook.json")).saveAddressBook(null));
+    }
+
+    @Test
+    public void getShardDirectoryPath() {
+        assertEquals(testFolder.resolve("candidatelist-shards"),
+                ShardedJsonAddressBookStorage.getShardDirectoryPath(testFolder.resolve("candidatelist.json")));
+    }
+
+    private static Set<String> getShardFileNames(Path filePath) throws IOException {
+        try (Stream<Path> files = Files.list(ShardedJsonAddressBookStorage.getShardDirectoryPath(filePath))) {
+            Set<String> fileNames = files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+            assertTrue(fileNames.stream().allMatch(fileName -> fileName.startsWith("shard-")));
+            return fileNames;
+        }
+    }
+}
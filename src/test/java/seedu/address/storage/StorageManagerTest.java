@@ -1,10 +1,17 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,8 +20,11 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.Theme;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.WriteStatistics.Component;
 
 public class StorageManagerTest {
 
@@ -62,6 +72,113 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveSnapshots_savedData_snapshotWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        assertFalse(Files.exists(BinarySnapshotStorage.getSnapshotFilePath(getTempFilePath("ab"))));
+
+        storageManager.saveSnapshots(original, new ScheduleBoard());
+        assertTrue(Files.exists(BinarySnapshotStorage.getSnapshotFilePath(getTempFilePath("ab"))));
+        assertFalse(Files.exists(BinarySnapshotStorage.getSnapshotFilePath(getTempFilePath("sb"))));
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incrementalStorage_snapshotNotWritten() throws Exception {
+        Path filePath = getTempFilePath("ab.ndjson");
+        StorageManager ndjsonStorageManager = new StorageManager(new NdjsonAddressBookStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new JsonScheduleBoardStorage(getTempFilePath("sb")));
+        AddressBook original = getTypicalAddressBook();
+        ndjsonStorageManager.saveAddressBook(original);
+        ndjsonStorageManager.saveSnapshots(original, new ScheduleBoard());
+
+        assertEquals(original, new AddressBook(ndjsonStorageManager.readAddressBook().get()));
+        assertFalse(Files.exists(BinarySnapshotStorage.getSnapshotFilePath(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_fileChangedAfterSave_readFromFile() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        AddressBook changed = new AddressBook();
+        storageManager.saveAddressBook(changed, getTempFilePath("ab"));
+
+        assertEquals(changed, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChanges_fewChanges_appendedToJournal() throws Exception {
+        List<ModelChange> changes = List.of(ModelChange.addPerson(ALICE), ModelChange.addSchedule(SCHEDULE_1));
+        storageManager.saveChanges(changes, getTypicalAddressBook(), new ScheduleBoard());
+
+        assertEquals(changes, storageManager.readJournal());
+        assertFalse(storageManager.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveChanges_changeRequiresSnapshot_journalCompacted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveChanges(List.of(ModelChange.addPerson(ALICE)), addressBook, new ScheduleBoard());
+        storageManager.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, new ScheduleBoard());
+
+        assertTrue(storageManager.readJournal().isEmpty());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+        assertEquals(new ScheduleBoard(), new ScheduleBoard(storageManager.readScheduleBoard().get()));
+    }
+
+    @Test
+    public void saveChanges_journalFull_journalCompacted() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        List<ModelChange> changes = Collections.nCopies(StorageManager.COMPACTION_THRESHOLD,
+                ModelChange.addPerson(ALICE));
+        storageManager.saveChanges(changes, addressBook, new ScheduleBoard());
+        assertEquals(StorageManager.COMPACTION_THRESHOLD, storageManager.readJournal().size());
+
+        storageManager.saveChanges(List.of(ModelChange.addPerson(ALICE)), addressBook, new ScheduleBoard());
+        assertTrue(storageManager.readJournal().isEmpty());
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_writeSkipped() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(1, storageManager.getWriteStatistics().getPerformedWrites(Component.ADDRESS_BOOK));
+        assertEquals(1, storageManager.getWriteStatistics().getSkippedWrites(Component.ADDRESS_BOOK));
+
+        addressBook.removePerson(ALICE);
+        storageManager.saveAddressBook(addressBook);
+        assertEquals(2, storageManager.getWriteStatistics().getPerformedWrites(Component.ADDRESS_BOOK));
+        assertEquals(addressBook, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveUserPrefs_unchangedUserPrefs_writeSkipped() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        storageManager.saveUserPrefs(userPrefs);
+        storageManager.saveUserPrefs(userPrefs);
+        userPrefs.setTheme(Theme.DARK);
+        storageManager.saveUserPrefs(userPrefs);
+
+        assertEquals(2, storageManager.getWriteStatistics().getPerformedWrites(Component.USER_PREFS));
+        assertEquals(1, storageManager.getWriteStatistics().getSkippedWrites(Component.USER_PREFS));
+    }
+
+    @Test
+    public void compact_unchangedScheduleBoard_onlyAddressBookWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        storageManager.compact(addressBook, scheduleBoard);
+        addressBook.removePerson(ALICE);
+        storageManager.compact(addressBook, scheduleBoard);
+
+        assertEquals(2, storageManager.getWriteStatistics().getPerformedWrites(Component.ADDRESS_BOOK));
+        assertEquals(1, storageManager.getWriteStatistics().getPerformedWrites(Component.SCHEDULE_BOARD));
+        assertEquals(1, storageManager.getWriteStatistics().getSkippedWrites(Component.SCHEDULE_BOARD));
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,222 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalSchedules.SCHEDULE_1;
+import static seedu.address.testutil.TypicalSchedules.getTypicalScheduleBoard;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.JobRole;
+import seedu.address.model.person.Person;
+import seedu.address.model.schedule.ReadOnlyScheduleBoard;
+import seedu.address.model.schedule.ScheduleBoard;
+import seedu.address.storage.WriteStatistics.Component;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BlockingStorageManager storageManager;
+    private WriteBehindStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = new BlockingStorageManager(testFolder);
+        storage = new WriteBehindStorage(storageManager);
+    }
+
+    @Test
+    public void compact_thenFlush_dataWritten() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ScheduleBoard scheduleBoard = getTypicalScheduleBoard();
+        storage.compact(addressBook, scheduleBoard);
+        storage.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(scheduleBoard, new ScheduleBoard(storage.readScheduleBoard().get()));
+    }
+
+    @Test
+    public void saveChanges_dataModifiedAfterSave_snapshotWritten() throws Exception {
+        storageManager.blockNextSave();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.compact(addressBook, new ScheduleBoard());
+        storageManager.awaitBlockedSave();
+
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storageManager.releaseBlockedSave();
+        storage.flush();
+
+        assertEquals(expectedAddressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveChanges_savesDuringWrite_coalescedIntoOneWrite() throws Exception {
+        storageManager.blockNextSave();
+        AddressBook addressBook = new AddressBook();
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        storage.saveChanges(List.of(ModelChange.addPerson(ALICE)), addressBook, scheduleBoard);
+        storageManager.awaitBlockedSave();
+
+        storage.saveChanges(List.of(ModelChange.addPerson(BENSON)), addressBook, scheduleBoard);
+        storage.saveChanges(List.of(ModelChange.addSchedule(SCHEDULE_1)), addressBook, scheduleBoard);
+        storageManager.releaseBlockedSave();
+        storage.flush();
+
+        assertEquals(List.of(List.of(ModelChange.addPerson(ALICE)),
+                List.of(ModelChange.addPerson(BENSON), ModelChange.addSchedule(SCHEDULE_1))),
+                storageManager.savedChanges);
+        assertEquals(List.of(ModelChange.addPerson(ALICE), ModelChange.addPerson(BENSON),
+                ModelChange.addSchedule(SCHEDULE_1)), storage.readJournal());
+    }
+
+    @Test
+    public void saveChanges_writeFails_failureHandlerCalled() {
+        IOException failure = new IOException("disk full");
+        storageManager.failure = failure;
+        AtomicReference<IOException> reportedFailure = new AtomicReference<>();
+        storage.setSaveFailureHandler(reportedFailure::set);
+
+        storage.saveChanges(List.of(ModelChange.addPerson(ALICE)), new AddressBook(), new ScheduleBoard());
+        storage.flush();
+
+        assertSame(failure, reportedFailure.get());
+    }
+
+    @Test
+    public void saveChanges_changesAppended_dataNotCopied() {
+        CountingAddressBook addressBook = new CountingAddressBook();
+        storage.saveChanges(List.of(ModelChange.addPerson(ALICE)), addressBook, new ScheduleBoard());
+        storage.flush();
+
+        assertEquals(0, addressBook.personListReadCount);
+        assertEquals(List.of(List.of(ModelChange.addPerson(ALICE))), storageManager.savedChanges);
+    }
+
+    @Test
+    public void saveChanges_changeRequiresSnapshot_dataSavedInFull() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveChanges(List.of(ModelChange.resetAddressBook()), addressBook, new ScheduleBoard());
+        storage.flush();
+
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertTrue(storage.readJournal().isEmpty());
+    }
+
+    @Test
+    public void saveChanges_noChangesToUnchangedData_skipped() {
+        AddressBook addressBook = new AddressBook();
+        ScheduleBoard scheduleBoard = new ScheduleBoard();
+        storage.saveChanges(List.of(ModelChange.addPerson(ALICE)), addressBook, scheduleBoard);
+        storage.saveChanges(List.of(), addressBook, scheduleBoard);
+        storage.flush();
+
+        assertEquals(1, storage.getWriteStatistics().getSkippedWrites(Component.JOURNAL));
+        assertEquals(List.of(List.of(ModelChange.addPerson(ALICE))), storageManager.savedChanges);
+    }
+
+    /**
+     * An address book that counts the reads of its persons.
+     */
+    private static class CountingAddressBook implements ReadOnlyAddressBook {
+        private final AddressBook addressBook = new AddressBook();
+        private int personListReadCount = 0;
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            personListReadCount++;
+            return addressBook.getPersonList();
+        }
+
+        @Override
+        public ObservableList<JobRole> getJobRoleList() {
+            return addressBook.getJobRoleList();
+        }
+
+        @Override
+        public Map<JobRole, Long> getJobApplicantStatistics() {
+            return addressBook.getJobApplicantStatistics();
+        }
+
+        @Override
+        public long getVersion() {
+            return addressBook.getVersion();
+        }
+    }
+
+    /**
+     * A {@code StorageManager} that records the changes it appends to the journal, and can be made to block or fail
+     * its next save.
+     */
+    private static class BlockingStorageManager extends StorageManager {
+        private final List<List<ModelChange>> savedChanges = new ArrayList<>();
+        private CountDownLatch saveStarted = new CountDownLatch(0);
+        private CountDownLatch saveReleased = new CountDownLatch(0);
+        private IOException failure;
+
+        BlockingStorageManager(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("ab")), new JsonUserPrefsStorage(folder.resolve("prefs")),
+                    new JsonScheduleBoardStorage(folder.resolve("sb")));
+        }
+
+        void blockNextSave() {
+            saveStarted = new CountDownLatch(1);
+            saveReleased = new CountDownLatch(1);
+        }
+
+        void awaitBlockedSave() throws InterruptedException {
+            saveStarted.await();
+        }
+
+        void releaseBlockedSave() {
+            saveReleased.countDown();
+        }
+
+        @Override
+        public void appendChanges(List<ModelChange> changes) throws IOException {
+            block();
+            savedChanges.add(changes);
+            super.appendChanges(changes);
+        }
+
+        @Override
+        public void compact(ReadOnlyAddressBook addressBook, ReadOnlyScheduleBoard scheduleBoard)
+                throws IOException {
+            block();
+            super.compact(addressBook, scheduleBoard);
+        }
+
+        private void block() throws IOException {
+            saveStarted.countDown();
+            try {
+                saveReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+}